@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures persisting and flushing {@code entities} new entities with JDBC batching
+ * ({@link org.hibernate.engine.jdbc.batch.internal.BatchImpl}) at various batch sizes.
+ * A batch size of {@code 1} disables batching.  The transaction is rolled back, so the
+ * same identifiers can be reused by every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchInsertBenchmark {
+
+	@Param({ "1", "20", "100" })
+	private int batchSize;
+
+	@Param({ "1000" })
+	private int entities;
+
+	private BenchmarkEnvironment environment;
+
+	@Setup
+	public void setUp() {
+		environment = new BenchmarkEnvironment(
+				Map.of(
+						AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ),
+						AvailableSettings.ORDER_INSERTS, "true"
+				)
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			session.getTransaction().begin();
+			try {
+				for ( long id = 1; id <= entities; id++ ) {
+					session.persist( new Book( id ) );
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Builds the {@link SessionFactory} used by the benchmarks, backed by an in-process H2
+ * database.  Each environment gets its own database, so that benchmarks running in the
+ * same JVM do not see each other's data.
+ */
+public final class BenchmarkEnvironment implements AutoCloseable {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private final StandardServiceRegistry serviceRegistry;
+	private final SessionFactoryImplementor sessionFactory;
+
+	public BenchmarkEnvironment(Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "false" );
+		registryBuilder.applySettings( settings );
+		serviceRegistry = registryBuilder.build();
+		try {
+			sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	public BenchmarkEnvironment() {
+		this( Map.of() );
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	/**
+	 * Inserts {@code count} books with identifiers {@code 1..count}.
+	 */
+	public void populate(int count) {
+		sessionFactory.inTransaction( session -> {
+			for ( long id = 1; id <= count; id++ ) {
+				session.persist( new Book( id ) );
+				if ( id % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+
+	@Override
+	public void close() {
+		try {
+			sessionFactory.close();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+}
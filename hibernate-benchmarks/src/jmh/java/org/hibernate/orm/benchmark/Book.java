@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The entity used by all benchmarks: a handful of basic attributes of common types,
+ * so that hydration and dirty checking do a representative amount of work per row.
+ */
+@Entity(name = "Book")
+@Table(name = "book")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private String isbn;
+	private String author;
+	private int pages;
+	private BigDecimal price;
+	private LocalDate published;
+	private boolean available;
+
+	public Book() {
+	}
+
+	public Book(Long id) {
+		this.id = id;
+		this.title = "Title #" + id;
+		this.isbn = "978-" + ( 1_000_000_000L + id );
+		this.author = "Author #" + ( id % 100 );
+		this.pages = 100 + (int) ( id % 900 );
+		this.price = BigDecimal.valueOf( 1000 + id % 5000, 2 );
+		this.published = LocalDate.of( 1970, 1, 1 ).plusDays( id % 20_000 );
+		this.available = id % 3 != 0;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public void setPages(int pages) {
+		this.pages = pages;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+}
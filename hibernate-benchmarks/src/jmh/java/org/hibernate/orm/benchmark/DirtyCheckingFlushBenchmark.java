@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a flush of a persistence context holding {@code entities} managed entities,
+ * of which {@code dirtyPercentage} percent have been modified.  Loading happens outside
+ * of the measured region, and the transaction is rolled back so every invocation sees
+ * the same data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyCheckingFlushBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int entities;
+
+	@Param({ "0", "10" })
+	private int dirtyPercentage;
+
+	private BenchmarkEnvironment environment;
+
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		environment = new BenchmarkEnvironment();
+		environment.populate( entities );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		environment.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		session = environment.getSessionFactory().openSession();
+		session.getTransaction().begin();
+		final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		if ( dirtyPercentage > 0 ) {
+			final int step = 100 / dirtyPercentage;
+			for ( int i = 0; i < books.size(); i += step ) {
+				final Book book = books.get( i );
+				book.setPages( book.getPages() + 1 );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDownInvocation() {
+		try {
+			session.getTransaction().rollback();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the individual stages of turning an HQL string into SQL, bypassing the
+ * query plan cache: parsing into an SQM tree, translating the SQM tree into a SQL AST,
+ * and rendering the SQL AST into a SQL string.  The queries use literals rather than
+ * parameters, so that no parameter bindings are needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlTranslationBenchmark {
+
+	@Param({
+			"select b from Book b where b.id = 1",
+			"select b.author, count(b), max(b.price) from Book b where b.available = true and b.pages > 100 group by b.author order by 2 desc"
+	})
+	private String hql;
+
+	private BenchmarkEnvironment environment;
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+
+	private SqmSelectStatement<?> sqm;
+	private SelectStatement sqlAst;
+
+	@Setup
+	public void setUp() {
+		environment = new BenchmarkEnvironment();
+		sessionFactory = environment.getSessionFactory();
+		queryEngine = sessionFactory.getQueryEngine();
+		sqm = parse();
+		sqlAst = translate();
+	}
+
+	@TearDown
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public SqmSelectStatement<?> parse() {
+		return (SqmSelectStatement<?>) queryEngine.getHqlTranslator().translate( hql, null );
+	}
+
+	@Benchmark
+	public SelectStatement translate() {
+		return queryEngine.getSqmTranslatorFactory()
+				.createSelectTranslator(
+						sqm,
+						QueryOptions.NONE,
+						DomainParameterXref.from( sqm ),
+						QueryParameterBindings.NO_PARAM_BINDINGS,
+						new LoadQueryInfluencers( sessionFactory ),
+						sessionFactory,
+						true
+				)
+				.translate()
+				.getSqlAst();
+	}
+
+	@Benchmark
+	public String render() {
+		return sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE )
+				.getSqlString();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of turning JDBC rows into managed entities, read-only entities
+ * and scalar tuples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowHydrationBenchmark {
+
+	@Param({ "100", "1000" })
+	private int rows;
+
+	private BenchmarkEnvironment environment;
+
+	@Setup
+	public void setUp() {
+		environment = new BenchmarkEnvironment();
+		environment.populate( rows );
+	}
+
+	@TearDown
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public List<Book> managedEntities() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class )
+					.setReadOnly( true )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "select b.id, b.title, b.price, b.published from Book b", Object[].class )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures second-level cache reads and writes of entity data through the
+ * {@link org.hibernate.cache.spi.support.DomainDataRegionImpl} built by the in-memory
+ * {@link CachingRegionFactory}, including the (de)structuring of the cache entries.
+ * <p>
+ * Writes evict the key first: a read-write cache refuses to overwrite an entry put
+ * after the transaction started, which would otherwise turn every write into a no-op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecondLevelCacheBenchmark {
+
+	@Param({ "1000" })
+	private int entries;
+
+	private BenchmarkEnvironment environment;
+	private SessionFactoryImplementor sessionFactory;
+	private EntityPersister persister;
+	private EntityDataAccess cacheAccess;
+	private SessionImplementor session;
+
+	private Object[] keys;
+	private Book[] books;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		environment = new BenchmarkEnvironment(
+				Map.of(
+						AvailableSettings.USE_SECOND_LEVEL_CACHE, "true",
+						AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName()
+				)
+		);
+		sessionFactory = environment.getSessionFactory();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		cacheAccess = persister.getCacheAccessStrategy();
+
+		keys = new Object[entries];
+		books = new Book[entries];
+
+		try ( SessionImplementor populatingSession = (SessionImplementor) sessionFactory.openSession() ) {
+			for ( int i = 0; i < entries; i++ ) {
+				final Book book = new Book( (long) i );
+				books[i] = book;
+				keys[i] = cacheAccess.generateCacheKey( book.getId(), persister, sessionFactory, null );
+				cacheAccess.putFromLoad( populatingSession, keys[i], structure( book, populatingSession ), null );
+			}
+		}
+
+		// opened after populating, so that the entries are readable
+		session = (SessionImplementor) sessionFactory.openSession();
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		environment.close();
+	}
+
+	private Object structure(Book book, SessionImplementor session) {
+		final CacheEntry entry = persister.buildCacheEntry( book, persister.getValues( book ), null, session );
+		return persister.getCacheEntryStructure().structure( entry );
+	}
+
+	private int nextIndex() {
+		final int index = next;
+		next = index + 1 == entries ? 0 : index + 1;
+		return index;
+	}
+
+	@Benchmark
+	public Object get() {
+		final Object cached = cacheAccess.get( session, keys[nextIndex()] );
+		return persister.getCacheEntryStructure().destructure( cached, sessionFactory );
+	}
+
+	@Benchmark
+	public boolean put() {
+		final int index = nextIndex();
+		final Object key = keys[index];
+		cacheAccess.evict( key );
+		return cacheAccess.putFromLoad( session, key, structure( books[index], session ), null );
+	}
+
+	@Benchmark
+	public Object generateKey() {
+		return cacheAccess.generateCacheKey( books[nextIndex()].getId(), persister, sessionFactory, null );
+	}
+}
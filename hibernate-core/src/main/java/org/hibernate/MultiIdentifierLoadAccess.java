@@ -57,6 +57,32 @@ public interface MultiIdentifierLoadAccess<T> {
 	 */
 	MultiIdentifierLoadAccess<T> withBatchSize(int batchSize);
 
+	/**
+	 * Specify the number of batches which may be loaded concurrently, each on its own
+	 * connection and in its own session, before the entities are associated with this
+	 * {@link Session}.  The default is to load the batches one after the other, on the
+	 * connection of this {@code Session}.
+	 * <p>
+	 * Since the batches are not loaded on the connection of this {@code Session}, they
+	 * don't see the changes which have not been committed by its current transaction:
+	 * this is only appropriate when loading entities which are not being modified, for
+	 * example to warm up the second-level cache.  The batches are loaded one after the
+	 * other, on the connection of this {@code Session}, when a lock is requested, or when
+	 * filters, fetch profiles or an entity graph apply to the load.
+	 * <p>
+	 * The other sessions share the {@link Interceptor} of this {@code Session}, and its
+	 * {@linkplain Session#isDefaultReadOnly() read-only default}.  Across all the sessions
+	 * of the {@link SessionFactory}, no more batches are loaded concurrently than allowed by
+	 * {@link org.hibernate.cfg.AvailableSettings#MULTI_LOAD_MAX_PARALLELISM}.
+	 *
+	 * @param parallelism The maximum number of batches loaded concurrently
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 6.2
+	 */
+	MultiIdentifierLoadAccess<T> withParallelism(int parallelism);
+
 	/**
 	 * Specify whether we should check the {@link Session} to see whether the first-level cache already contains any of the
 	 * entities to be loaded in a managed state <b>for the purpose of not including those
@@ -44,6 +44,48 @@ public interface SessionEventListener extends Serializable {
 	default void jdbcExecuteBatchStart() {}
 	default void jdbcExecuteBatchEnd() {}
 
+	/**
+	 * Called for each JDBC batch sent to the database, with the
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey#toLoggableString() key}
+	 * of the batch and the number of rows it contains.
+	 */
+	default void jdbcBatchExecution(String batchKey, int batchSize) {}
+
+	/**
+	 * Called around the interpretation of HQL into an SQM tree, with the HQL and
+	 * whether the interpretation was found in the query plan cache.
+	 */
+	default void queryInterpretationStart(String queryString) {}
+	default void queryInterpretationEnd(boolean cacheHit) {}
+
+	/**
+	 * Called around the translation of an SQM tree into an SQL AST.
+	 */
+	default void sqlAstTranslationStart() {}
+	default void sqlAstTranslationEnd() {}
+
+	/**
+	 * Called around the rendering of an SQL AST into SQL.
+	 */
+	default void sqlRenderingStart() {}
+	default void sqlRenderingEnd() {}
+
+	/**
+	 * Called around the execution of a query, with its HQL or native SQL.
+	 * The JDBC statement executions and the result set processing notified
+	 * in between belong to that query.
+	 */
+	default void queryExecutionStart(String queryIdentifier) {}
+	default void queryExecutionEnd(String queryIdentifier) {}
+
+	/**
+	 * Called around the processing of the results of a query, with the number of
+	 * rows hydrated, or {@code -1} when the results are consumed lazily or their
+	 * processing failed.
+	 */
+	default void resultSetProcessingStart() {}
+	default void resultSetProcessingEnd(int rowCount) {}
+
 	default void cachePutStart() {}
 	default void cachePutEnd() {}
 
@@ -35,15 +35,19 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
+				final ArchiveContext context = new ArchiveContextImpl( false, collector, ArchiveIndex.locate( url ) );
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
 				descriptor.visitArchive( context );
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
+			final ArchiveContext context = new ArchiveContextImpl(
+					true,
+					collector,
+					ArchiveIndex.locate( environment.getRootUrl() )
+			);
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
 		}
@@ -113,9 +117,16 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		public ArchiveContextImpl(
+				boolean isRootUrl,
+				ScanResultCollector scanResultCollector,
+				ArchiveIndex archiveIndex) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, archiveIndex );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
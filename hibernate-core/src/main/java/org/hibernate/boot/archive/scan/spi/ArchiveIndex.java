@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.spi;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.NoopEntryHandler;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The categorization of all the class files of an archive, computed at build time so
+ * that scanning the archive at runtime does not need to read and index each class file.
+ * <p>
+ * The index is stored in the archive itself, as {@value #INDEX_FILE_NAME}, and is used
+ * automatically by the {@link Scanner} implementations based on {@link AbstractScannerImpl}
+ * when present.  Class files missing from the index are still read, but the index must be
+ * regenerated whenever the mapping annotations of indexed classes change.
+ * <p>
+ * The index is written by the {@code hibernate-enhance-maven-plugin} and by the Gradle
+ * plugin when configured to, or by calling {@link #write(File)} from any build tool.
+ *
+ * @since 6.2
+ */
+public final class ArchiveIndex {
+	private static final Logger log = Logger.getLogger( ArchiveIndex.class );
+
+	/**
+	 * The name of the index file within an archive
+	 */
+	public static final String INDEX_FILE_NAME = "META-INF/hibernate-archive.idx";
+
+	private static final String HEADER = "# Hibernate archive index, version 1";
+
+	private final Map<String, ClassEntry> classEntries;
+
+	private ArchiveIndex(Map<String, ClassEntry> classEntries) {
+		this.classEntries = classEntries;
+	}
+
+	private static class ClassEntry {
+		private final String className;
+		private final ClassDescriptor.Categorization categorization;
+
+		private ClassEntry(String className, ClassDescriptor.Categorization categorization) {
+			this.className = className;
+			this.categorization = categorization;
+		}
+	}
+
+	/**
+	 * The descriptor of the given class file, or {@code null} if it is not indexed
+	 */
+	ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+		final ClassEntry classEntry = classEntries.get( entry.getNameWithinArchive() );
+		return classEntry == null
+				? null
+				: new ClassDescriptorImpl( classEntry.className, classEntry.categorization, entry.getStreamAccess() );
+	}
+
+	/**
+	 * The number of class files indexed
+	 */
+	public int size() {
+		return classEntries.size();
+	}
+
+	/**
+	 * Build the index of the given archive, by reading all its class files.
+	 */
+	public static ArchiveIndex build(URL archiveUrl) {
+		final Map<String, ClassEntry> classEntries = new TreeMap<>();
+		final ArchiveEntryHandler classEntryHandler = (entry, context) -> {
+			final ClassDescriptor classDescriptor = ClassFileArchiveEntryHandler.toClassDescriptor( entry );
+			classEntries.put(
+					entry.getNameWithinArchive(),
+					new ClassEntry( classDescriptor.getName(), classDescriptor.getCategorization() )
+			);
+		};
+		final ArchiveDescriptor descriptor = StandardArchiveDescriptorFactory.INSTANCE.buildArchiveDescriptor( archiveUrl );
+		descriptor.visitArchive(
+				new ArchiveContext() {
+					@Override
+					public boolean isRootUrl() {
+						return true;
+					}
+
+					@Override
+					public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
+						final String nameWithinArchive = entry.getNameWithinArchive();
+						// same filtering as AbstractScannerImpl.ArchiveContextImpl
+						if ( nameWithinArchive.endsWith( ".class" )
+								&& !nameWithinArchive.endsWith( "package-info.class" )
+								&& !nameWithinArchive.endsWith( "module-info.class" ) ) {
+							return classEntryHandler;
+						}
+						return NoopEntryHandler.NOOP_INSTANCE;
+					}
+				}
+		);
+		return new ArchiveIndex( classEntries );
+	}
+
+	/**
+	 * Build the index of the given directory of class files, and write it to
+	 * {@value #INDEX_FILE_NAME} in that directory.
+	 *
+	 * @return The index written
+	 */
+	public static ArchiveIndex write(File directory) throws IOException {
+		final ArchiveIndex index = build( directory.toURI().toURL() );
+		final File indexFile = new File( directory, INDEX_FILE_NAME );
+		Files.createDirectories( indexFile.getParentFile().toPath() );
+		try ( OutputStream outputStream = Files.newOutputStream( indexFile.toPath() ) ) {
+			index.writeTo( outputStream );
+		}
+		return index;
+	}
+
+	/**
+	 * Write the index, one line per class file
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		final Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 ) );
+		writer.write( HEADER );
+		writer.write( '\n' );
+		for ( Map.Entry<String, ClassEntry> entry : classEntries.entrySet() ) {
+			writer.write( entry.getValue().categorization.name() );
+			writer.write( '\t' );
+			writer.write( entry.getKey() );
+			writer.write( '\t' );
+			writer.write( entry.getValue().className );
+			writer.write( '\n' );
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Read an index written by {@link #writeTo}
+	 */
+	public static ArchiveIndex read(InputStream inputStream) throws IOException {
+		final BufferedReader reader = new BufferedReader( new InputStreamReader( inputStream, StandardCharsets.UTF_8 ) );
+		final String header = reader.readLine();
+		if ( !HEADER.equals( header ) ) {
+			throw new ArchiveException( "Unsupported archive index format : " + header );
+		}
+		final Map<String, ClassEntry> classEntries = new TreeMap<>();
+		String line;
+		while ( ( line = reader.readLine() ) != null ) {
+			if ( line.isEmpty() ) {
+				continue;
+			}
+			final String[] fields = line.split( "\t" );
+			if ( fields.length != 3 ) {
+				throw new ArchiveException( "Malformed archive index entry : " + line );
+			}
+			classEntries.put(
+					fields[1],
+					new ClassEntry( fields[2], ClassDescriptor.Categorization.valueOf( fields[0] ) )
+			);
+		}
+		return new ArchiveIndex( classEntries );
+	}
+
+	/**
+	 * Read the index stored in the given archive, if any.
+	 *
+	 * @return The index, or {@code null} if the archive has none, or if its location
+	 * cannot be resolved from the URL of the archive
+	 */
+	public static ArchiveIndex locate(URL archiveUrl) {
+		final URL indexUrl = resolveIndexUrl( archiveUrl );
+		if ( indexUrl == null ) {
+			return null;
+		}
+		try ( InputStream inputStream = indexUrl.openStream() ) {
+			final ArchiveIndex index = read( inputStream );
+			log.debugf( "Using archive index %s (%s classes)", indexUrl, index.size() );
+			return index;
+		}
+		catch (IOException e) {
+			// the archive has no index
+			return null;
+		}
+		catch (ArchiveException | IllegalArgumentException e) {
+			log.debugf( e, "Ignoring invalid archive index %s", indexUrl );
+			return null;
+		}
+	}
+
+	private static URL resolveIndexUrl(URL archiveUrl) {
+		try {
+			final String protocol = archiveUrl.getProtocol();
+			if ( "jar".equals( protocol ) ) {
+				// only the root of a jar, entries within nested archives are not supported
+				final String externalForm = archiveUrl.toExternalForm();
+				return externalForm.endsWith( "!/" ) ? new URL( externalForm + INDEX_FILE_NAME ) : null;
+			}
+			else if ( "file".equals( protocol ) ) {
+				final File file = new File( archiveUrl.toURI() );
+				if ( file.isDirectory() ) {
+					return new File( file, INDEX_FILE_NAME ).toURI().toURL();
+				}
+				else if ( file.isFile() ) {
+					return new URL( "jar:" + archiveUrl.toExternalForm() + "!/" + INDEX_FILE_NAME );
+				}
+			}
+			return null;
+		}
+		catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -41,15 +41,28 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final ArchiveIndex archiveIndex;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null );
+	}
+
+	/**
+	 * @param archiveIndex The index of the archive, if any, which spares reading the
+	 * class files it lists
+	 */
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, ArchiveIndex archiveIndex) {
 		this.resultCollector = resultCollector;
+		this.archiveIndex = archiveIndex;
 	}
 
 	@Override
 	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
 
-		final ClassDescriptor classDescriptor = toClassDescriptor( entry );
+		ClassDescriptor classDescriptor = archiveIndex == null ? null : archiveIndex.toClassDescriptor( entry );
+		if ( classDescriptor == null ) {
+			classDescriptor = toClassDescriptor( entry );
+		}
 
 		if ( classDescriptor.getCategorization() == ClassDescriptor.Categorization.OTHER ) {
 			return;
@@ -58,7 +71,7 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		resultCollector.handleClass( classDescriptor, context.isRootUrl() );
 	}
 
-	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+	static ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			Indexer indexer = new Indexer();
 			ClassSummary classSummary = indexer.indexWithSummary( inputStream );
@@ -70,7 +83,7 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		}
 	}
 
-	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
+	private static ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
 		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
 
 		if ( isModel( index ) ) {
@@ -83,11 +96,11 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
-	private boolean isConverter(Index index) {
+	private static boolean isConverter(Index index) {
 		return !index.getAnnotations( CONVERTER ).isEmpty();
 	}
 
-	private boolean isModel(Index index) {
+	private static boolean isModel(Index index) {
 		for ( DotName model : MODELS ) {
 			if ( !index.getAnnotations( model ).isEmpty() ) {
 				return true;
@@ -81,12 +81,17 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MIN_SIZE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WRITE_BEHIND_QUEUE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
+import static org.hibernate.cfg.AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
@@ -97,22 +102,32 @@ import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.JDBC_BATCH_PLANNING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_LOAD_MAX_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS;
+import static org.hibernate.cfg.AvailableSettings.POOL_SIZE;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.PRIVATE_MEMBER_ACCESS_OPTIMIZATION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_EXECUTION_PROFILING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SCROLL_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
@@ -262,6 +277,20 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private int queryStatisticsMaxSize;
 
+	private boolean persistenceContextCompactEntityMapsEnabled;
+	private int flushParallelDirtyCheckingThreshold;
+	private int scrollFetchSize;
+	private boolean jdbcBatchPlanningEnabled;
+	private int cacheWriteBehindQueueSize;
+	private boolean queryExecutionProfilingEnabled;
+	private boolean privateMemberAccessOptimizationEnabled;
+	private boolean lazyPersisterInitializationEnabled;
+	private boolean parallelPersisterInitializationEnabled;
+	private boolean criteriaPlanCacheEnabled;
+	private boolean adaptiveBatchFetchEnabled;
+	private int adaptiveBatchFetchMinSize;
+	private int adaptiveBatchFetchMaxSize;
+	private int multiLoadMaxParallelism;
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
 		this.serviceRegistry = serviceRegistry;
@@ -582,6 +611,93 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+
+		this.persistenceContextCompactEntityMapsEnabled = ConfigurationHelper.getBoolean(
+				PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS,
+				configurationSettings,
+				false
+		);
+
+		this.flushParallelDirtyCheckingThreshold = ConfigurationHelper.getInt(
+				FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.scrollFetchSize = ConfigurationHelper.getInt(
+				SCROLL_FETCH_SIZE,
+				configurationSettings,
+				0
+		);
+
+		this.jdbcBatchPlanningEnabled = ConfigurationHelper.getBoolean(
+				JDBC_BATCH_PLANNING,
+				configurationSettings,
+				false
+		);
+
+		this.cacheWriteBehindQueueSize = ConfigurationHelper.getInt(
+				CACHE_WRITE_BEHIND_QUEUE_SIZE,
+				configurationSettings,
+				0
+		);
+
+		this.queryExecutionProfilingEnabled = ConfigurationHelper.getBoolean(
+				QUERY_EXECUTION_PROFILING,
+				configurationSettings,
+				false
+		);
+
+		this.privateMemberAccessOptimizationEnabled = ConfigurationHelper.getBoolean(
+				PRIVATE_MEMBER_ACCESS_OPTIMIZATION,
+				configurationSettings,
+				false
+		);
+
+		this.lazyPersisterInitializationEnabled = ConfigurationHelper.getBoolean(
+				LAZY_PERSISTER_INITIALIZATION,
+				configurationSettings,
+				false
+		);
+
+		this.parallelPersisterInitializationEnabled = ConfigurationHelper.getBoolean(
+				PARALLEL_PERSISTER_INITIALIZATION,
+				configurationSettings,
+				false
+		);
+
+		this.criteriaPlanCacheEnabled = ConfigurationHelper.getBoolean(
+				CRITERIA_PLAN_CACHE_ENABLED,
+				configurationSettings,
+				false
+		);
+
+		this.adaptiveBatchFetchEnabled = ConfigurationHelper.getBoolean(
+				BATCH_FETCH_ADAPTIVE,
+				configurationSettings,
+				false
+		);
+
+		this.adaptiveBatchFetchMinSize = ConfigurationHelper.getInt(
+				BATCH_FETCH_ADAPTIVE_MIN_SIZE,
+				configurationSettings,
+				2
+		);
+
+		this.adaptiveBatchFetchMaxSize = ConfigurationHelper.getInt(
+				BATCH_FETCH_ADAPTIVE_MAX_SIZE,
+				configurationSettings,
+				256
+		);
+
+		this.multiLoadMaxParallelism = Math.max(
+				1,
+				ConfigurationHelper.getInt(
+						MULTI_LOAD_MAX_PARALLELISM,
+						configurationSettings,
+						ConfigurationHelper.getInt( POOL_SIZE, configurationSettings, 20 ) / 2
+				)
+		);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1241,6 +1357,76 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return xmlFormatMapper;
 	}
 
+	@Override
+	public boolean isPersistenceContextCompactEntityMapsEnabled() {
+		return persistenceContextCompactEntityMapsEnabled;
+	}
+
+	@Override
+	public int getFlushParallelDirtyCheckingThreshold() {
+		return flushParallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public int getScrollFetchSize() {
+		return scrollFetchSize;
+	}
+
+	@Override
+	public boolean isJdbcBatchPlanningEnabled() {
+		return jdbcBatchPlanningEnabled;
+	}
+
+	@Override
+	public int getCacheWriteBehindQueueSize() {
+		return cacheWriteBehindQueueSize;
+	}
+
+	@Override
+	public boolean isQueryExecutionProfilingEnabled() {
+		return queryExecutionProfilingEnabled;
+	}
+
+	@Override
+	public boolean isPrivateMemberAccessOptimizationEnabled() {
+		return privateMemberAccessOptimizationEnabled;
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return lazyPersisterInitializationEnabled;
+	}
+
+	@Override
+	public boolean isParallelPersisterInitializationEnabled() {
+		return parallelPersisterInitializationEnabled;
+	}
+
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return criteriaPlanCacheEnabled;
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public int getMultiLoadMaxParallelism() {
+		return multiLoadMaxParallelism;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
 
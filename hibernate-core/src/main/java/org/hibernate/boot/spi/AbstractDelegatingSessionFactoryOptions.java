@@ -471,4 +471,74 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public FormatMapper getXmlFormatMapper() {
 		return delegate.getXmlFormatMapper();
 	}
+
+	@Override
+	public boolean isPersistenceContextCompactEntityMapsEnabled() {
+		return delegate.isPersistenceContextCompactEntityMapsEnabled();
+	}
+
+	@Override
+	public int getFlushParallelDirtyCheckingThreshold() {
+		return delegate.getFlushParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public int getScrollFetchSize() {
+		return delegate.getScrollFetchSize();
+	}
+
+	@Override
+	public boolean isJdbcBatchPlanningEnabled() {
+		return delegate.isJdbcBatchPlanningEnabled();
+	}
+
+	@Override
+	public int getCacheWriteBehindQueueSize() {
+		return delegate.getCacheWriteBehindQueueSize();
+	}
+
+	@Override
+	public boolean isQueryExecutionProfilingEnabled() {
+		return delegate.isQueryExecutionProfilingEnabled();
+	}
+
+	@Override
+	public boolean isPrivateMemberAccessOptimizationEnabled() {
+		return delegate.isPrivateMemberAccessOptimizationEnabled();
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return delegate.isLazyPersisterInitializationEnabled();
+	}
+
+	@Override
+	public boolean isParallelPersisterInitializationEnabled() {
+		return delegate.isParallelPersisterInitializationEnabled();
+	}
+
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return delegate.isCriteriaPlanCacheEnabled();
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public int getMultiLoadMaxParallelism() {
+		return delegate.getMultiLoadMaxParallelism();
+	}
 }
@@ -324,4 +324,134 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 * @since 6.0.1
 	 */
 	FormatMapper getXmlFormatMapper();
+
+	/**
+	 * Should the persistence context use {@link org.hibernate.engine.internal.EntityKeyMap}
+	 * for entities and snapshots keyed by {@link org.hibernate.engine.spi.EntityKey}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS
+	 */
+	default boolean isPersistenceContextCompactEntityMapsEnabled() {
+		return false;
+	}
+
+	/**
+	 * The minimum number of managed entities for which flushes perform dirty checking in parallel,
+	 * or {@code 0} if dirty checking is always serial.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getFlushParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The JDBC fetch size for scrolled and streamed query results, or {@code 0}
+	 * if no specific fetch size applies.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCROLL_FETCH_SIZE
+	 */
+	default int getScrollFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Whether the inserts and updates of a flush are reordered into per-table JDBC batches.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_BATCH_PLANNING
+	 */
+	default boolean isJdbcBatchPlanningEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of pending asynchronous evictions per second-level cache
+	 * region, or {@code 0} if write-behind is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 */
+	default int getCacheWriteBehindQueueSize() {
+		return 0;
+	}
+
+	/**
+	 * Whether the executions of queries are profiled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_PROFILING
+	 */
+	default boolean isQueryExecutionProfilingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the generated accessor classes support private members.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PRIVATE_MEMBER_ACCESS_OPTIMIZATION
+	 */
+	default boolean isPrivateMemberAccessOptimizationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the static SQL of persisters is generated on first use.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	default boolean isLazyPersisterInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether persisters are initialized concurrently.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_PERSISTER_INITIALIZATION
+	 */
+	default boolean isParallelPersisterInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the plans of criteria queries are cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 */
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the size of batch fetches is tuned at runtime.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * The smallest size of batch fetches tuned at runtime.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * The largest size of batch fetches tuned at runtime.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 256;
+	}
+
+	/**
+	 * The largest number of batches of multi-loads loaded concurrently.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_LOAD_MAX_PARALLELISM
+	 */
+	default int getMultiLoadMaxParallelism() {
+		return 10;
+	}
 }
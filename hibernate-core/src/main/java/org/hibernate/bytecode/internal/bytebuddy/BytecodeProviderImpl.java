@@ -7,6 +7,10 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
@@ -199,6 +203,14 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	@Override
 	public ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		return getReflectionOptimizer( clazz, propertyAccessMap, false );
+	}
+
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(
+			Class<?> clazz,
+			Map<String, PropertyAccess> propertyAccessMap,
+			boolean allowPrivateMembers) {
 		final Class<?> fastClass;
 		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
 			// we only provide a fast class instantiator if the class can be instantiated
@@ -227,8 +239,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		final Member[] getters = new Member[propertyAccessMap.size()];
 		final Member[] setters = new Member[propertyAccessMap.size()];
+		final List<PrivateMember> privateMembers = new ArrayList<>();
 		try {
-			findAccessors( clazz, propertyAccessMap, getters, setters );
+			findAccessors( clazz, propertyAccessMap, getters, setters, allowPrivateMembers ? privateMembers : null );
 		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
@@ -238,22 +251,48 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		Class<?> superClass = determineAccessOptimizerSuperClass( clazz, getters, setters );
 
 		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
-		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-				.with( new NamingStrategy.SuffixingRandom(
-						OPTIMIZER_PROXY_NAMING_SUFFIX,
-						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
-				) )
-				.subclass( superClass )
-				.implement( ReflectionOptimizer.AccessOptimizer.class )
-				.method( getPropertyValuesMethodName )
-				.intercept( new Implementation.Simple( new GetPropertyValues( clazz, propertyNames, getters ) ) )
-				.method( setPropertyValuesMethodName )
-				.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
-				.method( getPropertyNamesMethodName )
-				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
-		);
-
+		final String privateMemberHandlesKey;
+		if ( privateMembers.isEmpty() ) {
+			privateMemberHandlesKey = null;
+		}
+		else {
+			final MethodHandle[] handles = new MethodHandle[privateMembers.size()];
+			for ( int i = 0; i < handles.length; i++ ) {
+				handles[i] = privateMembers.get( i ).getHandle();
+			}
+			privateMemberHandlesKey = PrivateMemberHandles.register( handles );
+		}
 		try {
+			final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> {
+				DynamicType.Builder<?> builder = byteBuddy
+						.with( new NamingStrategy.SuffixingRandom(
+								OPTIMIZER_PROXY_NAMING_SUFFIX,
+								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+						) )
+						.subclass( superClass )
+						.implement( ReflectionOptimizer.AccessOptimizer.class )
+						.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetPropertyValues( clazz, propertyNames, getters ) ) )
+						.method( setPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
+						.method( getPropertyNamesMethodName )
+						.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+				if ( privateMemberHandlesKey != null ) {
+					for ( PrivateMember privateMember : privateMembers ) {
+						builder = builder.defineField(
+								privateMember.getHandleFieldName(),
+								MethodHandle.class,
+								Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL
+						);
+					}
+					builder = builder.initializer(
+							new InitializePrivateMemberHandles( privateMemberHandlesKey, privateMembers )
+					);
+				}
+				return builder;
+			} );
+
+			// Instantiating the access optimizer runs its type initializer, which reads the handles
 			return new ReflectionOptimizerImpl(
 					fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
 					(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance()
@@ -262,6 +301,11 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		catch (Exception exception) {
 			throw new HibernateException( exception );
 		}
+		finally {
+			if ( privateMemberHandlesKey != null ) {
+				PrivateMemberHandles.release( privateMemberHandlesKey );
+			}
+		}
 	}
 
 	private static class ForeignPackageClassInfo {
@@ -288,10 +332,13 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			for ( int i = 0; i < getters.length; i++ ) {
 				final Member getter = getters[i];
 				final Member setter = setters[i];
-				if ( getter.getDeclaringClass() == foreignPackageClassInfo.clazz && !Modifier.isPublic( getter.getModifiers() ) ) {
+				// Private members are accessed through method handles instead
+				if ( getter.getDeclaringClass() == foreignPackageClassInfo.clazz && !Modifier.isPublic( getter.getModifiers() )
+						&& !( getter instanceof PrivateMember ) ) {
 					foreignPackageClassInfo.getters.add( getter );
 				}
-				if ( setter.getDeclaringClass() == foreignPackageClassInfo.clazz && !Modifier.isPublic( setter.getModifiers() ) ) {
+				if ( setter.getDeclaringClass() == foreignPackageClassInfo.clazz && !Modifier.isPublic( setter.getModifiers() )
+						&& !( setter instanceof PrivateMember ) ) {
 					foreignPackageClassInfo.setters.add( setter );
 				}
 			}
@@ -442,6 +489,161 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * A private getter or setter, which the generated code invokes through a {@link MethodHandle}
+	 * held in a static final field of the generated class.  The handle of a getter is of type
+	 * {@code (Object)Object}, the handle of a setter of type {@code (Object,Object)void}.
+	 */
+	private static class PrivateMember implements Member {
+
+		private final Member member;
+		private final Class<?> type;
+		private final MethodHandle handle;
+		private final String handleFieldName;
+
+		private PrivateMember(Member member, Class<?> type, MethodHandle handle, String handleFieldName) {
+			this.member = member;
+			this.type = type;
+			this.handle = handle;
+			this.handleFieldName = handleFieldName;
+		}
+
+		static PrivateMember forGetter(Member getter, String handleFieldName) {
+			ReflectHelper.ensureAccessibility( (AccessibleObject) getter );
+			try {
+				final MethodHandle handle;
+				final Class<?> type;
+				if ( getter instanceof Field ) {
+					handle = MethodHandles.lookup().unreflectGetter( (Field) getter );
+					type = ( (Field) getter ).getType();
+				}
+				else {
+					handle = MethodHandles.lookup().unreflect( (Method) getter );
+					type = ( (Method) getter ).getReturnType();
+				}
+				return new PrivateMember(
+						getter,
+						type,
+						handle.asType( MethodType.methodType( Object.class, Object.class ) ),
+						handleFieldName
+				);
+			}
+			catch (IllegalAccessException e) {
+				throw new PrivateAccessorException( "inaccessible private accessor [" + getter.getName() + "]" );
+			}
+		}
+
+		static PrivateMember forSetter(Member setter, String handleFieldName) {
+			ReflectHelper.ensureAccessibility( (AccessibleObject) setter );
+			try {
+				final MethodHandle handle;
+				final Class<?> type;
+				if ( setter instanceof Field ) {
+					handle = MethodHandles.lookup().unreflectSetter( (Field) setter );
+					type = ( (Field) setter ).getType();
+				}
+				else {
+					handle = MethodHandles.lookup().unreflect( (Method) setter );
+					type = ( (Method) setter ).getParameterTypes()[0];
+				}
+				// Setters could return something, which asType() discards
+				return new PrivateMember(
+						setter,
+						type,
+						handle.asType( MethodType.methodType( void.class, Object.class, Object.class ) ),
+						handleFieldName
+				);
+			}
+			catch (IllegalAccessException e) {
+				throw new PrivateAccessorException( "inaccessible private accessor [" + setter.getName() + "]" );
+			}
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		public MethodHandle getHandle() {
+			return handle;
+		}
+
+		public String getHandleFieldName() {
+			return handleFieldName;
+		}
+
+		void loadHandle(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+			methodVisitor.visitFieldInsn(
+					Opcodes.GETSTATIC,
+					implementationContext.getInstrumentedType().getInternalName(),
+					handleFieldName,
+					Type.getDescriptor( MethodHandle.class )
+			);
+		}
+
+		@Override
+		public Class<?> getDeclaringClass() {
+			return member.getDeclaringClass();
+		}
+
+		@Override
+		public String getName() {
+			return member.getName();
+		}
+
+		@Override
+		public int getModifiers() {
+			return member.getModifiers();
+		}
+
+		@Override
+		public boolean isSynthetic() {
+			return member.isSynthetic();
+		}
+	}
+
+	/**
+	 * Stores the handles of the private members in the static final fields of the generated class
+	 */
+	private static class InitializePrivateMemberHandles implements ByteCodeAppender {
+
+		private final String key;
+		private final List<PrivateMember> privateMembers;
+
+		public InitializePrivateMemberHandles(String key, List<PrivateMember> privateMembers) {
+			this.key = key;
+			this.privateMembers = privateMembers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < privateMembers.size(); index++ ) {
+				methodVisitor.visitLdcInsn( key );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						Type.getInternalName( PrivateMemberHandles.class ),
+						"get",
+						Type.getMethodDescriptor(
+								Type.getType( MethodHandle.class ),
+								Type.getType( String.class ),
+								Type.getType( int.class )
+						),
+						false
+				);
+				methodVisitor.visitFieldInsn(
+						Opcodes.PUTSTATIC,
+						implementationContext.getInstrumentedType().getInternalName(),
+						privateMembers.get( index ).getHandleFieldName(),
+						Type.getDescriptor( MethodHandle.class )
+				);
+			}
+			return new Size( 2, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static class GetFieldOnArgument implements ByteCodeAppender {
 
 		private final Member getterMember;
@@ -736,62 +938,76 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 						);
 					}
 
-					// Load the entity to extract the property
-					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
-					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
-
-					final Class<?> type;
-					if ( getterMember instanceof Method ) {
-						final Method getter = (Method) getterMember;
-						type = getter.getReturnType();
+					if ( getterMember instanceof PrivateMember ) {
+						// Invoke the handle of the private member, which also takes care of the boxing
+						( (PrivateMember) getterMember ).loadHandle( methodVisitor, implementationContext );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
 						methodVisitor.visitMethodInsn(
-								getter.getDeclaringClass().isInterface() ?
-										Opcodes.INVOKEINTERFACE :
-										Opcodes.INVOKEVIRTUAL,
-								Type.getInternalName( getter.getDeclaringClass() ),
-								getter.getName(),
-								Type.getMethodDescriptor( getter ),
-								getter.getDeclaringClass().isInterface()
-						);
-					}
-					else if ( getterMember instanceof Field ) {
-						final Field getter = (Field) getterMember;
-						type = getter.getType();
-						methodVisitor.visitFieldInsn(
-								Opcodes.GETFIELD,
-								Type.getInternalName( getter.getDeclaringClass() ),
-								getter.getName(),
-								Type.getDescriptor( type )
+								Opcodes.INVOKEVIRTUAL,
+								Type.getInternalName( MethodHandle.class ),
+								"invokeExact",
+								Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( Object.class ) ),
+								false
 						);
 					}
 					else {
-						assert getterMember instanceof ForeignPackageMember;
-						final ForeignPackageMember foreignPackageMember = (ForeignPackageMember) getterMember;
-						final Member underlyingMember = foreignPackageMember.getMember();
-						if ( underlyingMember instanceof Method ) {
-							final Method getter = (Method) underlyingMember;
+						// Load the entity to extract the property
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+						methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
+
+						final Class<?> type;
+						if ( getterMember instanceof Method ) {
+							final Method getter = (Method) getterMember;
 							type = getter.getReturnType();
+							methodVisitor.visitMethodInsn(
+									getter.getDeclaringClass().isInterface() ?
+											Opcodes.INVOKEINTERFACE :
+											Opcodes.INVOKEVIRTUAL,
+									Type.getInternalName( getter.getDeclaringClass() ),
+									getter.getName(),
+									Type.getMethodDescriptor( getter ),
+									getter.getDeclaringClass().isInterface()
+							);
 						}
-						else {
-							final Field getter = (Field) underlyingMember;
+						else if ( getterMember instanceof Field ) {
+							final Field getter = (Field) getterMember;
 							type = getter.getType();
+							methodVisitor.visitFieldInsn(
+									Opcodes.GETFIELD,
+									Type.getInternalName( getter.getDeclaringClass() ),
+									getter.getName(),
+									Type.getDescriptor( type )
+							);
+						}
+						else {
+							assert getterMember instanceof ForeignPackageMember;
+							final ForeignPackageMember foreignPackageMember = (ForeignPackageMember) getterMember;
+							final Member underlyingMember = foreignPackageMember.getMember();
+							if ( underlyingMember instanceof Method ) {
+								final Method getter = (Method) underlyingMember;
+								type = getter.getReturnType();
+							}
+							else {
+								final Field getter = (Field) underlyingMember;
+								type = getter.getType();
+							}
+							methodVisitor.visitMethodInsn(
+									Opcodes.INVOKESTATIC,
+									Type.getInternalName( foreignPackageMember.getForeignPackageAccessor() ),
+									"get_" + getterMember.getName(),
+									Type.getMethodDescriptor( Type.getType( type ), Type.getType( clazz ) ),
+									false
+							);
+						}
+						if ( type.isPrimitive() ) {
+							PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
+									.assignBoxedTo(
+											TypeDescription.Generic.OBJECT,
+											ReferenceTypeAwareAssigner.INSTANCE,
+											Assigner.Typing.STATIC
+									)
+									.apply( methodVisitor, implementationContext );
 						}
-						methodVisitor.visitMethodInsn(
-								Opcodes.INVOKESTATIC,
-								Type.getInternalName( foreignPackageMember.getForeignPackageAccessor() ),
-								"get_" + getterMember.getName(),
-								Type.getMethodDescriptor( Type.getType( type ), Type.getType( clazz ) ),
-								false
-						);
-					}
-					if ( type.isPrimitive() ) {
-						PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
-								.assignBoxedTo(
-										TypeDescription.Generic.OBJECT,
-										ReferenceTypeAwareAssigner.INSTANCE,
-										Assigner.Typing.STATIC
-								)
-								.apply( methodVisitor, implementationContext );
 					}
 				}
 				if ( persistentAttributeInterceptable ) {
@@ -909,6 +1125,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 					final Field field = (Field) setterMember;
 					type = field.getType();
 				}
+				else if ( setterMember instanceof PrivateMember ) {
+					type = ( (PrivateMember) setterMember ).getType();
+				}
 				else {
 					final ForeignPackageMember foreignPackageMember = (ForeignPackageMember) setterMember;
 					final Member underlyingMember = foreignPackageMember.getMember();
@@ -921,7 +1140,10 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 						type = field.getType();
 					}
 				}
-				if ( type.isPrimitive() ) {
+				if ( setterMember instanceof PrivateMember ) {
+					// The handle of the private member takes care of the cast or unboxing
+				}
+				else if ( type.isPrimitive() ) {
 					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
 							.assignUnboxedTo(
 									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
@@ -969,6 +1191,23 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 							Type.getDescriptor( type )
 					);
 				}
+				else if ( setterMember instanceof PrivateMember ) {
+					// Move the handle of the private member below the entity and the value
+					( (PrivateMember) setterMember ).loadHandle( methodVisitor, implementationContext );
+					methodVisitor.visitInsn( Opcodes.DUP_X2 );
+					methodVisitor.visitInsn( Opcodes.POP );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( MethodHandle.class ),
+							"invokeExact",
+							Type.getMethodDescriptor(
+									Type.getType( void.class ),
+									Type.getType( Object.class ),
+									Type.getType( Object.class )
+							),
+							false
+					);
+				}
 				else {
 					final ForeignPackageMember foreignPackageMember = (ForeignPackageMember) setterMember;
 					methodVisitor.visitMethodInsn(
@@ -1183,11 +1422,16 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * @param privateMembers If not {@code null}, private getters and setters are wrapped into
+	 * {@link PrivateMember}s, which are collected in this list, rather than rejected
+	 */
 	private static void findAccessors(
 			Class<?> clazz,
 			Map<String, PropertyAccess> propertyAccessMap,
 			Member[] getters,
-			Member[] setters) {
+			Member[] setters,
+			List<PrivateMember> privateMembers) {
 		int i = 0;
 		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
 			final PropertyAccess propertyAccess = entry.getValue();
@@ -1247,13 +1491,27 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				);
 			}
 			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
+				if ( privateMembers == null ) {
+					throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
+				}
+				final PrivateMember privateGetter = PrivateMember.forGetter( getterMember, "$$_hibernate_getter_" + i );
+				privateMembers.add( privateGetter );
+				getters[i] = privateGetter;
+			}
+			else {
+				getters[i] = getterMember;
 			}
 			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
+				if ( privateMembers == null ) {
+					throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
+				}
+				final PrivateMember privateSetter = PrivateMember.forSetter( setterMember, "$$_hibernate_setter_" + i );
+				privateMembers.add( privateSetter );
+				setters[i] = privateSetter;
+			}
+			else {
+				setters[i] = setterMember;
 			}
-			getters[i] = getterMember;
-			setters[i] = setterMember;
 			i++;
 		}
 	}
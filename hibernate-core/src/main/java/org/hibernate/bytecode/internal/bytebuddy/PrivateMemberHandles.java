@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Hands the {@link MethodHandle}s used to access private members over to the type
+ * initializer of the access optimizer classes generated by {@link BytecodeProviderImpl},
+ * which stores them in static final fields.  Unlike handles held in instance fields,
+ * such constants are inlined by the JIT.
+ * <p>
+ * Only public because the generated classes may live in any package, not intended to
+ * be used otherwise.
+ */
+public final class PrivateMemberHandles {
+
+	private static final Map<String, MethodHandle[]> PENDING = new ConcurrentHashMap<>();
+	private static final AtomicLong COUNTER = new AtomicLong();
+
+	private PrivateMemberHandles() {
+	}
+
+	/**
+	 * Make the handles available until {@link #release} is called
+	 *
+	 * @return The key to pass to {@link #get}
+	 */
+	static String register(MethodHandle[] handles) {
+		final String key = Long.toString( COUNTER.incrementAndGet() );
+		PENDING.put( key, handles );
+		return key;
+	}
+
+	static void release(String key) {
+		PENDING.remove( key );
+	}
+
+	/**
+	 * Called from the type initializer of the generated classes
+	 */
+	public static MethodHandle get(String key, int index) {
+		final MethodHandle[] handles = PENDING.get( key );
+		if ( handles == null ) {
+			throw new HibernateException( "Private member handles [" + key + "] were already released" );
+		}
+		return handles[index];
+	}
+}
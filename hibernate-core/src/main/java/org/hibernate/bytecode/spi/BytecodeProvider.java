@@ -56,6 +56,27 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider
+	 * capable of generating reflection optimization components.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The ordered property access map
+	 * @param allowPrivateMembers Whether the optimizer may access private fields and methods,
+	 * rather than not optimizing classes with private members at all
+	 * @return The reflection optimization delegate.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PRIVATE_MEMBER_ACCESS_OPTIMIZATION
+	 *
+	 * @since 6.2
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(
+			Class<?> clazz,
+			Map<String, PropertyAccess> propertyAccessMap,
+			boolean allowPrivateMembers) {
+		return getReflectionOptimizer( clazz, propertyAccessMap );
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
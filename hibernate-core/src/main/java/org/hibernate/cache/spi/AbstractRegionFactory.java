@@ -8,6 +8,9 @@ package org.hibernate.cache.spi;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
@@ -46,6 +49,7 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	private SessionFactoryOptions options;
 
+	private ExecutorService writeBehindExecutor;
 
 	protected boolean isStarted() {
 		if ( started.get() ) {
@@ -111,6 +115,10 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 					releaseFromUse();
 				}
 				finally {
+					if ( writeBehindExecutor != null ) {
+						writeBehindExecutor.shutdown();
+						writeBehindExecutor = null;
+					}
 					options = null;
 					startingException = null;
 				}
@@ -123,6 +131,24 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	protected abstract void releaseFromUse();
 
+	/**
+	 * The executor applying the asynchronous evictions of the regions built by this
+	 * factory, a single daemon thread started on first use and stopped along with
+	 * this factory.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 */
+	public synchronized Executor getWriteBehindExecutor() {
+		if ( writeBehindExecutor == null ) {
+			writeBehindExecutor = Executors.newSingleThreadExecutor( runnable -> {
+				final Thread thread = new Thread( runnable, "hibernate-cache-write-behind" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+		return writeBehindExecutor;
+	}
+
 	@Override
 	public boolean isMinimalPutsEnabledByDefault() {
 		return false;
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,30 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects with the given keys from the cache, in a
+	 * single round-trip to the underlying cache where it supports it.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data which was found, by key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> cachedData = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object data = get( session, key );
+			if ( data != null ) {
+				cachedData.put( key, data );
+			}
+		}
+		return cachedData;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
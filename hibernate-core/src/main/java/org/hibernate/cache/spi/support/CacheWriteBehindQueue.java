@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A bounded queue of evictions from a {@link DomainDataStorageAccess}, applied
+ * asynchronously by an {@link Executor}.
+ * <p>
+ * Pending evictions are keyed by cache key, so that several evictions of the same
+ * entry are coalesced into a single call to the cache provider.  When the queue is
+ * full, the eviction is applied synchronously by the calling thread, so that an
+ * eviction is never lost because of a burst of writes.
+ * <p>
+ * Only the keys are queued: the session which requested an eviction has usually
+ * been closed by the time it is applied, so asynchronous evictions are applied
+ * without a session.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+ */
+public class CacheWriteBehindQueue {
+	private final String regionName;
+	private final DomainDataStorageAccess storageAccess;
+	private final Executor executor;
+	private final SessionFactoryImplementor sessionFactory;
+	private final int maxSize;
+
+	private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+	public CacheWriteBehindQueue(
+			String regionName,
+			DomainDataStorageAccess storageAccess,
+			Executor executor,
+			SessionFactoryImplementor sessionFactory,
+			int maxSize) {
+		this.regionName = regionName;
+		this.storageAccess = storageAccess;
+		this.executor = executor;
+		this.sessionFactory = sessionFactory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The write-behind queue of the given region, if any.
+	 */
+	static CacheWriteBehindQueue forRegion(DomainDataRegion region) {
+		return region instanceof DomainDataRegionTemplate
+				? ( (DomainDataRegionTemplate) region ).getWriteBehindQueue()
+				: null;
+	}
+
+	/**
+	 * Schedule the removal of the given key from the cache.
+	 */
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		if ( size.incrementAndGet() > maxSize ) {
+			size.decrementAndGet();
+			storageAccess.removeFromCache( key, session );
+			return;
+		}
+		if ( !pendingEvictions.add( key ) ) {
+			// coalesced with an eviction of the same key which is still pending
+			size.decrementAndGet();
+		}
+		scheduleDrain();
+	}
+
+	/**
+	 * The number of pending evictions
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Synchronously apply all pending evictions.
+	 */
+	public void flush() {
+		for ( Object key : pendingEvictions ) {
+			if ( pendingEvictions.remove( key ) ) {
+				size.decrementAndGet();
+				try {
+					storageAccess.removeFromCache( key, null );
+				}
+				catch (RuntimeException e) {
+					L2CACHE_LOGGER.debugf( e, "Unable to evict entry from second-level cache region [%s]", regionName );
+					final StatisticsImplementor statistics = sessionFactory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.secondLevelCacheWriteBehindDrop( regionName );
+					}
+				}
+			}
+		}
+	}
+
+	private void scheduleDrain() {
+		if ( drainScheduled.compareAndSet( false, true ) ) {
+			try {
+				executor.execute( this::drain );
+			}
+			catch (RejectedExecutionException e) {
+				// the region factory is being stopped
+				drainScheduled.set( false );
+				flush();
+			}
+		}
+	}
+
+	private void drain() {
+		// evictions added from now on schedule another drain
+		drainScheduled.set( false );
+		flush();
+	}
+}
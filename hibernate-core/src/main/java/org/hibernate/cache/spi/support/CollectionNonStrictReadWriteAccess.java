@@ -20,12 +20,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 public class CollectionNonStrictReadWriteAccess extends AbstractCollectionDataAccess {
+	private final CacheWriteBehindQueue writeBehindQueue;
+
 	public CollectionNonStrictReadWriteAccess(
 			DomainDataRegion region,
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			CollectionDataCachingConfig config) {
 		super( region, keysFactory, storageAccess, config );
+		this.writeBehindQueue = CacheWriteBehindQueue.forRegion( region );
 	}
 
 	@Override
@@ -35,6 +38,11 @@ public class CollectionNonStrictReadWriteAccess extends AbstractCollectionDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
-		getStorageAccess().removeFromCache( key, session );
+		if ( writeBehindQueue != null ) {
+			writeBehindQueue.removeFromCache( key, session );
+		}
+		else {
+			getStorageAccess().removeFromCache( key, session );
+		}
 	}
 }
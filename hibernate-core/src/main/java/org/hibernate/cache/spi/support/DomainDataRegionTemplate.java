@@ -6,11 +6,13 @@
  */
 package org.hibernate.cache.spi.support;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.AbstractRegionFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.AccessType;
@@ -42,6 +44,7 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 	private static final Logger log = Logger.getLogger( DomainDataRegionTemplate.class );
 
 	private final DomainDataStorageAccess storageAccess;
+	private final CacheWriteBehindQueue writeBehindQueue;
 
 	public DomainDataRegionTemplate(
 			DomainDataRegionConfig regionConfig,
@@ -52,6 +55,8 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 		super( regionConfig, regionFactory, defaultKeysFactory, buildingContext );
 		this.storageAccess = storageAccess;
 
+		this.writeBehindQueue = buildWriteBehindQueue( regionFactory, storageAccess );
+
 		// now the super-type calls will have access to the `DomainDataStorageAccess` reference
 		completeInstantiation( regionConfig, buildingContext );
 	}
@@ -63,6 +68,48 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 		return storageAccess;
 	}
 
+	/**
+	 * The queue of asynchronous evictions of this region, or {@code null}
+	 * if write-behind is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 */
+	public CacheWriteBehindQueue getWriteBehindQueue() {
+		return writeBehindQueue;
+	}
+
+	private CacheWriteBehindQueue buildWriteBehindQueue(
+			RegionFactory regionFactory,
+			DomainDataStorageAccess storageAccess) {
+		final int writeBehindQueueSize = getSessionFactory().getSessionFactoryOptions().getCacheWriteBehindQueueSize();
+		if ( writeBehindQueueSize <= 0 ) {
+			return null;
+		}
+		if ( !( regionFactory instanceof AbstractRegionFactory ) ) {
+			// the evictions are applied by a thread owned by the region factory
+			log.debugf(
+					"Region factory [%s] provides no write-behind executor, evictions from region [%s] are applied synchronously",
+					regionFactory,
+					getName()
+			);
+			return null;
+		}
+		return new CacheWriteBehindQueue(
+				getName(),
+				storageAccess,
+				( (AbstractRegionFactory) regionFactory ).getWriteBehindExecutor(),
+				getSessionFactory(),
+				writeBehindQueueSize
+		);
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		if ( writeBehindQueue != null ) {
+			writeBehindQueue.flush();
+		}
+		super.destroy();
+	}
 
 	@Override
 	public EntityDataAccess generateEntityAccess(EntityDataCachingConfig entityAccessConfig) {
@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Specialization of StorageAccess for domain data regions
@@ -24,4 +28,26 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache, in a single
+	 * operation where the underlying cache supports it
+	 *
+	 * @return the items which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 * for each key
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
 }
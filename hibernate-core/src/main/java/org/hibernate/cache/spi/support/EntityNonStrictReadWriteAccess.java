@@ -21,12 +21,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
+	private final CacheWriteBehindQueue writeBehindQueue;
+
 	public EntityNonStrictReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			EntityDataCachingConfig entityAccessConfig) {
 		super( domainDataRegion, keysFactory, storageAccess );
+		this.writeBehindQueue = CacheWriteBehindQueue.forRegion( domainDataRegion );
 	}
 
 	@Override
@@ -76,7 +79,12 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 	 */
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) throws CacheException {
-		getStorageAccess().removeFromCache( key, session );
+		if ( writeBehindQueue != null ) {
+			writeBehindQueue.removeFromCache( key, session );
+		}
+		else {
+			getStorageAccess().removeFromCache( key, session );
+		}
 	}
 
 	@Override
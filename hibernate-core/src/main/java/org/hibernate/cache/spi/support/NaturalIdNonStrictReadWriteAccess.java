@@ -20,12 +20,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 public class NaturalIdNonStrictReadWriteAccess extends AbstractNaturalIdDataAccess {
+	private final CacheWriteBehindQueue writeBehindQueue;
+
 	public NaturalIdNonStrictReadWriteAccess(
 			DomainDataRegion region,
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			NaturalIdDataCachingConfig config) {
 		super( region, keysFactory, storageAccess, config );
+		this.writeBehindQueue = CacheWriteBehindQueue.forRegion( region );
 	}
 
 	@Override
@@ -35,7 +38,12 @@ public class NaturalIdNonStrictReadWriteAccess extends AbstractNaturalIdDataAcce
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
-		getStorageAccess().removeFromCache( key, session );
+		if ( writeBehindQueue != null ) {
+			writeBehindQueue.removeFromCache( key, session );
+		}
+		else {
+			getStorageAccess().removeFromCache( key, session );
+		}
 	}
 
 	@Override
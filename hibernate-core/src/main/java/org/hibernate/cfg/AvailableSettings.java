@@ -1026,6 +1026,24 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, batched inserts are executed as multi-row inserts of form
+	 * {@code insert into t (a, b) values (?, ?), (?, ?), ...}, instead of as a JDBC
+	 * batch of single-row inserts.  This reduces the number of round trips with
+	 * drivers which execute each statement of a JDBC batch separately.
+	 * <p>
+	 * Only has an effect when {@linkplain #STATEMENT_BATCH_SIZE batching} is enabled,
+	 * and the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsertValues()
+	 * dialect supports it}.  Inserts with custom SQL are not affected.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.dialect.Dialect#getParameterCountLimit()
+	 *
+	 * @since 6.2
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.multi_row_inserts";
+
 	/**
 	 * Specifies a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1507,6 +1525,27 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the implementation of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * Accepts:
+	 * <ul>
+	 *     <li>{@code "lirs"}, for the {@linkplain org.hibernate.query.internal.QueryInterpretationCacheStandardImpl
+	 *     standard implementation}, using segmented maps with LIRS eviction,
+	 *     <li>{@code "tinylfu"}, for {@link org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl},
+	 *     which has a lock-free read path, and is a better choice for applications executing queries
+	 *     from many concurrent threads, or
+	 *     <li>the name of a class implementing {@link org.hibernate.query.spi.QueryInterpretationCache},
+	 *     with a public constructor accepting the maximum size as an {@code int} and a
+	 *     {@code Supplier<StatisticsImplementor>}.
+	 * </ul>
+	 * <p>
+	 * The default is {@code "lirs"}.  This setting has no effect if the query plan cache is disabled.
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -3083,4 +3122,251 @@ public interface AvailableSettings {
 	 * @since 6.1
 	 */
 	String TRANSFORM_HBM_XML_FEATURE_HANDLING = "hibernate.transform_hbm_xml.unsupported_feature_handling";
+
+	/**
+	 * When enabled, the persistence context keeps loaded entity instances and database
+	 * snapshots in compact open-addressing tables, partitioned by entity hierarchy and keyed
+	 * directly by identifier value, instead of in a {@link java.util.HashMap}.
+	 * <p>
+	 * This avoids allocating a map entry for every entity loaded by the session, and is
+	 * mainly useful for sessions which load a very large number of entities, for example
+	 * in batch processing.
+	 * <p>
+	 * By default, the compact maps are not used.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.engine.internal.EntityKeyMap
+	 */
+	String PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS = "hibernate.persistence_context.compact_entity_maps";
+
+	/**
+	 * The minimum number of entities in the persistence context for which a flush performs
+	 * the dirty checking of entities in parallel, on the {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+	 * common fork/join pool}.
+	 * <p>
+	 * In this mode, the current state of each entity is extracted and compared with its loaded
+	 * state on multiple threads, before the usual serial processing of each entity, which then
+	 * reuses the outcome of that comparison to schedule updates on the thread of the session.
+	 * Only entities whose dirtiness can be determined by comparing basic values alone take
+	 * part in the parallel phase: entities with associations, collections or bytecode
+	 * enhancement are always dirty checked serially.
+	 * <p>
+	 * Since the state of all entities is captured up front, this mode must not be used when
+	 * {@link jakarta.persistence.PreUpdate} callbacks or {@link org.hibernate.Interceptor}s
+	 * modify entities other than the one being flushed.
+	 * <p>
+	 * A value of {@code 0}, the default, disables parallel dirty checking.
+	 *
+	 * @since 6.2
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * The JDBC fetch size applied to queries whose results are scrolled or streamed,
+	 * unless the query specifies a {@linkplain org.hibernate.query.SelectionQuery#setFetchSize fetch size}
+	 * itself.  This allows iterating over very large results without the driver reading
+	 * them into memory at once, for drivers which do that by default.
+	 * <p>
+	 * By default, the {@linkplain #STATEMENT_FETCH_SIZE fetch size of all statements} applies.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_SCROLLED
+	 */
+	String SCROLL_FETCH_SIZE = "hibernate.query.scroll_fetch_size";
+
+	/**
+	 * When enabled, the inserts and updates scheduled by a flush are reordered so that
+	 * they form as few JDBC batches as possible.  Inserts are grouped by entity type
+	 * (and so by the tables they write to), taking into account the dependencies between
+	 * the entity instances being inserted, so that a row is never inserted before a row
+	 * it references by foreign key.  Updates are grouped by entity type.
+	 * <p>
+	 * Unlike {@link #ORDER_INSERTS}, which orders entity types, this considers the
+	 * references between individual instances, so that interleaved inserts of several
+	 * types, for example parents and children, or several subclasses of a joined hierarchy,
+	 * result in one batch per entity type rather than many small ones.  It only has an
+	 * effect when {@linkplain #STATEMENT_BATCH_SIZE JDBC batching} is enabled.
+	 * <p>
+	 * The fill ratio of the executed batches is reported by
+	 * {@link org.hibernate.stat.Statistics#getJdbcBatchFillRatio()}.
+	 *
+	 * @since 6.2
+	 */
+	String JDBC_BATCH_PLANNING = "hibernate.jdbc.batch_planning";
+
+	/**
+	 * When set to a positive value, the second-level cache evictions performed after
+	 * completion of a transaction for {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+	 * nonstrict-read-write} entities and collections are applied asynchronously by a
+	 * background thread, so that a slow cache provider does not delay the commit.  Evictions
+	 * of the same cache key which are still pending are coalesced.
+	 * <p>
+	 * The value is the maximum number of pending evictions per region.  When it is reached,
+	 * further evictions are applied synchronously.
+	 * <p>
+	 * Since stale entries remain in the cache until their eviction has been applied, this
+	 * widens the window in which other sessions may read stale data from the cache.
+	 * <p>
+	 * Only applies to regions based on {@link org.hibernate.cache.spi.support.DomainDataRegionTemplate}
+	 * which are built by an {@link org.hibernate.cache.spi.AbstractRegionFactory}, whose
+	 * thread applies the evictions.  The default, {@code 0}, disables write-behind.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.stat.Statistics#getSecondLevelCacheWriteBehindQueueDepth()
+	 */
+	String CACHE_WRITE_BEHIND_QUEUE_SIZE = "hibernate.cache.write_behind_queue_size";
+
+	/**
+	 * When enabled, each session records the time spent, and the memory allocated, in each
+	 * phase of the execution of its queries: HQL interpretation, translation to SQL, rendering
+	 * of the SQL, JDBC execution and hydration of the results, along with the hits and misses
+	 * of the query plan cache and of the second-level cache.
+	 * <p>
+	 * The latest profile of each query is available from
+	 * {@link org.hibernate.stat.QueryStatistics#getLastExecutionProfile()} when statistics are
+	 * enabled.  To profile the queries of a single session instead, add a
+	 * {@link org.hibernate.stat.QueryExecutionProfiler} to that session.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.stat.QueryExecutionProfile
+	 */
+	String QUERY_EXECUTION_PROFILING = "hibernate.query.execution_profiling";
+
+	/**
+	 * When enabled, the accessor classes generated at boot time to read and write all the
+	 * persistent attributes of an entity, or embeddable, in a single call also support
+	 * private fields and accessor methods.  Private members are accessed through method
+	 * handles held in constant fields of the generated class, which the JIT compiles
+	 * down to direct field accesses and method calls.
+	 * <p>
+	 * By default, a class with any private persistent field or accessor method falls
+	 * back to reflective access, one attribute at a time.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getReflectionOptimizer(Class, java.util.Map, boolean)
+	 */
+	String PRIVATE_MEMBER_ACCESS_OPTIMIZATION = "hibernate.bytecode.optimize_private_member_access";
+
+	/**
+	 * When enabled, the static SQL of entity and collection persisters, that is, their
+	 * insert, update and delete operations and the load plans they prepare, is generated
+	 * when each persister is first used, rather than for every persister while the
+	 * {@link org.hibernate.SessionFactory} is built.  This reduces startup time and memory
+	 * of applications which only use a part of a large domain model, at the cost of
+	 * slower first operations on each entity, and of mapping errors detected during
+	 * SQL generation being reported late.
+	 * <p>
+	 * The persisters and the mapping model are still created eagerly.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.persister.lazy_initialization";
+
+	/**
+	 * When enabled, the entity and collection persisters complete their initialization
+	 * concurrently while the {@link org.hibernate.SessionFactory} is built, on a pool of
+	 * at most as many threads as there are processors, which only lives for the duration
+	 * of this phase.  This phase, which generates the static SQL and load plans of each
+	 * persister once the whole mapping model is known, is the most expensive part of
+	 * building the {@code SessionFactory} for large domain models.  The binding of the
+	 * mappings, and its second passes, remain serial.
+	 * <p>
+	 * Once the initialization of a persister fails, the persisters whose initialization
+	 * has not started are skipped, and the failure is reported once the initializations
+	 * under way have completed.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 *
+	 * @see #LAZY_PERSISTER_INITIALIZATION
+	 */
+	String PARALLEL_PERSISTER_INITIALIZATION = "hibernate.persister.parallel_initialization";
+
+	/**
+	 * When enabled, the plans of {@linkplain jakarta.persistence.criteria.CriteriaQuery criteria queries}
+	 * are cached in the {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE query plan cache}, just like the plans of
+	 * HQL queries, and reused by any criteria query with the same structure, that is, which only differs
+	 * in its parameters, or in the values it binds as parameters, see {@link #CRITERIA_VALUE_HANDLING_MODE}.
+	 * This spares the translation of such queries to SQL on each execution.
+	 * <p>
+	 * Criteria queries with {@link jakarta.persistence.Tuple} results, or which are not eligible for
+	 * plan caching as HQL queries are, are never cached, and neither are those using a construct
+	 * such as a CTE, a derived root or a window function.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.stat.Statistics#getCriteriaQueryPlanCacheHitCount()
+	 */
+	String CRITERIA_PLAN_CACHE_ENABLED = "hibernate.criteria.plan_cache_enabled";
+
+	/**
+	 * When enabled, the size of the batch fetches of each entity and collection role
+	 * which is batch fetchable, according to {@link #DEFAULT_BATCH_FETCH_SIZE} or
+	 * {@link org.hibernate.annotations.BatchSize @BatchSize}, is tuned at runtime from
+	 * the batch fetches observed. The configured size is the initial size, which is
+	 * then kept between {@link #BATCH_FETCH_ADAPTIVE_MIN_SIZE} and
+	 * {@link #BATCH_FETCH_ADAPTIVE_MAX_SIZE}:
+	 * <ul>
+	 * <li>it is doubled when a session fetches a full batch of an entity or collection
+	 * it had already batch fetched, since it is working through more keys than a
+	 * batch holds, and
+	 * <li>it is halved when a batch fetch initializes fewer than half as many entities
+	 * or collections as the size allows, since the session does not have enough keys
+	 * queued to fill the batches.
+	 * </ul>
+	 * <p>
+	 * The sizes chosen are visible in {@link org.hibernate.stat.EntityStatistics#getBatchFetchSize()}
+	 * and {@link org.hibernate.stat.CollectionStatistics#getBatchFetchSize()}.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_FETCH_ADAPTIVE = "hibernate.batch_fetch.adaptive";
+
+	/**
+	 * The smallest size of batch fetches when {@link #BATCH_FETCH_ADAPTIVE} is enabled.
+	 * <p>
+	 * The default is {@code 2}.
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_FETCH_ADAPTIVE_MIN_SIZE = "hibernate.batch_fetch.adaptive_min_size";
+
+	/**
+	 * The largest size of batch fetches when {@link #BATCH_FETCH_ADAPTIVE} is enabled.
+	 * <p>
+	 * The default is {@code 256}.
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_FETCH_ADAPTIVE_MAX_SIZE = "hibernate.batch_fetch.adaptive_max_size";
+
+	/**
+	 * The largest number of batches of multi-loads, run with
+	 * {@link org.hibernate.MultiIdentifierLoadAccess#withParallelism(int)}, which are
+	 * loaded concurrently, across all the sessions of the session factory.  Each batch
+	 * loaded concurrently holds a connection of its own, so this keeps multi-loads from
+	 * taking more than a share of the connection pool.
+	 * <p>
+	 * The default is half the {@linkplain #POOL_SIZE connection pool size}, or {@code 10}
+	 * when it is not set.
+	 *
+	 * @since 6.2
+	 */
+	String MULTI_LOAD_MAX_PARALLELISM = "hibernate.multi_load.max_parallelism";
 }
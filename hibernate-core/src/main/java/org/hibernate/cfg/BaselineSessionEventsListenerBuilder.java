@@ -9,6 +9,8 @@ package org.hibernate.cfg;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -23,6 +25,7 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private final boolean logSessionMetrics;
 	private final Class<? extends SessionEventListener> autoListener;
+	private final List<Supplier<? extends SessionEventListener>> listenerSuppliers = new CopyOnWriteArrayList<>();
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -41,6 +44,15 @@ public class BaselineSessionEventsListenerBuilder {
 		return autoListener;
 	}
 
+	/**
+	 * Registers a supplier of an additional listener for each session created
+	 * from now on, typically by an integration which is only set up once the
+	 * {@link org.hibernate.SessionFactory} is built.
+	 */
+	public void addListenerSupplier(Supplier<? extends SessionEventListener> listenerSupplier) {
+		listenerSuppliers.add( listenerSupplier );
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -69,7 +81,16 @@ public class BaselineSessionEventsListenerBuilder {
 		else {//if ( !addStats && !addAutoListener )
 			arr = EMPTY;
 		}
-		return arr;
+		return listenerSuppliers.isEmpty() ? arr : addSuppliedListeners( arr );
+	}
+
+	private SessionEventListener[] addSuppliedListeners(SessionEventListener[] baseline) {
+		final List<SessionEventListener> listeners = new ArrayList<>( baseline.length + listenerSuppliers.size() );
+		Collections.addAll( listeners, baseline );
+		for ( Supplier<? extends SessionEventListener> listenerSupplier : listenerSuppliers ) {
+			listeners.add( listenerSupplier.get() );
+		}
+		return listeners.toArray( EMPTY );
 	}
 
 	private static SessionEventListener buildAutoListener(final Class<? extends SessionEventListener> autoListener) {
@@ -480,6 +480,17 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertValues() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the PostgreSQL JDBC driver sends the number of parameters as a 16-bit integer
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -578,6 +589,11 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsTemporalLiteralOffset() {
 		return true;
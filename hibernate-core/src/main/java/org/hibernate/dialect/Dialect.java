@@ -3577,6 +3577,23 @@ public abstract class Dialect implements ConversionContext {
 		appender.appendSql( ']' );
 	}
 
+	/**
+	 * Should the multiple keys of a batch fetch be bound as a single
+	 * parameter of an array type, rather than as a list of parameters
+	 * of the key type?
+	 * <p>
+	 * If so, the {@link org.hibernate.sql.ast.SqlAstTranslator} of the
+	 * dialect must render an {@link org.hibernate.sql.ast.tree.predicate.InArrayPredicate},
+	 * for example, as {@code id = any(?)}, and the SQL of a batch fetch
+	 * does not depend on the number of keys fetched.
+	 *
+	 * @return {@code true} if keys should be bound as an array
+	 * @since 6.2
+	 */
+	public boolean useArrayForMultiValuedParameters() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support some kind of {@code distinct from}
 	 * predicate?
@@ -3656,6 +3673,37 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single
+	 * {@code insert into t (a, b) values (?, ?), (?, ?)} statement?
+	 * <p>
+	 * Unlike {@link #supportsValuesListForInsert()}, this must only
+	 * return {@code true} if the statement is also supported with JDBC
+	 * parameters and returns the total number of inserted rows.
+	 *
+	 * @return {@code true} if multi-row inserts may be used
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsMultiRowInsertValues() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database or its JDBC driver
+	 * places on the number of JDBC parameters of a single statement.
+	 * If there is no such limit, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
@@ -168,6 +168,11 @@ public class H2Dialect extends Dialect {
 		return getVersion().isSameOrAfter( 2 );
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return supportsStandardArrays();
+	}
+
 	@Override
 	protected String columnType(int sqlTypeCode) {
 		switch ( sqlTypeCode ) {
@@ -752,6 +757,11 @@ public class H2Dialect extends Dialect {
 		return getVersion().isSameOrAfter( 1, 4, 196 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertValues() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		return getVersion().isSameOrAfter( 1, 4, 198 );
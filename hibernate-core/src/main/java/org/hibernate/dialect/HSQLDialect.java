@@ -389,6 +389,11 @@ public class HSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return true;
+	}
+
 	@Override
 	public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
 		return EXTRACTOR_20;
@@ -635,6 +640,11 @@ public class HSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 2 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertValues() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresFloatCastingOfIntegerDivision() {
 		return true;
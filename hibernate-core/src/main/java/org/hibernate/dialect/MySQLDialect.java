@@ -1304,6 +1304,17 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertValues() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the number of parameters of a prepared statement is a 16-bit integer in the protocol
+		return 65535;
+	}
+
 	@Override
 	public boolean supportsWait() {
 		//only supported on MariaDB
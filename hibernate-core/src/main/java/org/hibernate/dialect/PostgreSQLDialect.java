@@ -660,6 +660,17 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertValues() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the PostgreSQL JDBC driver sends the number of parameters as a 16-bit integer
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -970,6 +981,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
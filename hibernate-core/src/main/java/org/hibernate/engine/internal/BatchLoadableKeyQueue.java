@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The entries of a single entity or collection role which are eligible for batch fetching, in the
+ * order they were added, as maintained by {@link org.hibernate.engine.spi.BatchFetchQueue}.
+ * <p>
+ * The entries are kept in a doubly-linked list, indexed by their key, so that adding and removing
+ * an entry, and locating the entry a batch is assembled around, don't depend on the number of
+ * entries in the queue.  A batch is then assembled by walking the list from that entry, so that
+ * it only visits as many entries as it needs.
+ * <p>
+ * The candidate entries of a batch are looked up in the second-level cache all at once.  Entries
+ * which were found in the cache are remembered as such, and are not looked up in the cache again:
+ * they are skipped by the batches assembled later on, for as long as they stay in the queue.
+ *
+ * @param <K> The key of the entries
+ * @param <V> The value of the entries
+ *
+ * @see org.hibernate.engine.spi.BatchFetchQueue
+ */
+public class BatchLoadableKeyQueue<K, V> {
+	private final HashMap<K, Node<K, V>> nodes = new HashMap<>();
+	private Node<K, V> head;
+	private Node<K, V> tail;
+
+	/**
+	 * Add an entry to the end of the queue.  If the queue already has an entry with the same key,
+	 * its value is replaced, but it keeps its position.
+	 */
+	public void add(K key, V value) {
+		final Node<K, V> existing = nodes.get( key );
+		if ( existing != null ) {
+			existing.value = value;
+			return;
+		}
+
+		final Node<K, V> node = new Node<>( key, value );
+		nodes.put( key, node );
+		if ( tail == null ) {
+			head = node;
+		}
+		else {
+			tail.next = node;
+			node.previous = tail;
+		}
+		tail = node;
+	}
+
+	/**
+	 * Remove the entry with the given key from the queue, if any.
+	 */
+	public void remove(K key) {
+		final Node<K, V> node = nodes.remove( key );
+		if ( node != null ) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+	}
+
+	public boolean contains(K key) {
+		return nodes.containsKey( key );
+	}
+
+	public int size() {
+		return nodes.size();
+	}
+
+	public boolean isEmpty() {
+		return nodes.isEmpty();
+	}
+
+	/**
+	 * Fill the given batch, from index 1, with the keys to fetch of the entries which follow the
+	 * entry with the given key, or if there are not enough of them, of the entries which precede
+	 * it.  If the queue has no entry with the given key, the batch is filled from the head of the
+	 * queue.
+	 *
+	 * @param key The key of the entry the batch is assembled around, which is not part of the batch
+	 * @param batch The batch, whose first element is the key to fetch of the entry with the given key
+	 * @param batchKeyExtractor The key to fetch for an entry, or {@code null} if the entry is not
+	 * to be fetched
+	 * @param cacheCheck Which keys to fetch are in the second-level cache, or {@code null} if
+	 * the cache is not read from
+	 *
+	 * @return The number of keys in the batch, including the first one
+	 */
+	public int fillBatch(
+			K key,
+			Object[] batch,
+			BiFunction<K, V, Object> batchKeyExtractor,
+			CacheCheck cacheCheck) {
+		final Cursor<K, V> cursor = new Cursor<>( nodes.get( key ), head );
+		final List<Node<K, V>> candidates = new ArrayList<>();
+		final List<Object> candidateKeys = new ArrayList<>();
+		int i = 1;
+		while ( i < batch.length ) {
+			// collect as many candidates as the batch has room left for, and look them up
+			// in the cache all at once
+			Node<K, V> node;
+			while ( i + candidates.size() < batch.length && ( node = cursor.next() ) != null ) {
+				if ( cacheCheck == null || !node.cached ) {
+					final Object batchKey = batchKeyExtractor.apply( node.key, node.value );
+					if ( batchKey != null ) {
+						candidates.add( node );
+						candidateKeys.add( batchKey );
+					}
+				}
+			}
+			if ( candidates.isEmpty() ) {
+				break;
+			}
+
+			final boolean[] cached = cacheCheck == null ? null : cacheCheck.areCached( candidateKeys );
+			for ( int j = 0; j < candidates.size(); j++ ) {
+				if ( cached != null && cached[j] ) {
+					candidates.get( j ).cached = true;
+				}
+				else {
+					batch[i++] = candidateKeys.get( j );
+				}
+			}
+			candidates.clear();
+			candidateKeys.clear();
+		}
+		return i;
+	}
+
+	/**
+	 * Looks up keys to fetch in the second-level cache
+	 */
+	@FunctionalInterface
+	public interface CacheCheck {
+		/**
+		 * @param batchKeys The keys to fetch
+		 *
+		 * @return Whether each of the keys is in the second-level cache
+		 */
+		boolean[] areCached(List<Object> batchKeys);
+	}
+
+	/**
+	 * Walks the entries which follow a given entry, then those which precede it
+	 */
+	private static class Cursor<K, V> {
+		private Node<K, V> next;
+		private Node<K, V> previous;
+
+		private Cursor(Node<K, V> start, Node<K, V> head) {
+			if ( start == null ) {
+				next = head;
+			}
+			else {
+				next = start.next;
+				previous = start.previous;
+			}
+		}
+
+		private Node<K, V> next() {
+			final Node<K, V> node;
+			if ( next != null ) {
+				node = next;
+				next = node.next;
+			}
+			else if ( previous != null ) {
+				node = previous;
+				previous = node.previous;
+			}
+			else {
+				node = null;
+			}
+			return node;
+		}
+	}
+
+	private static class Node<K, V> {
+		private final K key;
+		private V value;
+		private boolean cached;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
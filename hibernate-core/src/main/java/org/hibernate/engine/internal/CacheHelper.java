@@ -6,6 +6,10 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -35,4 +39,26 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Get the values with the given keys from the shared cache, in a single round-trip
+	 * to the underlying cache where it supports it
+	 *
+	 * @return the cached values which were found, by key
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = Collections.emptyMap();
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( !cachedValues.isEmpty() );
+		}
+		return cachedValues;
+	}
+
 }
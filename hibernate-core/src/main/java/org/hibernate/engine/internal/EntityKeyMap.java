@@ -0,0 +1,370 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A compact {@link Map} keyed by {@link EntityKey}, used by {@link StatefulPersistenceContext}
+ * in place of {@link HashMap} when
+ * {@value org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS} is enabled.
+ * <p>
+ * Entries are partitioned by root entity name (which is also the scope of {@link EntityKey#equals}),
+ * and each partition is an open-addressing table with linear probing.  No per-entry node objects
+ * are allocated: a partition is just a handful of parallel arrays.
+ * <p>
+ * For hierarchies with {@code Long}, {@code Integer} or {@code Short} identifiers the probe array
+ * holds the identifier value itself, so that lookups compare primitive {@code long}s and never need to
+ * dereference the stored {@link EntityKey} or call {@link org.hibernate.type.Type#isEqual}.  All other
+ * identifier types probe using {@link EntityKey#hashCode()} and fall back to {@link EntityKey#equals}.
+ * <p>
+ * IMPL NOTE: iterators of this map are fail-fast but do not support {@link Iterator#remove()}, and
+ * entries returned by {@link #entrySet()} are immutable.  Neither is needed by the persistence context.
+ */
+public final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+	private static final int INITIAL_PARTITION_CAPACITY = 16;
+
+	private final HashMap<String, Partition> partitionsByRootEntityName = new HashMap<>();
+	private Partition[] partitions = new Partition[4];
+	private int partitionCount;
+
+	// the partition used by the last operation - sessions tend to work with one type at a time
+	private Partition lastPartition;
+
+	private int size;
+	private int modCount;
+
+	private Set<Entry<EntityKey, V>> entrySet;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return false;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey );
+		return partition != null && partition.indexOf( entityKey ) >= 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( entityKey );
+		//noinspection unchecked
+		return index < 0 ? null : (V) partition.values[index];
+	}
+
+	@Override
+	public V put(EntityKey key, V value) {
+		Partition partition = findPartition( key );
+		if ( partition == null ) {
+			partition = createPartition( key );
+		}
+		else if ( partition.numeric && !partition.acceptsNumeric( key ) ) {
+			// an identifier of an unexpected type - degrade the partition rather than risk
+			// treating keys which are not equal as the same key
+			partition.convertToGeneric();
+		}
+		final int index = partition.indexOf( key );
+		if ( index >= 0 ) {
+			//noinspection unchecked
+			final V previous = (V) partition.values[index];
+			partition.keys[index] = key;
+			partition.values[index] = value;
+			return previous;
+		}
+		partition.insert( key, value );
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( entityKey );
+		if ( index < 0 ) {
+			return null;
+		}
+		//noinspection unchecked
+		final V previous = (V) partition.values[index];
+		partition.delete( index );
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		partitionsByRootEntityName.clear();
+		Arrays.fill( partitions, 0, partitionCount, null );
+		partitionCount = 0;
+		lastPartition = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private Partition findPartition(EntityKey key) {
+		final String rootEntityName = key.getPersister().getRootEntityName();
+		final Partition last = lastPartition;
+		if ( last != null && last.rootEntityName.equals( rootEntityName ) ) {
+			return last;
+		}
+		final Partition partition = partitionsByRootEntityName.get( rootEntityName );
+		if ( partition != null ) {
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	private Partition createPartition(EntityKey key) {
+		final Partition partition = new Partition( key.getPersister().getRootEntityName(), key.getIdentifier() );
+		partitionsByRootEntityName.put( partition.rootEntityName, partition );
+		if ( partitionCount == partitions.length ) {
+			partitions = Arrays.copyOf( partitions, partitionCount << 1 );
+		}
+		partitions[partitionCount++] = partition;
+		lastPartition = partition;
+		return partition;
+	}
+
+	private static boolean isNumericIdentifier(Object identifier) {
+		return identifier instanceof Long || identifier instanceof Integer || identifier instanceof Short;
+	}
+
+	private static int spread(long probe) {
+		final int h = (int) ( probe ^ ( probe >>> 32 ) ) * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * The open-addressing table for a single entity hierarchy.  A slot is free when
+	 * its entry in {@link #keys} is {@code null}.
+	 */
+	private static final class Partition {
+		private final String rootEntityName;
+
+		private boolean numeric;
+		private final Class<?> identifierClass;
+
+		private long[] probes;
+		private EntityKey[] keys;
+		private Object[] values;
+		private int size;
+		private int mask;
+		private int resizeThreshold;
+
+		private Partition(String rootEntityName, Object identifier) {
+			this.rootEntityName = rootEntityName;
+			this.numeric = isNumericIdentifier( identifier );
+			this.identifierClass = identifier.getClass();
+			allocate( INITIAL_PARTITION_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			probes = new long[capacity];
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+			mask = capacity - 1;
+			// keep the load factor at or below 0.5 for short probe sequences
+			resizeThreshold = capacity >> 1;
+		}
+
+		private boolean acceptsNumeric(EntityKey key) {
+			return key.getIdentifier().getClass() == identifierClass;
+		}
+
+		private long probeFor(EntityKey key) {
+			return numeric ? ( (Number) key.getIdentifier() ).longValue() : key.hashCode();
+		}
+
+		private int indexOf(EntityKey key) {
+			if ( numeric && !acceptsNumeric( key ) ) {
+				return -1;
+			}
+			final long probe = probeFor( key );
+			int index = spread( probe ) & mask;
+			EntityKey candidate;
+			while ( ( candidate = keys[index] ) != null ) {
+				if ( probes[index] == probe && ( numeric || candidate == key || candidate.equals( key ) ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		private void insert(EntityKey key, Object value) {
+			if ( size >= resizeThreshold ) {
+				rehash( keys.length << 1 );
+			}
+			place( probeFor( key ), key, value );
+			size++;
+		}
+
+		private void place(long probe, EntityKey key, Object value) {
+			int index = spread( probe ) & mask;
+			while ( keys[index] != null ) {
+				index = ( index + 1 ) & mask;
+			}
+			probes[index] = probe;
+			keys[index] = key;
+			values[index] = value;
+		}
+
+		private void rehash(int capacity) {
+			final EntityKey[] oldKeys = keys;
+			final Object[] oldValues = values;
+			allocate( capacity );
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final EntityKey key = oldKeys[i];
+				if ( key != null ) {
+					place( probeFor( key ), key, oldValues[i] );
+				}
+			}
+		}
+
+		private void convertToGeneric() {
+			numeric = false;
+			rehash( keys.length );
+		}
+
+		/**
+		 * Removes the entry at the given slot using backward-shift deletion, so that
+		 * no tombstones are needed and probe sequences stay short.
+		 */
+		private void delete(int index) {
+			int hole = index;
+			int current = index;
+			while ( true ) {
+				current = ( current + 1 ) & mask;
+				final EntityKey key = keys[current];
+				if ( key == null ) {
+					break;
+				}
+				final int home = spread( probes[current] ) & mask;
+				// the entry may be moved into the hole only if its home slot
+				// is not cyclically within (hole, current]
+				final boolean homeBetween = hole <= current
+						? hole < home && home <= current
+						: hole < home || home <= current;
+				if ( !homeBetween ) {
+					probes[hole] = probes[current];
+					keys[hole] = key;
+					values[hole] = values[current];
+					hole = current;
+				}
+			}
+			probes[hole] = 0L;
+			keys[hole] = null;
+			values[hole] = null;
+			size--;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> entry = (Entry<?, ?>) o;
+			final Object key = entry.getKey();
+			return containsKey( key ) && Objects.equals( get( key ), entry.getValue() );
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private final int expectedModCount = modCount;
+		private int partitionIndex;
+		private int slot = -1;
+		private int remaining = size;
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( remaining <= 0 ) {
+				throw new NoSuchElementException();
+			}
+			while ( partitionIndex < partitionCount ) {
+				final Partition partition = partitions[partitionIndex];
+				final EntityKey[] keys = partition.keys;
+				while ( ++slot < keys.length ) {
+					final EntityKey key = keys[slot];
+					if ( key != null ) {
+						remaining--;
+						//noinspection unchecked
+						return new SimpleImmutableEntry<>( key, (V) partition.values[slot] );
+					}
+				}
+				partitionIndex++;
+				slot = -1;
+			}
+			throw new ConcurrentModificationException();
+		}
+	}
+}
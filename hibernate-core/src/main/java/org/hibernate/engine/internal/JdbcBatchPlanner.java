@@ -0,0 +1,326 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The {@link ExecutableList.Sorter}s used by {@link org.hibernate.engine.spi.ActionQueue}
+ * when {@value org.hibernate.cfg.AvailableSettings#JDBC_BATCH_PLANNING} is enabled.
+ * <p>
+ * Since the JDBC batch used for an insert or update is determined by the entity type,
+ * every change of entity type between two consecutive actions ends a batch.  These sorters
+ * reorder the actions so that the actions for the same entity type are consecutive as far
+ * as possible.
+ * <p>
+ * For inserts, a dependency graph of the individual actions is built from the references
+ * between the entity instances being inserted: an instance referenced by a foreign key of
+ * another instance must be inserted first.  Each action is then assigned to a "round", the
+ * length of the longest chain of dependencies leading to it, counting only the dependencies
+ * between different entity types.  Ordering the actions by round, and then by entity type,
+ * results in one batch per entity type and round, while respecting all the dependencies.
+ * If the dependencies contain a cycle, the actions are left in their original order.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#JDBC_BATCH_PLANNING
+ */
+public final class JdbcBatchPlanner {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( JdbcBatchPlanner.class );
+
+	/**
+	 * Sorter for {@link AbstractEntityInsertAction}s
+	 */
+	public static final ExecutableList.Sorter<AbstractEntityInsertAction> INSERTS = JdbcBatchPlanner::planInserts;
+
+	/**
+	 * Sorter for {@link EntityUpdateAction}s.  The order of updates does not matter for
+	 * foreign keys, since all inserts are executed before them, so updates are simply grouped
+	 * by entity type, retaining their relative order.
+	 */
+	public static final ExecutableList.Sorter<EntityUpdateAction> UPDATES = JdbcBatchPlanner::planUpdates;
+
+	private JdbcBatchPlanner() {
+	}
+
+	private static void planUpdates(List<EntityUpdateAction> updates) {
+		final Map<String, List<EntityUpdateAction>> updatesByEntityName = new LinkedHashMap<>();
+		for ( EntityUpdateAction update : updates ) {
+			updatesByEntityName.computeIfAbsent( update.getEntityName(), (name) -> new ArrayList<>() ).add( update );
+		}
+		if ( updatesByEntityName.size() > 1 ) {
+			updates.clear();
+			for ( List<EntityUpdateAction> group : updatesByEntityName.values() ) {
+				updates.addAll( group );
+			}
+		}
+	}
+
+	private static void planInserts(List<AbstractEntityInsertAction> insertions) {
+		final int size = insertions.size();
+		if ( size < 2 ) {
+			return;
+		}
+
+		final InsertGraph graph = new InsertGraph( insertions );
+		if ( !graph.build() ) {
+			return;
+		}
+
+		final int[] order = graph.topologicalOrder();
+		if ( order == null ) {
+			LOG.debugf( "Could not plan JDBC batches for %s inserts due to circular references", size );
+			return;
+		}
+
+		final int[] rounds = graph.rounds( order );
+		final int[] positions = new int[size];
+		for ( int i = 0; i < size; i++ ) {
+			positions[order[i]] = i;
+		}
+
+		final Integer[] planned = new Integer[size];
+		for ( int i = 0; i < size; i++ ) {
+			planned[i] = i;
+		}
+		final int[] groups = graph.groups;
+		Arrays.sort(
+				planned,
+				(a, b) -> {
+					if ( rounds[a] != rounds[b] ) {
+						return Integer.compare( rounds[a], rounds[b] );
+					}
+					if ( groups[a] != groups[b] ) {
+						return Integer.compare( groups[a], groups[b] );
+					}
+					return Integer.compare( positions[a], positions[b] );
+				}
+		);
+
+		final AbstractEntityInsertAction[] original = insertions.toArray( new AbstractEntityInsertAction[0] );
+		insertions.clear();
+		for ( Integer index : planned ) {
+			insertions.add( original[index] );
+		}
+	}
+
+	/**
+	 * The dependency graph of the insert actions of a flush.  Actions are identified by
+	 * their index in the original list, and an edge {@code a -> b} means that {@code a}
+	 * must be inserted before {@code b}.
+	 */
+	private static class InsertGraph {
+		private final List<AbstractEntityInsertAction> insertions;
+		private final SessionFactoryImplementor factory;
+
+		// the index of the entity type of each action, in order of first occurrence
+		private final int[] groups;
+		private final IdentityHashMap<Object, Integer> indexByInstance;
+
+		// adjacency lists, as linked lists of edges
+		private final int[] firstEdge;
+		private int[] edgeTarget = new int[16];
+		private int[] nextEdge = new int[16];
+		private int edgeCount;
+		private final int[] incoming;
+
+		private InsertGraph(List<AbstractEntityInsertAction> insertions) {
+			final int size = insertions.size();
+			this.insertions = insertions;
+			this.factory = insertions.get( 0 ).getSession().getFactory();
+			this.groups = new int[size];
+			this.indexByInstance = new IdentityHashMap<>( size );
+			this.firstEdge = new int[size];
+			this.incoming = new int[size];
+			Arrays.fill( firstEdge, -1 );
+
+			final Map<String, Integer> groupByEntityName = new HashMap<>();
+			for ( int i = 0; i < size; i++ ) {
+				final AbstractEntityInsertAction action = insertions.get( i );
+				final Integer group = groupByEntityName.get( action.getEntityName() );
+				if ( group == null ) {
+					groups[i] = groupByEntityName.size();
+					groupByEntityName.put( action.getEntityName(), groups[i] );
+				}
+				else {
+					groups[i] = group;
+				}
+				indexByInstance.put( action.getInstance(), i );
+			}
+		}
+
+		/**
+		 * Collects the dependencies of all actions.
+		 *
+		 * @return {@code false} if the dependencies cannot be determined reliably
+		 */
+		private boolean build() {
+			for ( int i = 0; i < insertions.size(); i++ ) {
+				final AbstractEntityInsertAction action = insertions.get( i );
+				final EntityPersister persister = action.getPersister();
+				if ( hasAssociationInIdentifier( persister.getIdentifierType() ) ) {
+					// key-many-to-one: we would need to look into the identifiers, which
+					// is not worth the trouble for such mappings
+					return false;
+				}
+				final Object[] state = action.getState();
+				final Type[] types = persister.getPropertyTypes();
+				for ( int j = 0; j < state.length; j++ ) {
+					if ( state[j] != null ) {
+						addDependencies( i, types[j], state[j], action.getSession() );
+					}
+				}
+			}
+			return true;
+		}
+
+		private static boolean hasAssociationInIdentifier(Type identifierType) {
+			if ( identifierType.isEntityType() ) {
+				return true;
+			}
+			if ( identifierType.isComponentType() ) {
+				for ( Type subtype : ( (CompositeType) identifierType ).getSubtypes() ) {
+					if ( hasAssociationInIdentifier( subtype ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private void addDependencies(int index, Type type, Object value, SharedSessionContractImplementor session) {
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				final Integer referenced = indexByInstance.get( value );
+				if ( referenced != null ) {
+					if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+						// the foreign key is held by the other side
+						addEdge( index, referenced );
+					}
+					else {
+						addEdge( referenced, index );
+					}
+				}
+			}
+			else if ( type.isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) type;
+				if ( collectionType.getElementType( factory ).isEntityType()
+						&& !factory.getMappingMetamodel().getCollectionDescriptor( collectionType.getRole() ).isManyToMany() ) {
+					// the elements of a one-to-many hold the foreign key
+					if ( value instanceof PersistentCollection && !( (PersistentCollection<?>) value ).wasInitialized() ) {
+						return;
+					}
+					final Collection<?> elements;
+					if ( value instanceof Map ) {
+						elements = ( (Map<?, ?>) value ).values();
+					}
+					else if ( value instanceof Collection ) {
+						elements = (Collection<?>) value;
+					}
+					else {
+						return;
+					}
+					for ( Object element : elements ) {
+						final Integer referenced = element == null ? null : indexByInstance.get( element );
+						if ( referenced != null ) {
+							addEdge( index, referenced );
+						}
+					}
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Object[] values = compositeType.getPropertyValues( value, session );
+				final Type[] subtypes = compositeType.getSubtypes();
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( values[i] != null ) {
+						addDependencies( index, subtypes[i], values[i], session );
+					}
+				}
+			}
+		}
+
+		private void addEdge(int from, int to) {
+			if ( from == to ) {
+				return;
+			}
+			if ( edgeCount == edgeTarget.length ) {
+				edgeTarget = Arrays.copyOf( edgeTarget, edgeCount << 1 );
+				nextEdge = Arrays.copyOf( nextEdge, edgeCount << 1 );
+			}
+			edgeTarget[edgeCount] = to;
+			nextEdge[edgeCount] = firstEdge[from];
+			firstEdge[from] = edgeCount++;
+			incoming[to]++;
+		}
+
+		/**
+		 * @return the action indexes in a topological order, preferring the original order,
+		 * or {@code null} if the graph contains a cycle
+		 */
+		private int[] topologicalOrder() {
+			final int size = firstEdge.length;
+			final int[] remaining = incoming.clone();
+			final int[] order = new int[size];
+			int head = 0;
+			int tail = 0;
+			for ( int i = 0; i < size; i++ ) {
+				if ( remaining[i] == 0 ) {
+					order[tail++] = i;
+				}
+			}
+			while ( head < tail ) {
+				final int current = order[head++];
+				for ( int edge = firstEdge[current]; edge >= 0; edge = nextEdge[edge] ) {
+					final int target = edgeTarget[edge];
+					if ( --remaining[target] == 0 ) {
+						order[tail++] = target;
+					}
+				}
+			}
+			return tail == size ? order : null;
+		}
+
+		/**
+		 * Computes the round of each action: the longest path leading to it, where an edge
+		 * between actions for different entity types has length 1, and all other edges 0.
+		 */
+		private int[] rounds(int[] order) {
+			final int[] rounds = new int[order.length];
+			for ( int current : order ) {
+				for ( int edge = firstEdge[current]; edge >= 0; edge = nextEdge[edge] ) {
+					final int target = edgeTarget[edge];
+					final int round = groups[current] == groups[target] ? rounds[current] : rounds[current] + 1;
+					if ( round > rounds[target] ) {
+						rounds[target] = round;
+					}
+				}
+			}
+			return rounds;
+		}
+	}
+}
@@ -163,6 +163,127 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcBatchExecution(String batchKey, int batchSize) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcBatchExecution( batchKey, batchSize );
+		}
+	}
+
+	@Override
+	public void queryInterpretationStart(String queryString) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryInterpretationStart( queryString );
+		}
+	}
+
+	@Override
+	public void queryInterpretationEnd(boolean cacheHit) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryInterpretationEnd( cacheHit );
+		}
+	}
+
+	@Override
+	public void sqlAstTranslationStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.sqlAstTranslationStart();
+		}
+	}
+
+	@Override
+	public void sqlAstTranslationEnd() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.sqlAstTranslationEnd();
+		}
+	}
+
+	@Override
+	public void sqlRenderingStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.sqlRenderingStart();
+		}
+	}
+
+	@Override
+	public void sqlRenderingEnd() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.sqlRenderingEnd();
+		}
+	}
+
+	@Override
+	public void queryExecutionStart(String queryIdentifier) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionStart( queryIdentifier );
+		}
+	}
+
+	@Override
+	public void queryExecutionEnd(String queryIdentifier) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionEnd( queryIdentifier );
+		}
+	}
+
+	@Override
+	public void resultSetProcessingStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultSetProcessingStart();
+		}
+	}
+
+	@Override
+	public void resultSetProcessingEnd(int rowCount) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultSetProcessingEnd( rowCount );
+		}
+	}
+
 	@Override
 	public void cachePutStart() {
 		if ( listeners == null ) {
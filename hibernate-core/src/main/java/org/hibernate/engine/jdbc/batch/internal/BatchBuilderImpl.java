@@ -10,12 +10,14 @@ import java.util.Collections;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
@@ -31,6 +33,7 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInsertsEnabled;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,6 +42,20 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertsEnabled Whether inserts should be batched using multi-row
+	 * inserts, when supported by the dialect
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERTS
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInsertsEnabled) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -47,6 +64,7 @@ public class BatchBuilderImpl implements BatchBuilder {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInsertsEnabled = multiRowInsertsEnabled;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +82,25 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInsertsEnabled ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getServiceRegistry()
+					.getService( JdbcServices.class )
+					.getDialect();
+			if ( dialect.supportsMultiRowInsertValues() && MultiRowInsertBatch.isApplicable( statementGroup ) ) {
+				return new MultiRowInsertBatch(
+						key,
+						statementGroup,
+						batchSize,
+						dialect.getParameterCountLimit(),
+						jdbcCoordinator
+				);
+			}
+		}
+
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
 	}
 
 
@@ -0,0 +1,448 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A {@link Batch} of inserts which, instead of relying on JDBC batching, collects the
+ * values of all rows and inserts them using statements of the form
+ * {@code insert into t (a, b) values (?, ?), (?, ?), ...}.  Many drivers send every
+ * statement of a JDBC batch to the database separately, so this saves a round trip per row.
+ * <p>
+ * Each statement inserts at most as many rows as allowed by the
+ * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter count limit}
+ * of the database.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERTS
+ * @see org.hibernate.dialect.Dialect#supportsMultiRowInsertValues()
+ */
+public class MultiRowInsertBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final Map<String, TableRows> rowsByTable;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			int parameterCountLimit,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.batchSizeToUse = batchSizeToUse;
+		this.statementGroup = statementGroup;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class );
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.rowsByTable = new LinkedHashMap<>();
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final MultiRowInsertSql sql = MultiRowInsertSql.parse( statementDetails.getSqlString() );
+			assert sql != null;
+			rowsByTable.put(
+					tableName,
+					new TableRows( statementDetails, sql, batchSizeToUse, parameterCountLimit )
+			);
+		} );
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Whether all statements of the given group are simple inserts generated by
+	 * Hibernate, which may be turned into multi-row inserts.  Custom SQL is
+	 * executed as it was written.
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup) {
+		return statementGroup.getNumberOfStatements() > 0
+				&& !statementGroup.hasMatching(
+						(statementDetails) -> statementDetails.isCallable()
+								|| isCustomSql( statementDetails )
+								|| MultiRowInsertSql.parse( statementDetails.getSqlString() ) == null
+				);
+	}
+
+	private static boolean isCustomSql(PreparedStatementDetails statementDetails) {
+		final TableMapping.MutationDetails insertDetails = statementDetails.getMutatingTableDetails().getInsertDetails();
+		return insertDetails != null && insertDetails.getCustomSql() != null;
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		for ( TableRows tableRows : rowsByTable.values() ) {
+			final PreparedStatementDetails statementDetails = tableRows.statementDetails;
+			if ( inclusionChecker != null && !inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+				continue;
+			}
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() );
+			final Binding[] row = new Binding[tableRows.sql.parameterCount];
+			if ( bindingGroup != null ) {
+				for ( Binding binding : bindingGroup.getBindings() ) {
+					row[binding.getPosition() - 1] = binding;
+				}
+			}
+			tableRows.rows.add( row );
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails(), session );
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		if ( batchPosition > 0 ) {
+			performExecution();
+		}
+		else if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef( "No rows to insert - %s", getKey().toLoggableString() );
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecution( batchPosition, batchSizeToUse );
+		}
+		session.getEventListenerManager().jdbcBatchExecution( getKey().toLoggableString(), batchPosition );
+
+		try {
+			for ( TableRows tableRows : rowsByTable.values() ) {
+				tableRows.execute( session );
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			for ( TableRows tableRows : rowsByTable.values() ) {
+				tableRows.rows.clear();
+			}
+			batchPosition = 0;
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		for ( TableRows tableRows : rowsByTable.values() ) {
+			tableRows.rows.clear();
+		}
+		batchPosition = 0;
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows collected for one of the tables of the batch
+	 */
+	private class TableRows {
+		private final PreparedStatementDetails statementDetails;
+		private final MultiRowInsertSql sql;
+		private final int maxRowsPerStatement;
+		private final List<Binding[]> rows;
+
+		private String fullStatementSql;
+
+		private TableRows(
+				PreparedStatementDetails statementDetails,
+				MultiRowInsertSql sql,
+				int batchSize,
+				int parameterCountLimit) {
+			this.statementDetails = statementDetails;
+			this.sql = sql;
+			this.maxRowsPerStatement = parameterCountLimit > 0 && sql.parameterCount > 0
+					? Math.max( 1, Math.min( batchSize, parameterCountLimit / sql.parameterCount ) )
+					: batchSize;
+			this.rows = new ArrayList<>( batchSize );
+		}
+
+		private void execute(SharedSessionContractImplementor session) {
+			final int rowCount = rows.size();
+			for ( int start = 0; start < rowCount; start += maxRowsPerStatement ) {
+				final int end = Math.min( rowCount, start + maxRowsPerStatement );
+				final String statementSql;
+				if ( end - start == maxRowsPerStatement ) {
+					if ( fullStatementSql == null ) {
+						fullStatementSql = sql.render( maxRowsPerStatement );
+					}
+					statementSql = fullStatementSql;
+				}
+				else {
+					statementSql = sql.render( end - start );
+				}
+				executeStatement( statementSql, start, end, session );
+			}
+		}
+
+		private void executeStatement(String statementSql, int start, int end, SharedSessionContractImplementor session) {
+			sqlStatementLogger.logStatement( statementSql );
+			final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( statementSql, false );
+			try {
+				int offset = 0;
+				for ( int i = start; i < end; i++ ) {
+					for ( Binding binding : rows.get( i ) ) {
+						if ( binding != null ) {
+							bind( statement, binding, offset + binding.getPosition(), session );
+						}
+					}
+					offset += sql.parameterCount;
+				}
+
+				final int insertedRows = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, statementSql );
+				if ( statementDetails.getExpectation() != Expectations.NONE ) {
+					checkRowCount( insertedRows, end - start, statementSql );
+				}
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		private void bind(PreparedStatement statement, Binding binding, int position, SharedSessionContractImplementor session) {
+			try {
+				binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert(
+						e,
+						String.format(
+								Locale.ROOT,
+								"Unable to bind parameter #%s - %s",
+								position,
+								binding.getValue()
+						)
+				);
+			}
+		}
+
+		private void checkRowCount(int insertedRows, int expectedRows, String statementSql) {
+			if ( insertedRows < expectedRows ) {
+				throw new StaleStateException(
+						"Unexpected row count: " + insertedRows + "; expected: " + expectedRows
+								+ "; statement executed: " + statementSql
+				);
+			}
+			if ( insertedRows > expectedRows ) {
+				throw new TooManyRowsAffectedException(
+						"Unexpected row count: " + insertedRows + "; expected: " + expectedRows,
+						expectedRows,
+						insertedRows
+				);
+			}
+		}
+	}
+
+	/**
+	 * The SQL of a single-row insert of form {@code insert into t (...) values (...)},
+	 * split into the part preceding the values tuple, and the tuple itself.
+	 */
+	static final class MultiRowInsertSql {
+		private final String prefix;
+		private final String tuple;
+		private final int parameterCount;
+
+		private MultiRowInsertSql(String prefix, String tuple, int parameterCount) {
+			this.prefix = prefix;
+			this.tuple = tuple;
+			this.parameterCount = parameterCount;
+		}
+
+		/**
+		 * @return the parsed insert, or {@code null} if the SQL is not a single-row insert
+		 * whose parameters all occur in the values tuple at the end of the statement
+		 */
+		static MultiRowInsertSql parse(String sql) {
+			final String trimmed = sql.trim();
+			final String lowerCase = trimmed.toLowerCase( Locale.ROOT );
+			if ( !lowerCase.startsWith( "insert " ) && !lowerCase.startsWith( "/*" )
+					|| !lowerCase.endsWith( ")" ) ) {
+				return null;
+			}
+
+			final int valuesIndex = lowerCase.lastIndexOf( " values " );
+			if ( valuesIndex < 0 || !lowerCase.substring( 0, valuesIndex ).contains( "insert " ) ) {
+				return null;
+			}
+			final int tupleStart = trimmed.indexOf( '(', valuesIndex );
+			if ( tupleStart < 0 || !trimmed.substring( valuesIndex + 8, tupleStart ).isBlank() ) {
+				return null;
+			}
+
+			// the tuple must extend to the end of the statement, and contain all the parameters
+			int depth = 0;
+			int parameterCount = 0;
+			boolean quoted = false;
+			for ( int i = tupleStart; i < trimmed.length(); i++ ) {
+				final char c = trimmed.charAt( i );
+				if ( c == '\'' ) {
+					quoted = !quoted;
+				}
+				else if ( !quoted ) {
+					if ( c == '(' ) {
+						depth++;
+					}
+					else if ( c == ')' ) {
+						depth--;
+						if ( depth == 0 && i != trimmed.length() - 1 ) {
+							return null;
+						}
+					}
+					else if ( c == '?' ) {
+						parameterCount++;
+					}
+					else if ( c == ';' ) {
+						return null;
+					}
+				}
+			}
+			if ( depth != 0 || quoted || countParameters( trimmed.substring( 0, tupleStart ) ) != 0 ) {
+				return null;
+			}
+
+			return new MultiRowInsertSql( trimmed.substring( 0, tupleStart ), trimmed.substring( tupleStart ), parameterCount );
+		}
+
+		private static int countParameters(String sql) {
+			int count = 0;
+			boolean quoted = false;
+			for ( int i = 0; i < sql.length(); i++ ) {
+				final char c = sql.charAt( i );
+				if ( c == '\'' ) {
+					quoted = !quoted;
+				}
+				else if ( c == '?' && !quoted ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		String render(int rows) {
+			final StringBuilder sql = new StringBuilder( prefix.length() + rows * ( tuple.length() + 1 ) );
+			sql.append( prefix ).append( tuple );
+			for ( int i = 1; i < rows; i++ ) {
+				sql.append( ',' ).append( tuple );
+			}
+			return sql.toString();
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.JdbcBatchPlanner;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -144,7 +145,12 @@ public class ActionQueue {
 						return instance.insertions;
 					}
 					ExecutableList<AbstractEntityInsertAction> init(ActionQueue instance) {
-						if ( instance.isOrderInsertsEnabled() ) {
+						if ( instance.isJdbcBatchPlanningEnabled() ) {
+							return instance.insertions = new ExecutableList<>(
+									JdbcBatchPlanner.INSERTS
+							);
+						}
+						else if ( instance.isOrderInsertsEnabled() ) {
 							return instance.insertions = new ExecutableList<>(
 									new InsertActionSorter()
 							);
@@ -164,6 +170,12 @@ public class ActionQueue {
 						return instance.updates;
 					}
 					ExecutableList<EntityUpdateAction> init(ActionQueue instance) {
+						if ( !instance.isOrderUpdatesEnabled() && instance.isJdbcBatchPlanningEnabled() ) {
+							// ordering by primary key already groups updates by entity type
+							return instance.updates = new ExecutableList<>(
+									JdbcBatchPlanner.UPDATES
+							);
+						}
 						return instance.updates = new ExecutableList<>(
 								instance.isOrderUpdatesEnabled()
 						);
@@ -788,11 +800,11 @@ public class ActionQueue {
 	}
 
 	public void sortActions() {
-		if ( isOrderUpdatesEnabled() && updates != null ) {
-			// sort the updates by pk
+		if ( ( isOrderUpdatesEnabled() || isJdbcBatchPlanningEnabled() ) && updates != null ) {
+			// sort the updates by pk, or group them by entity
 			updates.sort();
 		}
-		if ( isOrderInsertsEnabled() && insertions != null ) {
+		if ( ( isOrderInsertsEnabled() || isJdbcBatchPlanningEnabled() ) && insertions != null ) {
 			insertions.sort();
 		}
 	}
@@ -805,6 +817,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isJdbcBatchPlanningEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isJdbcBatchPlanningEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
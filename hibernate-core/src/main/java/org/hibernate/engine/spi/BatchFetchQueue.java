@@ -6,14 +6,14 @@
  */
 package org.hibernate.engine.spi;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BatchLoadableKeyQueue;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -49,15 +49,21 @@ public class BatchFetchQueue {
 	 * used by {@link #getBatchLoadableEntityIds} to build entity load batches.
 	 * <p>
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
-	 * type at a time.
+	 * type at a time.  The queue of each entity type maps the keys to their identifier.
 	 */
-	private Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private Map<String, BatchLoadableKeyQueue<EntityKey, Object>> batchLoadableEntityKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
 	 */
-	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+	private Map<String, BatchLoadableKeyQueue<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+
+	/**
+	 * The number of batch fetches of each entity name and collection role.  Unlike the keys, these are
+	 * not cleared with the queue: they count the batch fetches of the whole session.
+	 */
+	private Map<String, Integer> batchFetchCounts;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -129,6 +135,25 @@ public class BatchFetchQueue {
 		}
 	}
 
+	// batch fetch accounting ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register a batch fetch of the given entity or collection role, which is used to tune
+	 * the size of batch fetches when {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE}
+	 * is enabled.
+	 *
+	 * @param entityNameOrRole The entity name or the collection role
+	 *
+	 * @return The number of batch fetches of the same entity or collection role registered
+	 * before, in this session
+	 */
+	public int registerBatchFetch(String entityNameOrRole) {
+		if ( batchFetchCounts == null ) {
+			batchFetchCounts = CollectionHelper.mapOfSize( 12 );
+		}
+		return batchFetchCounts.merge( entityNameOrRole, 1, Integer::sum ) - 1;
+	}
+
 	// entity batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -146,12 +171,12 @@ public class BatchFetchQueue {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = CollectionHelper.mapOfSize( 12 );
 			}
-			final LinkedHashSet<EntityKey> keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
+			final BatchLoadableKeyQueue<EntityKey, Object> keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
 					key.getEntityName(),
-					k -> CollectionHelper.linkedSetOfSize( 8 )
+					k -> new BatchLoadableKeyQueue<>()
 			);
 
-			keysForEntity.add( key );
+			keysForEntity.add( key, key.getIdentifier() );
 		}
 	}
 
@@ -163,9 +188,9 @@ public class BatchFetchQueue {
 	 */
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( batchLoadableEntityKeys != null && key.isBatchLoadable() ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				set.remove(key);
+			final BatchLoadableKeyQueue<EntityKey, Object> keysForEntity = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( keysForEntity != null ) {
+				keysForEntity.remove( key );
 			}
 		}
 	}
@@ -175,18 +200,17 @@ public class BatchFetchQueue {
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( batchLoadableEntityKeys != null && key.isBatchLoadable() ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				return set.contains( key );
+			final BatchLoadableKeyQueue<EntityKey, Object> keysForEntity = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( keysForEntity != null ) {
+				return keysForEntity.contains( key );
 			}
 		}
 		return false;
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Get a batch of unloaded identifiers for this class, preferring the keys registered
+	 * immediately after the given key, then those registered immediately before it.
 	 */
 	public Object[] getBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor,
@@ -201,56 +225,43 @@ public class BatchFetchQueue {
 			return ids;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		// TODO: this needn't exclude subclasses...
 
-		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
-				}
-
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-						ids[i++] = key.getIdentifier();
-					}
-				}
-
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
-			}
+		final BatchLoadableKeyQueue<EntityKey, Object> keysForEntity =
+				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		if ( keysForEntity != null ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final BatchLoadableKeyQueue.CacheCheck cacheCheck = context.getSession().getCacheMode().isGetEnabled()
+					&& persister.canReadFromCache()
+					? batchIds -> areCached( batchIds, persister )
+					: null;
+			keysForEntity.fillBatch(
+					context.getSession().generateEntityKey( loadingId, persister ),
+					ids,
+					(key, id) -> id,
+					cacheCheck
+			);
 		}
 
-		//we ran out of ids to try
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private boolean[] areCached(List<Object> ids, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final List<Object> keys = new ArrayList<>( ids.size() );
+		for ( Object id : ids ) {
+			keys.add( cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() ) );
 		}
-		return false;
+		return cachedFlags( keys, CacheHelper.fromSharedCache( session, keys, cache ) );
+	}
+
+	private static boolean[] cachedFlags(List<Object> keys, Map<Object, Object> cachedValues) {
+		final boolean[] cached = new boolean[keys.size()];
+		for ( int i = 0; i < cached.length; i++ ) {
+			cached[i] = cachedValues.get( keys.get( i ) ) != null;
+		}
+		return cached;
 	}
 
 
@@ -267,13 +278,13 @@ public class BatchFetchQueue {
 			batchLoadableCollections = CollectionHelper.mapOfSize( 12 );
 		}
 
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+		final BatchLoadableKeyQueue<CollectionEntry, PersistentCollection<?>> collectionsForRole =
 				batchLoadableCollections.computeIfAbsent(
 						persister.getRole(),
-						k -> CollectionHelper.linkedMapOfSize( 16 )
+						k -> new BatchLoadableKeyQueue<>()
 				);
 
-		map.put( ce, collection );
+		collectionsForRole.add( ce, collection );
 	}
 
 	/**
@@ -285,10 +296,10 @@ public class BatchFetchQueue {
 		if ( batchLoadableCollections == null ) {
 			return;
 		}
-		LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+		final BatchLoadableKeyQueue<CollectionEntry, PersistentCollection<?>> collectionsForRole =
 				batchLoadableCollections.get( ce.getLoadedPersister().getRole() );
-		if ( map != null ) {
-			map.remove( ce );
+		if ( collectionsForRole != null ) {
+			collectionsForRole.remove( ce );
 		}
 	}
 
@@ -312,75 +323,60 @@ public class BatchFetchQueue {
 			return keys;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+		final BatchLoadableKeyQueue<CollectionEntry, PersistentCollection<?>> collectionsForRole =
 				batchLoadableCollections.get( collectionPersister.getRole() );
-		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final PersistentCollection<?> collection = me.getValue();
-
-				if ( ce.getLoadedKey() == null ) {
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-					continue;
-				}
-
-				if ( collection.wasInitialized() ) {
-					// should never happen
-					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-					continue;
-				}
-
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
-
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						ce.getLoadedKey(),
-						collectionPersister.getFactory()
-				);
-
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
-				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
-				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
-			}
+		if ( collectionsForRole != null ) {
+			final BatchLoadableKeyQueue.CacheCheck cacheCheck = context.getSession().getCacheMode().isGetEnabled()
+					&& collectionPersister.hasCache()
+					? batchKeys -> areCached( batchKeys, collectionPersister )
+					: null;
+			collectionsForRole.fillBatch(
+					getCollectionEntry( collectionPersister, id ),
+					keys,
+					(ce, collection) -> {
+						if ( ce.getLoadedKey() == null ) {
+							// the loadedKey of the collectionEntry might be null as it might have been reset to null
+							// (see for example Collections.processDereferencedCollection()
+							// and CollectionEntry.afterAction())
+							// though we clear the queue on flush, it seems like a good idea to guard
+							// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+							return null;
+						}
+
+						if ( collection.wasInitialized() ) {
+							// should never happen
+							LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
+							return null;
+						}
+
+						if ( collectionPersister.getKeyType().isEqual( id, ce.getLoadedKey(), collectionPersister.getFactory() ) ) {
+							// already the first key of the batch
+							return null;
+						}
+
+						return ce.getLoadedKey();
+					},
+					cacheCheck
+			);
 		}
-		return keys; //we ran out of keys to try
+		return keys;
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+	private CollectionEntry getCollectionEntry(CollectionPersister collectionPersister, Object id) {
+		final PersistentCollection<?> collection = context.getCollection( new CollectionKey( collectionPersister, id ) );
+		return collection == null ? null : context.getCollectionEntry( collection );
+	}
+
+	private boolean[] areCached(List<Object> collectionKeys, CollectionPersister persister) {
+		final SharedSessionContractImplementor session = context.getSession();
+		final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+		final List<Object> cacheKeys = new ArrayList<>( collectionKeys.size() );
+		for ( Object collectionKey : collectionKeys ) {
+			cacheKeys.add(
+					cache.generateCacheKey( collectionKey, persister, session.getFactory(), session.getTenantIdentifier() )
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
 		}
-		return false;
+		return cachedFlags( cacheKeys, CacheHelper.fromSharedCache( session, cacheKeys, cache ) );
 	}
 
 }
@@ -203,15 +203,29 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
-			// Update the status of the object and if necessary, schedule an update
+		final int parallelThreshold = source.getFactory().getSessionFactoryOptions()
+				.getFlushParallelDirtyCheckingThreshold();
+		if ( parallelThreshold > 0 && count >= parallelThreshold ) {
+			// compare the state of the entities in parallel, then
+			// schedule the updates serially, in the usual order
+			for ( FlushEntityEvent entityEvent : ParallelDirtyChecking.prepareFlushEntityEvents( source, entityEntries ) ) {
+				Status status = entityEvent.getEntityEntry().getStatus();
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				}
+			}
+		}
+		else {
+			for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+				// Update the status of the object and if necessary, schedule an update
 
-			EntityEntry entry = me.getValue();
-			Status status = entry.getStatus();
+				EntityEntry entry = me.getValue();
+				Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
-				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+					flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				}
 			}
 		}
 
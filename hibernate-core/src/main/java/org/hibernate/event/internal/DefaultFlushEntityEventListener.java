@@ -126,7 +126,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, event.getSession() );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -155,7 +155,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final SessionImplementor session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -168,8 +171,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already grabbed by parallel dirty checking
+			Object[] values = event.hasPrecomputedDirtyCheck()
+					? event.getPrecomputedPropertyValues()
+					: persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -317,6 +322,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final boolean intercepted = invokeInterceptor( event );
 		//now we might need to recalculate the dirtyProperties array
 		if ( intercepted && event.isDirtyCheckPossible() ) {
+			// the property values may have been modified in place
+			event.setPrecomputedDirtyCheck( null, null );
 			dirtyCheck( event );
 		}
 		return intercepted;
@@ -484,7 +491,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues()
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Performs the read-only part of flush-time dirty checking, that is, extracting the current
+ * state of each entity and comparing it with its loaded state, on the
+ * {@linkplain ForkJoinPool#commonPool() common fork/join pool}.  The outcome is attached to the
+ * {@link FlushEntityEvent}s, which are then fired serially on the thread of the session, as
+ * usual, by {@link AbstractFlushingEventListener}.
+ * <p>
+ * Only entities whose dirtiness is fully determined by their basic values take part: since
+ * comparing associations may hit the persistence context or the database, entities with
+ * associations, collections, or bytecode enhancement are left to the serial phase. Any
+ * failure in the parallel phase is swallowed, leaving the entity to the serial phase too,
+ * which then reports the problem in the usual way.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyChecking {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyChecking.class );
+
+	/**
+	 * The number of entities below which a partition is not split any further
+	 */
+	private static final int PARTITION_SIZE = 256;
+
+	private ParallelDirtyChecking() {
+	}
+
+	/**
+	 * Create the {@link FlushEntityEvent}s for the given entries, and precompute the dirty check
+	 * for those entities which are eligible.
+	 *
+	 * @return one event for each of the given entries, in the same order
+	 */
+	static FlushEntityEvent[] prepareFlushEntityEvents(EventSource session, Map.Entry<Object,EntityEntry>[] entityEntries) {
+		final FlushEntityEvent[] events = new FlushEntityEvent[entityEntries.length];
+		final FlushEntityEvent[] candidates = new FlushEntityEvent[entityEntries.length];
+		final Map<EntityPersister,Boolean> eligiblePersisters = new IdentityHashMap<>();
+		int candidateCount = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			final FlushEntityEvent event = new FlushEntityEvent( session, entity, entry );
+			events[i] = event;
+			if ( isEligible( entity, entry, eligiblePersisters ) ) {
+				candidates[candidateCount++] = event;
+			}
+		}
+
+		LOG.tracef( "Dirty checking %s of %s entities in parallel", candidateCount, events.length );
+		if ( candidateCount > 0 ) {
+			ForkJoinPool.commonPool().invoke(
+					new DirtyCheckAction( Arrays.copyOf( candidates, candidateCount ), 0, candidateCount )
+			);
+		}
+		return events;
+	}
+
+	private static boolean isEligible(Object entity, EntityEntry entry, Map<EntityPersister,Boolean> eligiblePersisters) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& entry.isModifiableEntity()
+			&& !isPersistentAttributeInterceptable( entity )
+			&& !isSelfDirtinessTracker( entity )
+			&& eligiblePersisters.computeIfAbsent( entry.getPersister(), ParallelDirtyChecking::isEligible );
+	}
+
+	private static boolean isEligible(EntityPersister persister) {
+		return !persister.hasCollections()
+			&& !persister.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+			&& hasOnlyBasicValues( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasOnlyBasicValues(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType() ) {
+				return false;
+			}
+			else if ( type.isComponentType() && !hasOnlyBasicValues( ( (CompositeType) type ).getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class DirtyCheckAction extends RecursiveAction {
+		private final FlushEntityEvent[] events;
+		private final int from;
+		private final int to;
+
+		private DirtyCheckAction(FlushEntityEvent[] events, int from, int to) {
+			this.events = events;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from <= PARTITION_SIZE ) {
+				for ( int i = from; i < to; i++ ) {
+					dirtyCheck( events[i] );
+				}
+			}
+			else {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll( new DirtyCheckAction( events, from, middle ), new DirtyCheckAction( events, middle, to ) );
+			}
+		}
+
+		private static void dirtyCheck(FlushEntityEvent event) {
+			final Object entity = event.getEntity();
+			final EntityEntry entry = event.getEntityEntry();
+			final EntityPersister persister = entry.getPersister();
+			try {
+				final Object[] values = persister.getValues( entity );
+				final int[] dirtyProperties = persister.findDirty( values, entry.getLoadedState(), entity, event.getSession() );
+				event.setPrecomputedDirtyCheck( values, dirtyProperties );
+			}
+			catch (RuntimeException e) {
+				// leave it to the serial phase
+				LOG.tracef( e, "Unable to dirty check entity in parallel" );
+			}
+		}
+	}
+}
@@ -19,6 +19,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private final EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -75,4 +77,24 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * The current state of the entity, and the outcome of comparing it with the
+	 * loaded state, if already determined before this event was fired.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
 }
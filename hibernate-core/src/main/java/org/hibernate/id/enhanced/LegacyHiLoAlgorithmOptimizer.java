@@ -9,6 +9,7 @@ package org.hibernate.id.enhanced;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -26,6 +27,8 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 
 	private final long initialMaxLo;
 
+	private final ReentrantLock lock = new ReentrantLock();
+
 	private static class GenerationState {
 		private long maxLo;
 		private long lo;
@@ -53,16 +56,22 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lo > generationState.maxLo ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.lo = generationState.lastSourceValue.eq( 0 ) ? 1 : 0;
-			generationState.hi = generationState.lastSourceValue.copy().multiplyBy( generationState.maxLo + 1 );
+	public Serializable generate(AccessCallback callback) {
+		lock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.lo > generationState.maxLo ) {
+				generationState.lastSourceValue = callback.getNextValue();
+				generationState.lo = generationState.lastSourceValue.eq( 0 ) ? 1 : 0;
+				generationState.hi = generationState.lastSourceValue.copy().multiplyBy( generationState.maxLo + 1 );
+			}
+			generationState.value = generationState.hi.copy().add( generationState.lo++ );
+			return generationState.value.makeValue();
+		}
+		finally {
+			lock.unlock();
 		}
-		generationState.value = generationState.hi.copy().add( generationState.lo++ );
-		return generationState.value.makeValue();
 	}
 
 	private GenerationState noTenantState;
@@ -108,8 +117,14 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue.copy();
+	public IntegralDataTypeHolder getLastSourceValue() {
+		lock.lock();
+		try {
+			return noTenantGenerationState().lastSourceValue.copy();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -125,7 +140,13 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	 * @return Value for property 'lastValue'.
 	 */
 	@SuppressWarnings( {"UnusedDeclaration"})
-	public synchronized IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value;
+	public IntegralDataTypeHolder getLastValue() {
+		lock.lock();
+		try {
+			return noTenantGenerationState().value;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 }
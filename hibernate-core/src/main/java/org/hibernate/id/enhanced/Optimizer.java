@@ -27,8 +27,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors are thread-safe. Implementations should guard the
+	 * access to the underlying source with a {@link java.util.concurrent.locks.Lock}
+	 * rather than a monitor, since the database access would otherwise pin the
+	 * carrier thread of a virtual thread.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
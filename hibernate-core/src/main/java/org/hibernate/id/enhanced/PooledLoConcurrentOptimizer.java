@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which does not serialize the generation of values.
+ * <p>
+ * Values are handed out from the current block by a compare-and-set, so that concurrent
+ * threads never block each other while the block lasts.  The database is only accessed
+ * under a {@link ReentrantLock}, never while holding a monitor, which keeps virtual threads
+ * from pinning their carrier thread during the round trip.  Once three quarters of the
+ * current block have been handed out, the thread obtaining that value fetches the next
+ * block ahead of time, so that other threads do not have to wait for the database when the
+ * current block is exhausted.  As a consequence, up to one block more than with
+ * {@link PooledLoOptimizer} may be lost when the application stops.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private static class Block {
+		// the value read from the db source
+		private final IntegralDataTypeHolder sourceValue;
+		// the next value to hand out
+		private final AtomicLong next;
+		// the value at which we'll use the next block
+		private final long upperLimit;
+		// the value at which we'll fetch the next block
+		private final long prefetchValue;
+
+		private Block(IntegralDataTypeHolder sourceValue, int incrementSize) {
+			this.sourceValue = sourceValue;
+			final long lo = sourceValue.makeValue().longValue();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			this.next = new AtomicLong( Math.max( lo, 1 ) );
+			this.upperLimit = lo + incrementSize;
+			this.prefetchValue = lo + incrementSize * 3L / 4;
+		}
+	}
+
+	private static class GenerationState {
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile Block current;
+		private volatile Block prefetched;
+	}
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoConcurrentOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = generationState.current;
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value < block.upperLimit ) {
+					if ( value == block.prefetchValue ) {
+						prefetch( generationState, block, callback );
+					}
+					return makeValue( value );
+				}
+			}
+			nextBlock( generationState, block, callback );
+		}
+	}
+
+	private void prefetch(GenerationState generationState, Block block, AccessCallback callback) {
+		// if another thread is already accessing the database, there is no need to wait for it
+		if ( generationState.lock.tryLock() ) {
+			try {
+				if ( generationState.current == block && generationState.prefetched == null ) {
+					generationState.prefetched = new Block( callback.getNextValue(), incrementSize );
+				}
+			}
+			finally {
+				generationState.lock.unlock();
+			}
+		}
+	}
+
+	private void nextBlock(GenerationState generationState, Block exhausted, AccessCallback callback) {
+		generationState.lock.lock();
+		try {
+			// another thread might have moved to the next block in the meantime
+			if ( generationState.current == exhausted ) {
+				final Block prefetched = generationState.prefetched;
+				if ( prefetched != null ) {
+					generationState.prefetched = null;
+					generationState.current = prefetched;
+				}
+				else {
+					generationState.current = new Block( callback.getNextValue(), incrementSize );
+				}
+			}
+		}
+		finally {
+			generationState.lock.unlock();
+		}
+	}
+
+	private Serializable makeValue(long value) {
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, (tenant) -> new GenerationState() );
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final Block prefetched = noTenantState.prefetched;
+		if ( prefetched != null ) {
+			return prefetched.sourceValue;
+		}
+		final Block current = noTenantState.current;
+		if ( current == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return current.sourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
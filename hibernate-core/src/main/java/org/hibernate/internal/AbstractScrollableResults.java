@@ -6,14 +6,27 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
 
 /**
  * Base implementation of the ScrollableResults interface intended for sharing between
@@ -29,6 +42,9 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
 
+	private final boolean detachScrolledEntities;
+	private Object previousRow;
+
 	private boolean closed;
 
 	public AbstractScrollableResults(
@@ -44,6 +60,8 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+		this.detachScrolledEntities = persistenceContext.isEventSource()
+				&& jdbcValuesSourceProcessingState.getQueryOptions().isDetachScrolledEntities();
 	}
 
 
@@ -82,9 +100,94 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	}
 
 	protected void afterScrollOperation() {
+		if ( detachScrolledEntities ) {
+			detachPreviousRow();
+		}
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Detach the entities of the row the cursor was positioned on before the
+	 * scroll operation, except for those which are also part of the current row.
+	 * Entities held by initialized collections of a detached entity, typically
+	 * fetched along with it over several rows, are detached too.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_SCROLLED
+	 */
+	private void detachPreviousRow() {
+		final Object currentRow = getCurrentRow();
+		final Object row = previousRow;
+		previousRow = currentRow;
+		if ( row != null && row != currentRow ) {
+			if ( row instanceof Object[] ) {
+				for ( Object element : (Object[]) row ) {
+					detach( element, currentRow );
+				}
+			}
+			else {
+				detach( row, currentRow );
+			}
+		}
+	}
+
+	private void detach(Object value, Object currentRow) {
+		if ( value != null && !isPartOf( value, currentRow ) ) {
+			final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContextInternal();
+			final EntityEntry entry = persistenceContext.getEntry( value );
+			if ( entry != null ) {
+				final EntityPersister persister = entry.getPersister();
+				final List<Object> elements = persister.hasCollections()
+						? collectInitializedCollectionElements( value, persister )
+						: Collections.emptyList();
+				final EventSource session = getPersistenceContext().asEventSource();
+				session.evict( value );
+				for ( Object element : elements ) {
+					if ( !isPartOf( element, currentRow ) && persistenceContext.isEntryFor( element ) ) {
+						session.evict( element );
+					}
+				}
+			}
+		}
+	}
+
+	private static List<Object> collectInitializedCollectionElements(Object entity, EntityPersister persister) {
+		final List<Object> elements = new ArrayList<>();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			if ( isEntityCollection( propertyTypes[i], persister ) ) {
+				final Object collection = persister.getValue( entity, i );
+				if ( collection instanceof PersistentCollection && ( (PersistentCollection<?>) collection ).wasInitialized() ) {
+					if ( collection instanceof Collection ) {
+						elements.addAll( (Collection<?>) collection );
+					}
+					else if ( collection instanceof Map ) {
+						elements.addAll( ( (Map<?, ?>) collection ).values() );
+					}
+				}
+			}
+		}
+		return elements;
+	}
+
+	private static boolean isEntityCollection(Type type, EntityPersister persister) {
+		return type.isCollectionType()
+			&& ( (CollectionType) type ).getElementType( persister.getFactory() ).isEntityType();
+	}
+
+	private static boolean isPartOf(Object value, Object row) {
+		if ( row instanceof Object[] ) {
+			for ( Object element : (Object[]) row ) {
+				if ( element == value ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		else {
+			return value == row;
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		getJdbcValues().setFetchSize(fetchSize);
@@ -102,6 +205,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 		getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 
+		this.previousRow = null;
 		this.closed = true;
 	}
 
@@ -657,6 +657,27 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return createQuery( queryString, null );
 	}
 
+	private HqlInterpretation interpretHql(String hqlString, Class<?> expectedResultType) {
+		final QueryEngine queryEngine = getFactory().getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final boolean[] cacheMiss = new boolean[1];
+		final SessionEventListenerManager eventListenerManager = getEventListenerManager();
+		eventListenerManager.queryInterpretationStart( hqlString );
+		try {
+			return interpretationCache.resolveHqlInterpretation(
+					hqlString,
+					expectedResultType,
+					(s) -> {
+						cacheMiss[0] = true;
+						return queryEngine.getHqlTranslator().translate( hqlString, expectedResultType );
+					}
+			);
+		}
+		finally {
+			eventListenerManager.queryInterpretationEnd( !cacheMiss[0] );
+		}
+	}
+
 	@Override
 	public SelectionQuery<?> createSelectionQuery(String hqlString) {
 		return internalCreateSelectionQuery( hqlString, null );
@@ -668,13 +689,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		delayedAfterCompletion();
 
 		try {
-			final QueryEngine queryEngine = getFactory().getQueryEngine();
-			final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-			final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
-					hqlString,
-					expectedResultType,
-					(s) -> queryEngine.getHqlTranslator().translate( hqlString, expectedResultType )
-			);
+			final HqlInterpretation hqlInterpretation = interpretHql( hqlString, expectedResultType );
 
 			if ( !( hqlInterpretation.getSqmStatement() instanceof SqmSelectStatement ) ) {
 				throw new IllegalSelectQueryException( "Expecting a selection query, but found `" + hqlString + "`", hqlString );
@@ -731,16 +746,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		delayedAfterCompletion();
 
 		try {
-			final QueryEngine queryEngine = getFactory().getQueryEngine();
-			final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-
 			final QuerySqmImpl<T> query = new QuerySqmImpl<>(
 					queryString,
-					interpretationCache.resolveHqlInterpretation(
-							queryString,
-							expectedResultType,
-							s -> queryEngine.getHqlTranslator().translate( queryString, expectedResultType )
-					),
+					interpretHql( queryString, expectedResultType ),
 					expectedResultType,
 					this
 			);
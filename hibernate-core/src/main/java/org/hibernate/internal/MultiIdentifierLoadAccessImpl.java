@@ -32,6 +32,7 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 	private GraphSemantic graphSemantic;
 
 	private Integer batchSize;
+	private int parallelism = 1;
 	private boolean sessionCheckingEnabled;
 	private boolean returnOfDeletedEntitiesEnabled;
 	private boolean orderedReturnEnabled = true;
@@ -81,6 +82,17 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 		return this;
 	}
 
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess<T> withParallelism(int parallelism) {
+		this.parallelism = Math.max( 1, parallelism );
+		return this;
+	}
+
 	@Override
 	public boolean isSessionCheckingEnabled() {
 		return sessionCheckingEnabled;
@@ -120,6 +120,8 @@ import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 import org.hibernate.service.spi.SessionFactoryServiceRegistryFactory;
+import org.hibernate.stat.QueryExecutionProfile;
+import org.hibernate.stat.QueryExecutionProfiler;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tool.schema.spi.DelayedDropAction;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
@@ -383,6 +385,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.defaultSessionOpenOptions = createDefaultSessionOpenOptionsIfPossible();
 			this.temporarySessionOpenOptions = this.defaultSessionOpenOptions == null ? null : buildTemporarySessionOpenOptions();
 			this.defaultStatelessOptions = this.defaultSessionOpenOptions == null ? null : withStatelessOptions();
+			if ( sessionFactoryOptions.isQueryExecutionProfilingEnabled() ) {
+				sessionFactoryOptions.getBaselineSessionEventsListenerBuilder()
+						.addListenerSupplier( () -> new QueryExecutionProfiler( this::queryExecutionProfiled ) );
+			}
 			this.fastSessionServices = new FastSessionServices( this );
 			this.wrapperOptions = new SessionFactoryBasedWrapperOptions( this );
 
@@ -966,6 +972,13 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return statistics;
 	}
 
+	private void queryExecutionProfiled(QueryExecutionProfile profile) {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryExecutionProfiled( profile );
+		}
+	}
+
 	public FilterDefinition getFilterDefinition(String filterName) throws HibernateException {
 		FilterDefinition def = filters.get( filterName );
 		if ( def == null ) {
@@ -0,0 +1,547 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded concurrent cache with a lock-free read path, using a simplified
+ * <a href="https://arxiv.org/abs/1512.00727">W-TinyLFU</a> eviction policy.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, so {@link #get} is never blocked.
+ * Instead of updating the eviction policy on every access (which is what makes
+ * {@link BoundedConcurrentHashMap} contend on its segment locks), accesses are
+ * recorded in striped, lossy ring buffers and writes in a queue.  Both are replayed
+ * against the policy in batches, by whichever thread manages to
+ * {@linkplain ReentrantLock#tryLock() acquire} the policy lock; threads which do not
+ * get the lock just carry on.
+ * <p>
+ * The policy itself consists of:
+ * <ul>
+ *     <li>an admission window, a small LRU which absorbs bursts of new entries,
+ *     <li>a main space, a segmented LRU split into a probation and a protected segment, and
+ *     <li>a frequency sketch, a 4-bit count-min sketch with periodic aging, used to
+ *     decide whether an entry leaving the window should be admitted to the main space
+ *     at the expense of the main space's eviction victim.
+ * </ul>
+ * Because the policy is maintained asynchronously, the cache may briefly exceed its
+ * maximum size.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ConcurrentTinyLfuCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 4;
+	private static final int NUMBER_OF_READ_BUFFERS = ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() );
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final int maximumSize;
+	private final BiConsumer<K, V> evictionListener;
+
+	private final ReadBuffer[] readBuffers;
+	private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock policyLock = new ReentrantLock();
+
+	// policy state, only accessed while holding the policy lock
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+
+	/**
+	 * Creates a cache holding at most (approximately) the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified of each entry evicted because of the size bound; may be {@code null}
+	 */
+	public ConcurrentTinyLfuCache(int maximumSize, BiConsumer<K, V> evictionListener) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive : " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8 );
+		this.readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+		for ( int i = 0; i < readBuffers.length; i++ ) {
+			readBuffers[i] = new ReadBuffer();
+		}
+	}
+
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		recordRead( node );
+		return node.value;
+	}
+
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> previous = data.put( key, node );
+		if ( previous != null ) {
+			previous.retired = true;
+			afterWrite( () -> onRemove( previous ) );
+		}
+		afterWrite( () -> onAdd( node ) );
+	}
+
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = data.get( key );
+		if ( existing != null ) {
+			recordRead( existing );
+			return existing.value;
+		}
+		final Node<K, V>[] added = newNodeHolder();
+		final Node<K, V> node = data.computeIfAbsent(
+				key,
+				k -> {
+					final V value = mappingFunction.apply( k );
+					return value == null ? null : ( added[0] = new Node<>( k, value ) );
+				}
+		);
+		if ( node == null ) {
+			return null;
+		}
+		if ( added[0] == node ) {
+			afterWrite( () -> onAdd( node ) );
+		}
+		else {
+			recordRead( node );
+		}
+		return node.value;
+	}
+
+	public V remove(K key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		node.retired = true;
+		afterWrite( () -> onRemove( node ) );
+		return node.value;
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public void clear() {
+		policyLock.lock();
+		try {
+			data.clear();
+			writeBuffer.clear();
+			for ( ReadBuffer readBuffer : readBuffers ) {
+				readBuffer.drain( node -> {} );
+			}
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	/**
+	 * Replays all pending reads and writes against the eviction policy, waiting for
+	 * the policy lock if needed.  Normally this happens opportunistically.
+	 */
+	public void cleanUp() {
+		policyLock.lock();
+		try {
+			drainBuffers();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Node<K, V>[] newNodeHolder() {
+		return new Node[1];
+	}
+
+	private void recordRead(Node<K, V> node) {
+		final ReadBuffer buffer = readBuffers[(int) Thread.currentThread().getId() & ( readBuffers.length - 1 )];
+		if ( buffer.offer( node ) >= READ_BUFFER_DRAIN_THRESHOLD ) {
+			tryDrain();
+		}
+	}
+
+	private void afterWrite(Runnable task) {
+		writeBuffer.add( task );
+		tryDrain();
+	}
+
+	private void tryDrain() {
+		if ( policyLock.tryLock() ) {
+			try {
+				drainBuffers();
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private void drainBuffers() {
+		for ( ReadBuffer readBuffer : readBuffers ) {
+			readBuffer.drain( this::onRead );
+		}
+		Runnable task;
+		while ( ( task = writeBuffer.poll() ) != null ) {
+			task.run();
+		}
+		evictEntries();
+	}
+
+	private void onRead(Node<K, V> node) {
+		if ( node.retired ) {
+			return;
+		}
+		sketch.increment( node.key );
+		if ( !node.isLinked() ) {
+			// the corresponding write is still pending
+			return;
+		}
+		switch ( node.segment ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.segment = PROTECTED;
+				protectedSegment.add( node );
+				while ( protectedSegment.size > maximumProtectedSize ) {
+					final Node<K, V> demoted = protectedSegment.poll();
+					demoted.segment = PROBATION;
+					probation.add( demoted );
+				}
+				break;
+			default:
+				protectedSegment.moveToBack( node );
+		}
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if ( node.retired || node.isLinked() ) {
+			return;
+		}
+		sketch.increment( node.key );
+		node.segment = WINDOW;
+		window.add( node );
+	}
+
+	private void onRemove(Node<K, V> node) {
+		if ( node.isLinked() ) {
+			segmentOf( node ).remove( node );
+		}
+	}
+
+	private AccessOrderDeque<K, V> segmentOf(Node<K, V> node) {
+		switch ( node.segment ) {
+			case WINDOW:
+				return window;
+			case PROBATION:
+				return probation;
+			default:
+				return protectedSegment;
+		}
+	}
+
+	private void evictEntries() {
+		// entries overflowing the window become candidates for the main space
+		Node<K, V> candidate = null;
+		while ( window.size > maximumWindowSize ) {
+			final Node<K, V> node = window.poll();
+			node.segment = PROBATION;
+			probation.add( node );
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		// each candidate, oldest first, competes against the probation segment's least recently
+		// used entry: the loser is evicted, and the winner stays in the competition
+		while ( linkedSize() > maximumSize ) {
+			final Node<K, V> victim = probation.peek();
+			if ( victim == null ) {
+				evict( protectedSegment.isEmpty() ? window.peek() : protectedSegment.peek() );
+			}
+			else if ( candidate == null ) {
+				evict( victim );
+			}
+			else if ( victim == candidate ) {
+				// only candidates are left in probation
+				candidate = victim.next;
+				evict( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evict( victim );
+			}
+			else {
+				final Node<K, V> loser = candidate;
+				candidate = loser.next;
+				evict( loser );
+			}
+		}
+	}
+
+	private int linkedSize() {
+		return window.size + probation.size + protectedSegment.size;
+	}
+
+	private void evict(Node<K, V> node) {
+		segmentOf( node ).remove( node );
+		if ( data.remove( node.key, node ) ) {
+			node.retired = true;
+			if ( evictionListener != null ) {
+				evictionListener.accept( node.key, node.value );
+			}
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return 1 << -Integer.numberOfLeadingZeros( Math.max( 1, value ) - 1 );
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private volatile boolean retired;
+
+		// policy state, guarded by the policy lock
+		private byte segment;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+		private boolean linked;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		private boolean isLinked() {
+			return linked;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes in access order, least recently used first.
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private boolean isEmpty() {
+			return size == 0;
+		}
+
+		private Node<K, V> peek() {
+			return first;
+		}
+
+		private void add(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			node.linked = true;
+			size++;
+		}
+
+		private Node<K, V> poll() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.linked = false;
+			size--;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				add( node );
+			}
+		}
+
+		private void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.linked = false;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A lossy, bounded, multiple-producer single-consumer ring buffer of read events.
+	 * When full, new events are simply discarded.
+	 */
+	private static final class ReadBuffer {
+		private final AtomicLong writeCounter = new AtomicLong();
+		private final AtomicReferenceArray<Node<?, ?>> slots = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		// only updated while holding the policy lock
+		private volatile long readCounter;
+
+		/**
+		 * @return the number of pending events
+		 */
+		private int offer(Node<?, ?> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final int pending = (int) ( tail - head );
+			if ( pending >= READ_BUFFER_SIZE ) {
+				return pending;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				slots.lazySet( (int) ( tail & READ_BUFFER_MASK ), node );
+				return pending + 1;
+			}
+			return pending;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <K, V> void drain(Consumer<Node<K, V>> consumer) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			while ( head < tail ) {
+				final int index = (int) ( head & READ_BUFFER_MASK );
+				final Node<?, ?> node = slots.get( index );
+				if ( node == null ) {
+					// the producer has claimed the slot but not yet published the event
+					break;
+				}
+				slots.lazySet( index, null );
+				consumer.accept( (Node<K, V>) node );
+				head++;
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * A count-min sketch with four 4-bit counters per key, halved periodically so that
+	 * the frequencies reflect recent history.
+	 */
+	private static final class FrequencySketch {
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		private FrequencySketch(int maximumSize) {
+			final int length = ceilingPowerOfTwo( Math.max( 16, maximumSize ) );
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * Math.max( 16, maximumSize );
+		}
+
+		private void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), ( ( hash >>> ( i << 3 ) ) & 3 ) << 2 | i );
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int counter = ( ( hash >>> ( i << 3 ) ) & 3 ) << 2 | i;
+				final int count = (int) ( ( table[indexOf( hash, i )] >>> ( counter << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private int indexOf(int hash, int depth) {
+			long h = ( hash + 0x9E3779B97F4A7C15L * ( depth + 1 ) ) * 0xBF58476D1CE4E5B9L;
+			h += h >>> 32;
+			return (int) h & tableMask;
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions >>>= 1;
+		}
+
+		private static int spread(int hash) {
+			final int h = hash * 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+	}
+}
@@ -56,6 +56,23 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that entities returned by a scrolled or streamed
+	 * query should be detached from the persistence context once the cursor
+	 * has moved past them, so that iterating over a very large number of
+	 * results does not require an ever-growing persistence context.
+	 * <p>
+	 * Changes made to an entity are lost once it has been detached, so this
+	 * is mainly useful for read-only processing, for example data exports.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#scroll
+	 * @see org.hibernate.query.SelectionQuery#stream
+	 * @see org.hibernate.cfg.AvailableSettings#SCROLL_FETCH_SIZE
+	 *
+	 * @since 6.2
+	 */
+	String HINT_DETACH_SCROLLED = "org.hibernate.detachScrolled";
+
 	/**
 	 * Hint for specifying whether results from a query should
 	 * be stored in the query cache
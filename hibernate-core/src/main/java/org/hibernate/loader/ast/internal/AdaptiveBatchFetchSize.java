@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * The size of the batch fetches of an entity or of a collection role, tuned at runtime
+ * from the batch fetches observed, between the bounds configured by
+ * {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE} and
+ * {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE}.
+ * <ul>
+ *     <li>When a session fetches a full batch, and had already fetched a batch of the
+ *     same entity or collection before, the size is doubled: the session is working
+ *     through more keys than a batch holds, one batch after the other.</li>
+ *     <li>When a batch fetch initializes fewer than half as many entities or collections
+ *     as the size allows, the size is halved: the session does not have enough keys
+ *     queued to fill the batches, which only pad their parameters.</li>
+ * </ul>
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+ */
+public class AdaptiveBatchFetchSize {
+	private final int minSize;
+	private final int maxSize;
+	private final AtomicInteger size;
+
+	/**
+	 * The size of the batch fetches of an entity or collection with the given configured
+	 * batch size, or {@code null} if the size is not tuned at runtime.
+	 */
+	public static AdaptiveBatchFetchSize create(int batchSize, SessionFactoryImplementor sessionFactory) {
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		if ( batchSize <= 1 || !options.isAdaptiveBatchFetchEnabled() ) {
+			return null;
+		}
+		return new AdaptiveBatchFetchSize(
+				batchSize,
+				options.getAdaptiveBatchFetchMinSize(),
+				options.getAdaptiveBatchFetchMaxSize()
+		);
+	}
+
+	public AdaptiveBatchFetchSize(int initialSize, int minSize, int maxSize) {
+		this.minSize = Math.max( 2, minSize );
+		this.maxSize = Math.max( this.minSize, maxSize );
+		this.size = new AtomicInteger( Math.min( this.maxSize, Math.max( this.minSize, initialSize ) ) );
+	}
+
+	/**
+	 * The size of the next batch fetch.
+	 */
+	public int getSize() {
+		return size.get();
+	}
+
+	/**
+	 * Account for a batch fetch, and tune the size accordingly.
+	 *
+	 * @param batchSize The size the batch was assembled with, as returned by {@link #getSize()}
+	 * @param keyCount The number of keys fetched
+	 * @param initializedCount The number of entities or collections initialized by the fetch,
+	 * that is the number of keys for which rows were returned
+	 * @param previousBatchFetchCount The number of batch fetches of the same entity or
+	 * collection, which the session did before
+	 *
+	 * @return The size of the next batch fetch
+	 */
+	public int recordBatchFetch(int batchSize, int keyCount, int initializedCount, int previousBatchFetchCount) {
+		if ( initializedCount * 2 < batchSize ) {
+			if ( batchSize > minSize ) {
+				size.compareAndSet( batchSize, Math.max( minSize, batchSize / 2 ) );
+			}
+		}
+		else if ( keyCount >= batchSize && previousBatchFetchCount > 0 ) {
+			if ( batchSize < maxSize ) {
+				size.compareAndSet( batchSize, (int) Math.min( maxSize, batchSize * 2L ) );
+			}
+		}
+		// if the size was tuned concurrently, by another batch fetch, keep that
+		return size.get();
+	}
+}
@@ -17,11 +17,13 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -29,7 +31,9 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -37,6 +41,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -50,34 +55,64 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final PluralAttributeMapping attributeMapping;
 	private final int batchSize;
+	private final AdaptiveBatchFetchSize adaptiveBatchSize;
 
 	private final int keyJdbcCount;
 
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
 
+	// when the keys are bound as a single array parameter, the SQL serves any number of keys
+	private final JdbcMapping arrayJdbcMapping;
+	private final JdbcParameter arrayParameter;
+	private final JdbcOperationQuerySelect arrayJdbcSelect;
+
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
 			int batchSize,
+			AdaptiveBatchFetchSize adaptiveBatchSize,
 			LoadQueryInfluencers influencers,
 			SessionFactoryImplementor sessionFactory) {
 		this.attributeMapping = attributeMapping;
 		this.batchSize = batchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
-				attributeMapping.getKeyDescriptor(),
-				null,
-				batchSize,
-				influencers,
-				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
-				sessionFactory
-		);
+		this.arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping( attributeMapping.getKeyDescriptor(), sessionFactory );
+		if ( arrayJdbcMapping != null ) {
+			this.arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			this.batchSizeJdbcParameters = Collections.singletonList( arrayParameter );
+			this.batchSizeSqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					attributeMapping,
+					attributeMapping.getKeyDescriptor(),
+					influencers,
+					LockOptions.NONE,
+					arrayParameter,
+					sessionFactory
+			);
+			this.arrayJdbcSelect = sessionFactory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildSelectTranslator( sessionFactory, batchSizeSqlAst )
+					.translate( null, QueryOptions.NONE );
+		}
+		else {
+			this.arrayParameter = null;
+			this.arrayJdbcSelect = null;
+			this.batchSizeJdbcParameters = new ArrayList<>();
+			this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
+					attributeMapping,
+					null,
+					attributeMapping.getKeyDescriptor(),
+					null,
+					batchSize,
+					influencers,
+					LockOptions.NONE,
+					batchSizeJdbcParameters::add,
+					sessionFactory
+			);
+		}
 	}
 
 	@Override
@@ -89,6 +124,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	public PersistentCollection<?> load(
 			Object key,
 			SharedSessionContractImplementor session) {
+		final int batchSize = adaptiveBatchSize == null ? this.batchSize : adaptiveBatchSize.getSize();
 		final Object[] batchIds = session.getPersistenceContextInternal()
 				.getBatchFetchQueue()
 				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
@@ -119,7 +155,13 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			).load( key, session );
 		}
 		else {
-			batchLoad( batchIds, numberOfIds , session );
+			if ( arrayJdbcMapping != null ) {
+				batchLoadByArrayParameter( batchIds, numberOfIds, session );
+			}
+			else {
+				batchLoad( batchIds, numberOfIds, batchSize, session );
+			}
+			recordBatchFetch( batchIds, numberOfIds, batchSize, session );
 		}
 
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
@@ -129,6 +171,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	private void batchLoad(
 			Object[] batchIds,
 			int numberOfIds,
+			int batchSize,
 			SharedSessionContractImplementor session) {
 		if ( log.isDebugEnabled() ) {
 			log.debugf(
@@ -145,7 +188,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			final List<JdbcParameter> jdbcParameters;
 			final SelectStatement sqlAst;
 
-			if ( smallBatchLength == batchSize ) {
+			if ( smallBatchLength == this.batchSize ) {
 				jdbcParameters = this.batchSizeJdbcParameters;
 				sqlAst = this.batchSizeSqlAst;
 			}
@@ -157,7 +200,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 						null,
 						getLoadable().getKeyDescriptor(),
 						null,
-						numberOfIds,
+						smallBatchLength,
 						session.getLoadQueryInfluencers(),
 						LockOptions.NONE,
 						jdbcParameters::add,
@@ -201,38 +244,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			jdbcServices.getJdbcSelectExecutor().list(
 					jdbcSelect,
 					jdbcParameterBindings,
-					new ExecutionContext() {
-						@Override
-						public SharedSessionContractImplementor getSession() {
-							return session;
-						}
-
-						@Override
-						public QueryOptions getQueryOptions() {
-							return QueryOptions.NONE;
-						}
-
-						@Override
-						public String getQueryIdentifier(String sql) {
-							return sql;
-						}
-
-						@Override
-						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-							subSelectFetchableKeysHandler.addKey( entityKey, entry );
-						}
-
-						@Override
-						public QueryParameterBindings getQueryParameterBindings() {
-							return QueryParameterBindings.NO_PARAM_BINDINGS;
-						}
-
-						@Override
-						public Callback getCallback() {
-							return null;
-						}
-
-					},
+					getExecutionContext( session, subSelectFetchableKeysHandler ),
 					RowTransformerStandardImpl.instance(),
 					ListResultsConsumer.UniqueSemantic.FILTER
 			);
@@ -247,4 +259,111 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private void batchLoadByArrayParameter(
+			Object[] batchIds,
+			int numberOfIds,
+			SharedSessionContractImplementor session) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Batch loading collection [%s] : %s",
+					getLoadable().getCollectionDescriptor().getRole(),
+					batchIds
+			);
+		}
+
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcParameterBindings.addBinding(
+				arrayParameter,
+				new JdbcParameterBindingImpl(
+						arrayJdbcMapping,
+						LoaderHelper.createTypedArray( arrayJdbcMapping, batchIds, numberOfIds )
+				)
+		);
+		arrayJdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				batchSizeSqlAst,
+				batchSizeJdbcParameters,
+				jdbcParameterBindings
+		);
+
+		sessionFactory.getJdbcServices().getJdbcSelectExecutor().list(
+				arrayJdbcSelect,
+				jdbcParameterBindings,
+				getExecutionContext( session, subSelectFetchableKeysHandler ),
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+
+	private void recordBatchFetch(
+			Object[] batchIds,
+			int numberOfIds,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final String role = getLoadable().getCollectionDescriptor().getRole();
+		int nextBatchSize = batchSize;
+		if ( adaptiveBatchSize != null ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			int initializedCount = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				final PersistentCollection<?> collection = persistenceContext.getCollection(
+						new CollectionKey( attributeMapping.getCollectionDescriptor(), batchIds[i] )
+				);
+				if ( collection != null && collection.wasInitialized() ) {
+					initializedCount++;
+				}
+			}
+			nextBatchSize = adaptiveBatchSize.recordBatchFetch(
+					batchSize,
+					numberOfIds,
+					initializedCount,
+					persistenceContext.getBatchFetchQueue().registerBatchFetch( role )
+			);
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetchCollection( role, nextBatchSize );
+		}
+	}
+
+	private ExecutionContext getExecutionContext(
+			SharedSessionContractImplementor session,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler) {
+		return new ExecutionContext() {
+			@Override
+			public SharedSessionContractImplementor getSession() {
+				return session;
+			}
+
+			@Override
+			public QueryOptions getQueryOptions() {
+				return QueryOptions.NONE;
+			}
+
+			@Override
+			public String getQueryIdentifier(String sql) {
+				return sql;
+			}
+
+			@Override
+			public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+				subSelectFetchableKeysHandler.addKey( entityKey, entry );
+			}
+
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return QueryParameterBindings.NO_PARAM_BINDINGS;
+			}
+
+			@Override
+			public Callback getCallback() {
+				return null;
+			}
+
+		};
+	}
 }
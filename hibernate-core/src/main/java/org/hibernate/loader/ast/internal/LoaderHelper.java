@@ -6,17 +6,27 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.lang.reflect.Array;
+
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.LoaderLogging;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicPluralType;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
+import org.hibernate.type.spi.TypeConfiguration;
 
 /**
  * @author Steve Ebersole
@@ -80,4 +90,63 @@ public class LoaderHelper {
 
 		}
 	}
+
+	/**
+	 * Resolve the mapping of an array of the values of the given key, if the dialect binds the
+	 * keys of a batch fetch as a single array parameter, and the key maps to a single column
+	 * of a basic type which can be an array element.
+	 *
+	 * @return The mapping of the array, or {@code null} if the keys must be bound one by one
+	 *
+	 * @see Dialect#useArrayForMultiValuedParameters()
+	 * @see LoaderSelectBuilder#createSelectBySingleArrayParameter
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( !dialect.useArrayForMultiValuedParameters() || keyPart.getJdbcTypeCount() != 1 ) {
+			return null;
+		}
+
+		final JdbcMapping jdbcMapping = keyPart.getJdbcMappings().get( 0 );
+		if ( !( jdbcMapping instanceof BasicType<?> ) || jdbcMapping.getValueConverter() != null ) {
+			return null;
+		}
+		final Class<?> javaTypeClass = jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+		if ( javaTypeClass == null || javaTypeClass.isArray() ) {
+			return null;
+		}
+
+		return resolveArrayType( (BasicType<?>) jdbcMapping, sessionFactory.getTypeConfiguration(), dialect );
+	}
+
+	private static <T> JdbcMapping resolveArrayType(
+			BasicType<T> elementType,
+			TypeConfiguration typeConfiguration,
+			Dialect dialect) {
+		final BasicType<?> arrayType = new ArrayJavaType<>( elementType.getJavaTypeDescriptor() )
+				.resolveType( typeConfiguration, dialect, elementType, null );
+		if ( !( arrayType instanceof BasicPluralType<?, ?> ) ) {
+			return null;
+		}
+		// the array type is registered by Java type, make sure its elements are bound like the key
+		final BasicType<?> arrayElementType = ( (BasicPluralType<?, ?>) arrayType ).getElementType();
+		if ( arrayElementType.getJdbcType().getDefaultSqlTypeCode()
+				!= elementType.getJdbcType().getDefaultSqlTypeCode() ) {
+			return null;
+		}
+		return arrayType;
+	}
+
+	/**
+	 * Copy the first keys of the given array to an array of the type bound by a mapping
+	 * resolved by {@link #resolveArrayJdbcMapping}
+	 */
+	public static Object[] createTypedArray(JdbcMapping arrayJdbcMapping, Object[] keys, int numberOfKeys) {
+		final Class<?> elementClass = ( (BasicPluralType<?, ?>) arrayJdbcMapping ).getElementType()
+				.getJavaTypeDescriptor()
+				.getJavaTypeClass();
+		final Object[] array = (Object[]) Array.newInstance( elementClass, numberOfKeys );
+		System.arraycopy( keys, 0, array, 0, numberOfKeys );
+		return array;
+	}
 }
@@ -68,6 +68,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
@@ -130,6 +131,7 @@ public class LoaderSelectBuilder {
 				Collections.singletonList( restrictedPart ),
 				cachedDomainResult,
 				numberOfKeysToLoad,
+				null,
 				loadQueryInfluencers,
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
@@ -203,6 +205,46 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching any of the keys of an array
+	 * bound to a single parameter, so that the SQL does not depend on the number of keys
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on, which must map to a single column
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param arrayParameter The parameter to which the array of keys is bound
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+	 * @see LoaderHelper#resolveArrayJdbcMapping
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter arrayParameter,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				arrayParameter,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				(jdbcParameter) -> {}
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -245,6 +287,7 @@ public class LoaderSelectBuilder {
 	private final List<ModelPart> restrictedParts;
 	private final DomainResult cachedDomainResult;
 	private final int numberOfKeysToLoad;
+	private final JdbcParameter arrayParameter;
 	private final boolean forceIdentifierSelection;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
@@ -263,6 +306,7 @@ public class LoaderSelectBuilder {
 			List<ModelPart> restrictedParts,
 			DomainResult cachedDomainResult,
 			int numberOfKeysToLoad,
+			JdbcParameter arrayParameter,
 			LoadQueryInfluencers loadQueryInfluencers,
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
@@ -274,6 +318,7 @@ public class LoaderSelectBuilder {
 		this.restrictedParts = restrictedParts;
 		this.cachedDomainResult = cachedDomainResult;
 		this.numberOfKeysToLoad = numberOfKeysToLoad;
+		this.arrayParameter = arrayParameter;
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.lockOptions = lockOptions;
 		this.entityGraphTraversalState = entityGraphTraversalState;
@@ -298,6 +343,7 @@ public class LoaderSelectBuilder {
 				restrictedParts,
 				cachedDomainResult,
 				numberOfKeysToLoad,
+				null,
 				loadQueryInfluencers,
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
@@ -517,7 +563,10 @@ public class LoaderSelectBuilder {
 										tableReference,
 										selection
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( arrayParameter != null ) {
+							rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, arrayParameter ) );
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
@@ -541,6 +590,7 @@ public class LoaderSelectBuilder {
 
 		}
 		else {
+			assert arrayParameter == null;
 			final List<ColumnReference> columnReferences = new ArrayList<>( numberColumns );
 
 			modelPart.forEachSelectable(
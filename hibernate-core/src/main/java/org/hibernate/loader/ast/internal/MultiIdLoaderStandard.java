@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -122,9 +123,13 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			);
 		}
 
+		final boolean parallel = isParallelLoad( loadOptions, lockOptions, session );
+
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, lockOptions, session, loadOptions );
+
 		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -171,7 +176,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries.get( entityKey )
 					);
 				}
 
@@ -185,7 +191,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			// load the entity state.
 			idsInBatch.add( id );
 
-			if ( idsInBatch.size() >= maxBatchSize ) {
+			if ( !parallel && idsInBatch.size() >= maxBatchSize ) {
 				// we've hit the allotted max-batch-size, perform an "intermediate load"
 				loadEntitiesById( idsInBatch, lockOptions, session );
 				idsInBatch.clear();
@@ -197,7 +203,12 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			elementPositionsLoadedByBatch.add( i );
 		}
 
-		if ( !idsInBatch.isEmpty() ) {
+		if ( parallel && idsInBatch.size() > maxBatchSize ) {
+			// the batches are loaded concurrently, and the entities associated with the session
+			new ParallelMultiIdLoader( entityDescriptor )
+					.load( idsInBatch, maxBatchSize, loadOptions.getParallelism(), session );
+		}
+		else if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since the last max-batch-size trigger,
 			// perform a load for them
 			loadEntitiesById( idsInBatch, lockOptions, session );
@@ -367,6 +378,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			boolean foundAnyManagedEntities = false;
 			final List<Object> nonManagedIds = new ArrayList<>();
 
+			final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, lockOptions, session, loadOptions );
+
 			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
@@ -411,7 +424,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries.get( entityKey )
 					);
 				}
 
@@ -456,6 +470,15 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			);
 		}
 
+		if ( numberOfIdsLeft > maxBatchSize && isParallelLoad( loadOptions, lockOptions, session ) ) {
+			//noinspection unchecked
+			result.addAll(
+					(List<T>) new ParallelMultiIdLoader( entityDescriptor )
+							.load( Arrays.asList( ids ), maxBatchSize, loadOptions.getParallelism(), session )
+			);
+			return result;
+		}
+
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			final int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
@@ -474,6 +497,54 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return result;
 	}
 
+	/**
+	 * Read the second-level cache entries of the entities with the given ids all at once,
+	 * rather than one by one as the ids are processed
+	 */
+	private Map<EntityKey, Object> getFromSecondLevelCache(
+			Object[] ids,
+			LockOptions lockOptions,
+			EventSource session,
+			MultiIdLoadOptions loadOptions) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return Collections.emptyMap();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final EntityKey entityKey = new EntityKey(
+					coerce ? entityDescriptor.getIdentifierMapping().getJavaType().coerce( id, session ) : id,
+					entityDescriptor
+			);
+			// when the session is checked first, its entities are not looked up in the cache
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode(),
+				entityDescriptor,
+				entityKeys
+		);
+	}
+
+	private boolean isParallelLoad(
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		// the batches are loaded by other sessions, which would not hold the locks,
+		// nor apply the filters, fetch profiles and entity graph of this session
+		return loadOptions.getParallelism() > 1
+				&& lockOptions.getLockMode().lessThan( LockMode.READ )
+				&& !entityDescriptor.isAffectedByEnabledFilters( influencers )
+				&& !entityDescriptor.isAffectedByEntityGraph( influencers )
+				&& !entityDescriptor.isAffectedByEnabledFetchProfiles( influencers );
+	}
+
 	private Boolean getReadOnlyFromLoadQueryInfluencers(SharedSessionContractImplementor session) {
 		Boolean readOnly = null;
 		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
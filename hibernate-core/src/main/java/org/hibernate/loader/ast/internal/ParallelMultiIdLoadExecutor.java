@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The threads which load the batches of multi-loads concurrently, for all the sessions of a
+ * session factory.  There are no more of them than
+ * {@link org.hibernate.cfg.AvailableSettings#MULTI_LOAD_MAX_PARALLELISM}, since each of them
+ * holds a connection while it loads batches, and they only live while there are batches to load.
+ *
+ * @see ParallelMultiIdLoader
+ */
+public class ParallelMultiIdLoadExecutor implements Service, Stoppable {
+	private final ThreadPoolExecutor executor;
+
+	public ParallelMultiIdLoadExecutor(int maxParallelism) {
+		executor = new ThreadPoolExecutor(
+				maxParallelism,
+				maxParallelism,
+				60L,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-multi-load" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut( true );
+	}
+
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdownNow();
+	}
+}
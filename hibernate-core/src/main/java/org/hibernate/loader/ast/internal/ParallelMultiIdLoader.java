@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+import org.hibernate.CacheMode;
+import org.hibernate.HibernateException;
+import org.hibernate.Interceptor;
+import org.hibernate.SessionBuilder;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Loads the batches of a multi-load concurrently, each worker in its own session, and so on its
+ * own connection.  The workers run on the {@link ParallelMultiIdLoadExecutor} of the session
+ * factory, which bounds the number of connections they hold across all sessions.  The state of
+ * the entities loaded by the workers is disassembled, as it would be for the second-level cache,
+ * and the entities are then assembled from it in the session of the multi-load, on the calling
+ * thread.
+ * <p>
+ * As soon as a worker fails, the batches which are not loaded yet are dropped, the workers which
+ * have not started yet are cancelled, and the failure is rethrown.
+ *
+ * @see org.hibernate.MultiIdentifierLoadAccess#withParallelism(int)
+ */
+class ParallelMultiIdLoader {
+	private static final Logger log = Logger.getLogger( ParallelMultiIdLoader.class );
+
+	private final EntityPersister entityDescriptor;
+
+	ParallelMultiIdLoader(EntityPersister entityDescriptor) {
+		this.entityDescriptor = entityDescriptor;
+	}
+
+	/**
+	 * Load the entities with the given ids, in batches of the given size, on at most
+	 * {@code parallelism} connections at once.
+	 *
+	 * @return The entities which were found, in no particular order
+	 */
+	List<Object> load(List<Object> ids, int batchSize, int parallelism, EventSource session) {
+		final Queue<List<Object>> batches = new ConcurrentLinkedQueue<>();
+		for ( int start = 0; start < ids.size(); start += batchSize ) {
+			batches.add( new ArrayList<>( ids.subList( start, Math.min( ids.size(), start + batchSize ) ) ) );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracef(
+					"#load(`%s`, ..) : %s batches on %s connections",
+					entityDescriptor.getEntityName(),
+					batches.size(),
+					Math.min( parallelism, batches.size() )
+			);
+		}
+
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final WorkerOptions workerOptions = new WorkerOptions( session );
+		final CompletionService<List<LoadedEntity>> completionService = new ExecutorCompletionService<>(
+				sessionFactory.getServiceRegistry().getService( ParallelMultiIdLoadExecutor.class ).getExecutor()
+		);
+		final List<Future<List<LoadedEntity>>> workers = new ArrayList<>( parallelism );
+		for ( int i = 0; i < Math.min( parallelism, batches.size() ); i++ ) {
+			workers.add( completionService.submit( () -> loadBatches( batches, sessionFactory, workerOptions ) ) );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<Object> result = new ArrayList<>( ids.size() );
+		boolean completed = false;
+		try {
+			for ( int i = 0; i < workers.size(); i++ ) {
+				for ( LoadedEntity loadedEntity : take( completionService ) ) {
+					final EntityKey entityKey = session.generateEntityKey( loadedEntity.id, loadedEntity.persister );
+					Object entity = persistenceContext.getEntity( entityKey );
+					if ( entity == null ) {
+						entity = CacheEntityLoaderHelper.INSTANCE.loadFromCacheEntry(
+								session,
+								loadedEntity.entry,
+								loadedEntity.persister,
+								entityKey
+						);
+					}
+					result.add( entity );
+				}
+			}
+			completed = true;
+		}
+		finally {
+			if ( !completed ) {
+				// the workers under way stop once they are done with their current batch
+				batches.clear();
+				for ( Future<List<LoadedEntity>> worker : workers ) {
+					worker.cancel( false );
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<LoadedEntity> loadBatches(
+			Queue<List<Object>> batches,
+			SessionFactoryImplementor sessionFactory,
+			WorkerOptions workerOptions) {
+		final SessionBuilder<?> sessionBuilder = sessionFactory.withOptions().interceptor( workerOptions.interceptor );
+		if ( workerOptions.tenantIdentifier != null ) {
+			sessionBuilder.tenantIdentifier( workerOptions.tenantIdentifier );
+		}
+
+		final List<LoadedEntity> loadedEntities = new ArrayList<>();
+		try ( SessionImplementor workerSession = (SessionImplementor) sessionBuilder.openSession() ) {
+			workerSession.setCacheMode( workerOptions.cacheMode );
+			workerSession.setDefaultReadOnly( workerOptions.defaultReadOnly );
+			final PersistenceContext persistenceContext = workerSession.getPersistenceContextInternal();
+			List<Object> batch;
+			while ( ( batch = batches.poll() ) != null ) {
+				final List<?> entities = workerSession.byMultipleIds( entityDescriptor.getEntityName() )
+						.enableOrderedReturn( false )
+						.withBatchSize( batch.size() )
+						.multiLoad( batch );
+				for ( Object entity : entities ) {
+					if ( entity != null ) {
+						final EntityEntry entry = persistenceContext.getEntry( entity );
+						final EntityPersister persister = entry.getPersister();
+						loadedEntities.add( new LoadedEntity(
+								entry.getId(),
+								persister,
+								new StandardCacheEntryImpl(
+										persister.getValues( entity ),
+										persister,
+										entry.getVersion(),
+										workerSession,
+										entity
+								)
+						) );
+					}
+				}
+				workerSession.clear();
+			}
+		}
+		return loadedEntities;
+	}
+
+	private static <T> T take(CompletionService<T> completionService) {
+		try {
+			return completionService.take().get();
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new HibernateException( "Could not load a batch of a multi-load", e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while loading the batches of a multi-load", e );
+		}
+	}
+
+	/**
+	 * The state of the session of the multi-load which the sessions of the workers inherit
+	 */
+	private static class WorkerOptions {
+		private final String tenantIdentifier;
+		private final CacheMode cacheMode;
+		private final Interceptor interceptor;
+		private final boolean defaultReadOnly;
+
+		private WorkerOptions(EventSource session) {
+			this.tenantIdentifier = session.getTenantIdentifier();
+			this.cacheMode = session.getCacheMode();
+			this.interceptor = session.getInterceptor();
+			this.defaultReadOnly = session.isDefaultReadOnly();
+		}
+	}
+
+	private static class LoadedEntity {
+		private final Object id;
+		private final EntityPersister persister;
+		private final CacheEntry entry;
+
+		private LoadedEntity(Object id, EntityPersister persister, CacheEntry entry) {
+			this.id = id;
+			this.persister = persister;
+			this.entry = entry;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -14,11 +15,14 @@ import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -26,7 +30,9 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -34,6 +40,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -44,15 +51,23 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
+	private final AdaptiveBatchFetchSize adaptiveBatchSize;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
+	// resolved on first use, since the identifier mapping is not available yet when the loader is
+	// created; arrayJdbcMapping is published by the volatile write to arrayJdbcMappingResolved
+	private volatile boolean arrayJdbcMappingResolved;
+	private JdbcMapping arrayJdbcMapping;
+	private volatile ArrayLoadPlan arrayLoadPlan;
+
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
 			int maxBatchSize,
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+		this.adaptiveBatchSize = AdaptiveBatchFetchSize.create( maxBatchSize, sessionFactory );
 	}
 
 	@Override
@@ -67,9 +82,10 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
+		final int batchSize = adaptiveBatchSize == null ? maxBatchSize : adaptiveBatchSize.getSize();
 		final Object[] batchIds = session.getPersistenceContextInternal()
 				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), pkValue, batchSize );
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
@@ -92,6 +108,36 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
+		final JdbcMapping arrayJdbcMapping = resolveArrayJdbcMapping( session.getFactory() );
+		if ( arrayJdbcMapping != null ) {
+			loadByArrayParameter( idsToLoad, arrayJdbcMapping, pkValue, entityInstance, lockOptions, readOnly, session );
+		}
+		else {
+			loadByInList( idsToLoad, pkValue, entityInstance, lockOptions, readOnly, session );
+		}
+
+		//noinspection ForLoopReplaceableByForEach
+		for ( int i = 0; i < idsToLoad.length; i++ ) {
+			final Object id = idsToLoad[i];
+			// found or not, remove the key from the batch-fetch queye
+			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
+		}
+
+		recordBatchFetch( idsToLoad, batchSize, session );
+
+		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
+		//noinspection unchecked
+		return (T) session.getPersistenceContext().getEntity( entityKey );
+
+	}
+
+	private void loadByInList(
+			Object[] idsToLoad,
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
 		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
 
 		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
@@ -100,7 +146,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				null,
 				getLoadable().getIdentifierMapping(),
 				null,
-				numberOfIds,
+				idsToLoad.length,
 				session.getLoadQueryInfluencers(),
 				lockOptions,
 				jdbcParameters::add,
@@ -117,7 +163,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		);
 
 		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
+		for ( int i = 0; i < idsToLoad.length; i++ ) {
 			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
 					idsToLoad[i],
 					Clause.WHERE,
@@ -154,18 +200,135 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
+	}
 
-		//noinspection ForLoopReplaceableByForEach
-		for ( int i = 0; i < idsToLoad.length; i++ ) {
-			final Object id = idsToLoad[i];
-			// found or not, remove the key from the batch-fetch queye
-			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
+	private void loadByArrayParameter(
+			Object[] idsToLoad,
+			JdbcMapping arrayJdbcMapping,
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final ArrayLoadPlan loadPlan = resolveArrayLoadPlan( arrayJdbcMapping, lockOptions, session );
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcParameterBindings.addBinding(
+				loadPlan.arrayParameter,
+				new JdbcParameterBindingImpl(
+						arrayJdbcMapping,
+						LoaderHelper.createTypedArray( arrayJdbcMapping, idsToLoad, idsToLoad.length )
+				)
+		);
+		loadPlan.jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				loadPlan.sqlAst,
+				Collections.singletonList( loadPlan.arrayParameter ),
+				jdbcParameterBindings
+		);
+
+		session.getJdbcServices().getJdbcSelectExecutor().list(
+				loadPlan.jdbcSelect,
+				jdbcParameterBindings,
+				getExecutionContext(
+						pkValue,
+						entityInstance,
+						readOnly,
+						lockOptions,
+						session,
+						subSelectFetchableKeysHandler
+				),
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+
+	private void recordBatchFetch(Object[] idsToLoad, int batchSize, SharedSessionContractImplementor session) {
+		int nextBatchSize = batchSize;
+		if ( adaptiveBatchSize != null ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			int initializedCount = 0;
+			for ( Object id : idsToLoad ) {
+				final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
+				if ( persistenceContext.getEntity( entityKey ) != null ) {
+					initializedCount++;
+				}
+			}
+			nextBatchSize = adaptiveBatchSize.recordBatchFetch(
+					batchSize,
+					idsToLoad.length,
+					initializedCount,
+					persistenceContext.getBatchFetchQueue().registerBatchFetch( getLoadable().getEntityName() )
+			);
 		}
 
-		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
-		//noinspection unchecked
-		return (T) session.getPersistenceContext().getEntity( entityKey );
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetchEntity( getLoadable().getEntityName(), nextBatchSize );
+		}
+	}
 
+	private JdbcMapping resolveArrayJdbcMapping(SessionFactoryImplementor sessionFactory) {
+		if ( !arrayJdbcMappingResolved ) {
+			// concurrent callers resolve the same mapping
+			arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping( getLoadable().getIdentifierMapping(), sessionFactory );
+			arrayJdbcMappingResolved = true;
+		}
+		return arrayJdbcMapping;
+	}
+
+	private ArrayLoadPlan resolveArrayLoadPlan(
+			JdbcMapping arrayJdbcMapping,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( !isArrayLoadPlanReusable( lockOptions, influencers ) ) {
+			return createArrayLoadPlan( arrayJdbcMapping, lockOptions, influencers, session.getFactory() );
+		}
+		// the SQL does not depend on the number of ids, so a single plan serves every batch
+		ArrayLoadPlan loadPlan = arrayLoadPlan;
+		if ( loadPlan == null ) {
+			synchronized ( this ) {
+				loadPlan = arrayLoadPlan;
+				if ( loadPlan == null ) {
+					loadPlan = createArrayLoadPlan( arrayJdbcMapping, LockOptions.NONE, influencers, session.getFactory() );
+					arrayLoadPlan = loadPlan;
+				}
+			}
+		}
+		return loadPlan;
+	}
+
+	private boolean isArrayLoadPlanReusable(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		return lockOptions.isEmpty()
+				&& influencers.getEnabledCascadingFetchProfile() == null
+				&& !getLoadable().isAffectedByEnabledFilters( influencers )
+				&& !getLoadable().isAffectedByEntityGraph( influencers )
+				&& !getLoadable().isAffectedByEnabledFetchProfiles( influencers );
+	}
+
+	private ArrayLoadPlan createArrayLoadPlan(
+			JdbcMapping arrayJdbcMapping,
+			LockOptions lockOptions,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final JdbcParameter arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+				getLoadable(),
+				getLoadable().getIdentifierMapping(),
+				influencers,
+				lockOptions,
+				arrayParameter,
+				sessionFactory
+		);
+		final JdbcOperationQuerySelect jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+		return new ArrayLoadPlan( sqlAst, jdbcSelect, arrayParameter );
 	}
 
 	private ExecutionContext getExecutionContext(
@@ -235,4 +398,16 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			singleIdLoader.prepare();
 		}
 	}
+
+	private static class ArrayLoadPlan {
+		private final SelectStatement sqlAst;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcParameter arrayParameter;
+
+		private ArrayLoadPlan(SelectStatement sqlAst, JdbcOperationQuerySelect jdbcSelect, JdbcParameter arrayParameter) {
+			this.sqlAst = sqlAst;
+			this.jdbcSelect = jdbcSelect;
+			this.arrayParameter = arrayParameter;
+		}
+	}
 }
@@ -29,6 +29,9 @@ import org.hibernate.sql.ast.tree.expression.JdbcParameter;
  * @author Steve Ebersole
  */
 public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSupport<T> implements Preparable {
+	// the plan for LockMode.NONE, the most common one, which may be created on first use
+	// by concurrent sessions, hence the 'volatile', see resolveNoLockPlan()
+	private volatile SingleIdLoadPlan<T> noLockPlan;
 	private EnumMap<LockMode, SingleIdLoadPlan> selectByLockMode = new EnumMap<>( LockMode.class );
 	private EnumMap<CascadingFetchProfile, SingleIdLoadPlan> selectByInternalCascadeProfile;
 
@@ -51,13 +54,8 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		//		we should pre-load a few - maybe LockMode.NONE and LockMode.READ
 		final LockOptions lockOptions = LockOptions.NONE;
 		final LoadQueryInfluencers queryInfluencers = new LoadQueryInfluencers( sessionFactory );
-		final SingleIdLoadPlan<T> plan = createLoadPlan(
-				lockOptions,
-				queryInfluencers,
-				sessionFactory
-		);
 		if ( determineIfReusable( lockOptions, queryInfluencers ) ) {
-			selectByLockMode.put( lockOptions.getLockMode(), plan );
+			resolveNoLockPlan( lockOptions, queryInfluencers, sessionFactory );
 		}
 	}
 
@@ -133,6 +131,10 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		final boolean reusable = determineIfReusable( lockOptions, loadQueryInfluencers );
 
 		if ( reusable ) {
+			if ( lockOptions.getLockMode() == LockMode.NONE ) {
+				return resolveNoLockPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+			}
+
 			final SingleIdLoadPlan existing = selectByLockMode.get( lockOptions.getLockMode() );
 			if ( existing != null ) {
 				//noinspection unchecked
@@ -153,6 +155,24 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		return createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
 	}
 
+	// the plan is created via 'double-checked locking', unless it was prepared up front
+	private SingleIdLoadPlan<T> resolveNoLockPlan(
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		SingleIdLoadPlan<T> plan = noLockPlan;
+		if ( plan == null ) {
+			synchronized (this) {
+				plan = noLockPlan;
+				if ( plan == null ) {
+					plan = createLoadPlan( lockOptions, loadQueryInfluencers, sessionFactory );
+					noLockPlan = plan;
+				}
+			}
+		}
+		return plan;
+	}
+
 	private boolean determineIfReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
 		if ( getLoadable().isAffectedByEntityGraph( loadQueryInfluencers ) ) {
 			return false;
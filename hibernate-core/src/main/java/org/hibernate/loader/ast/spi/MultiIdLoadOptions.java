@@ -25,4 +25,11 @@ public interface MultiIdLoadOptions extends MultiLoadOptions {
 	 * @return the session factory cache is checked first
 	 */
 	boolean isSecondLevelCacheCheckingEnabled();
+
+	/**
+	 * The maximum number of batches which may be loaded concurrently, on separate connections.
+	 *
+	 * @return the number of batches loaded concurrently, {@code 1} if they are loaded one after the other
+	 */
+	int getParallelism();
 }
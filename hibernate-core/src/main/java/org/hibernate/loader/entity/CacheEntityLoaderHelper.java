@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.entity;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -32,6 +36,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -235,6 +240,152 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Reads the entries of the entities with the given keys from the second-level cache,
+	 * in a single round-trip to the cache where it supports it.  The entities are only
+	 * assembled from the entries by {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Object)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entries which were found in the second-level cache, by entity key
+	 */
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache || entityKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = CollectionHelper.mapOfSize( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			entityKeysByCacheKey.put(
+					cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							factory,
+							source.getTenantIdentifier()
+					),
+					entityKey
+			);
+		}
+
+		final Map<Object, Object> cacheEntries = CacheHelper.fromSharedCache(
+				source,
+				entityKeysByCacheKey.keySet(),
+				cache
+		);
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final String rootEntityRole = StatsHelper.INSTANCE.getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( Object cacheKey : entityKeysByCacheKey.keySet() ) {
+				if ( cacheEntries.containsKey( cacheKey ) ) {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+			}
+		}
+
+		final Map<EntityKey, Object> result = CollectionHelper.mapOfSize( cacheEntries.size() );
+		for ( Map.Entry<Object, Object> cacheEntry : cacheEntries.entrySet() ) {
+			result.put( entityKeysByCacheKey.get( cacheEntry.getKey() ), cacheEntry.getValue() );
+		}
+		return result;
+	}
+
+	/**
+	 * Loads the entity from an entry read from the second-level cache by
+	 * {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, List)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry read from the second-level cache, or null
+	 *
+	 * @return The entity from the second-level cache entry, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cacheEntry,
+				event.getSession(),
+				entityKey
+		);
+
+		if ( entity != null ) {
+			//PostLoad is needed for EJB3
+			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+					.setEntity( entity )
+					.setId( event.getEntityId() )
+					.setPersister( persister );
+
+			event.getSession().getSessionFactory()
+					.getFastSessionServices()
+					.firePostLoadEvent( postLoadEvent );
+		}
+		return entity;
+	}
+
+	/**
+	 * Associates with the session the entity assembled from the given cache entry, which
+	 * might have been disassembled from an entity loaded by another session rather than
+	 * read from the second-level cache.
+	 *
+	 * @param source The source
+	 * @param entry The cache entry
+	 * @param persister The persister for the entity
+	 * @param entityKey The entity key
+	 *
+	 * @return The entity assembled from the cache entry
+	 */
+	public Object loadFromCacheEntry(
+			final EventSource source,
+			final CacheEntry entry,
+			final EntityPersister persister,
+			final EntityKey entityKey) {
+		final Object entity = convertCacheEntryToEntity(
+				entry,
+				entityKey.getIdentifier(),
+				source,
+				persister,
+				null,
+				entityKey
+		);
+
+		final PostLoadEvent postLoadEvent = new PostLoadEvent( source )
+				.setEntity( entity )
+				.setId( entityKey.getIdentifier() )
+				.setPersister( persister );
+		source.getSessionFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+		return entity;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
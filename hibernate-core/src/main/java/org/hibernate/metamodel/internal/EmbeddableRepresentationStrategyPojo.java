@@ -200,7 +200,10 @@ public class EmbeddableRepresentationStrategyPojo extends AbstractEmbeddableRepr
 
 		return Environment.getBytecodeProvider().getReflectionOptimizer(
 				bootDescriptor.getComponentClass(),
-				propertyAccessMap
+				propertyAccessMap,
+				creationContext.getSessionFactory()
+						.getSessionFactoryOptions()
+						.isPrivateMemberAccessOptimizationEnabled()
 		);
 	}
 
@@ -298,7 +298,8 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 		}
 		return bytecodeProvider.getReflectionOptimizer(
 				mappedJtd.getJavaTypeClass(),
-				propertyAccessMap
+				propertyAccessMap,
+				sessionFactory.getSessionFactoryOptions().isPrivateMemberAccessOptimizationEnabled()
 		);
 	}
 
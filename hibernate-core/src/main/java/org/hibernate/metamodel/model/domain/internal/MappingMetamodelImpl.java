@@ -10,11 +10,18 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -233,12 +240,35 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 				runtimeModelCreationContext
 		);
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		if ( sessionFactory.getSessionFactoryOptions().isParallelPersisterInitializationEnabled() ) {
+			// the same persister may be registered under both its entity name and its class name
+			final List<EntityPersister> entityPersisters =
+					new ArrayList<>( new LinkedHashSet<>( entityPersisterMap.values() ) );
+			final ExecutorService executor = createPersisterInitializationExecutor( entityPersisters.size() );
+			try {
+				postInstantiateInParallel( entityPersisters, EntityPersister::postInstantiate, executor );
+				for ( EntityPersister persister : entityPersisterMap.values() ) {
+					registerEntityNameResolvers( persister, entityNameResolvers );
+				}
+
+				postInstantiateInParallel(
+						new ArrayList<>( collectionPersisterMap.values() ),
+						CollectionPersister::postInstantiate,
+						executor
+				);
+			}
+			finally {
+				executor.shutdownNow();
+			}
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
@@ -253,6 +283,74 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		);
 	}
 
+	/**
+	 * The threads initializing the persisters, no more than there are processors, which
+	 * only live while the persisters are being initialized.
+	 */
+	private static ExecutorService createPersisterInitializationExecutor(int persisterCount) {
+		final int threads = Math.max( 1, Math.min( Runtime.getRuntime().availableProcessors(), persisterCount ) );
+		return Executors.newFixedThreadPool(
+				threads,
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-persister-initialization" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+	}
+
+	/**
+	 * Initialize all the given persisters with the given executor.  As soon as the initialization
+	 * of a persister fails, the persisters whose initialization has not started yet are skipped,
+	 * and once the initializations already under way have completed, the failure is rethrown.
+	 */
+	private static <P> void postInstantiateInParallel(
+			List<P> persisters,
+			Consumer<P> postInstantiate,
+			ExecutorService executor) {
+		final ExecutorCompletionService<Void> completionService = new ExecutorCompletionService<>( executor );
+		final List<Future<Void>> tasks = new ArrayList<>( persisters.size() );
+		for ( P persister : persisters ) {
+			tasks.add( completionService.submit( () -> {
+				postInstantiate.accept( persister );
+				return null;
+			} ) );
+		}
+
+		try {
+			for ( int i = 0; i < tasks.size(); i++ ) {
+				try {
+					completionService.take().get();
+				}
+				catch (ExecutionException e) {
+					for ( Future<Void> task : tasks ) {
+						task.cancel( false );
+					}
+					executor.shutdown();
+					executor.awaitTermination( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+					throw persisterInitializationFailure( e.getCause() );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			for ( Future<Void> task : tasks ) {
+				task.cancel( true );
+			}
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while initializing the persisters", e );
+		}
+	}
+
+	private static RuntimeException persisterInitializationFailure(Throwable failure) {
+		if ( failure instanceof RuntimeException ) {
+			return (RuntimeException) failure;
+		}
+		if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		return new HibernateException( "Unable to initialize the persisters", failure );
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -58,6 +58,7 @@ import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
+import org.hibernate.loader.ast.internal.AdaptiveBatchFetchSize;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
 import org.hibernate.loader.ast.internal.CollectionLoaderBatchKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
@@ -215,6 +216,7 @@ public abstract class AbstractCollectionPersister
 	private final boolean isMutable;
 	private final boolean isVersioned;
 	protected final int batchSize;
+	private final AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 	private final FetchMode fetchMode;
 	private final boolean hasOrphanDelete;
 	private final boolean subselectLoadable;
@@ -252,7 +254,7 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 	private volatile CollectionLoader standardCollectionLoader;
-	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
 
@@ -335,6 +337,7 @@ public abstract class AbstractCollectionPersister
 			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
+		adaptiveBatchFetchSize = AdaptiveBatchFetchSize.create( batchSize, factory );
 
 		isVersioned = collectionBootDescriptor.isOptimisticLocked();
 
@@ -659,8 +662,11 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public void postInstantiate() throws MappingException {
+		final boolean lazy = factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled();
 		if ( queryLoaderName == null ) {
-			collectionLoader = createCollectionLoader( LoadQueryInfluencers.NONE );
+			if ( !lazy ) {
+				collectionLoader = createCollectionLoader( LoadQueryInfluencers.NONE );
+			}
 		}
 		else {
 			// We pass null as metamodel because we did the initialization during construction already
@@ -669,16 +675,10 @@ public abstract class AbstractCollectionPersister
 			collectionLoader = new CollectionLoaderNamedQuery( this, namedQueryMemento );
 		}
 
-		if ( attributeMapping.getIndexDescriptor() != null ) {
-			collectionElementLoaderByIndex = new CollectionElementLoaderByIndex(
-					attributeMapping,
-					baseIndex,
-					LoadQueryInfluencers.NONE,
-					getFactory()
-			);
+		if ( !lazy ) {
+			getCollectionElementLoaderByIndex();
+			logStaticSQL();
 		}
-
-		logStaticSQL();
 	}
 
 	protected void logStaticSQL() {
@@ -787,7 +787,13 @@ public abstract class AbstractCollectionPersister
 	protected CollectionLoader createCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
 		final int batchSize = getBatchSize();
 		if ( batchSize > 1 ) {
-			return new CollectionLoaderBatchKey( attributeMapping, batchSize, loadQueryInfluencers, getFactory() );
+			return new CollectionLoaderBatchKey(
+					attributeMapping,
+					batchSize,
+					adaptiveBatchFetchSize,
+					loadQueryInfluencers,
+					getFactory()
+			);
 		}
 
 
@@ -1529,7 +1535,30 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner) {
-		return collectionElementLoaderByIndex.load( key, index, session );
+		return getCollectionElementLoaderByIndex().load( key, index, session );
+	}
+
+	// lazily initialize instance field via 'double-checked locking', see getStandardCollectionLoader()
+	private CollectionElementLoaderByIndex getCollectionElementLoaderByIndex() {
+		if ( attributeMapping.getIndexDescriptor() == null ) {
+			return null;
+		}
+		CollectionElementLoaderByIndex localCopy = collectionElementLoaderByIndex;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionElementLoaderByIndex;
+				if ( localCopy == null ) {
+					localCopy = new CollectionElementLoaderByIndex(
+							attributeMapping,
+							baseIndex,
+							LoadQueryInfluencers.NONE,
+							getFactory()
+					);
+					collectionElementLoaderByIndex = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Override
@@ -415,6 +415,9 @@ public abstract class AbstractEntityPersister
 
 	private boolean[] tableHasColumns;
 
+	// whether the coordinators and SQL strings above have been generated
+	private volatile boolean staticSqlGenerated;
+
 	private final Map<String,String[]> subclassPropertyAliases = new HashMap<>();
 	private final Map<String,String[]> subclassPropertyColumnNames = new HashMap<>();
 
@@ -916,29 +919,35 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		ensureStaticSqlGenerated();
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
 	@Internal
 	public InsertCoordinator getInsertCoordinator() {
+		ensureStaticSqlGenerated();
 		return insertCoordinator;
 	}
 
 	@Internal
 	public UpdateCoordinator getUpdateCoordinator() {
+		ensureStaticSqlGenerated();
 		return updateCoordinator;
 	}
 
 	@Internal
 	public DeleteCoordinator getDeleteCoordinator() {
+		ensureStaticSqlGenerated();
 		return deleteCoordinator;
 	}
 
 	public String[] getSQLLazyUpdateStrings() {
+		ensureStaticSqlGenerated();
 		return sqlLazyUpdateStrings;
 	}
 
 	public String getVersionSelectString() {
+		ensureStaticSqlGenerated();
 		return sqlVersionSelectString;
 	}
 
@@ -1975,7 +1984,7 @@ public abstract class AbstractEntityPersister
 			);
 		}
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 
 //		// todo : cache this sql...
 //		String versionIncrementString = generateVersionIncrementUpdateString();
@@ -2929,7 +2938,7 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final Object rowId,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		updateCoordinator.coordinateUpdate(
+		getUpdateCoordinator().coordinateUpdate(
 				object,
 				id,
 				rowId,
@@ -2960,12 +2969,12 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object insert(Object[] fields, Object object, SharedSessionContractImplementor session) {
-		return insertCoordinator.coordinateInsert( null, fields, object, session );
+		return getInsertCoordinator().coordinateInsert( null, fields, object, session );
 	}
 
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
-		insertCoordinator.coordinateInsert( id, fields, object, session );
+		getInsertCoordinator().coordinateInsert( id, fields, object, session );
 	}
 
 
@@ -3058,7 +3067,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.coordinateDelete( object, id, version, session );
+		getDeleteCoordinator().coordinateDelete( object, id, version, session );
 	}
 
 	protected boolean isAllOrDirtyOptLocking() {
@@ -3214,6 +3223,34 @@ public abstract class AbstractEntityPersister
 		}
 
 		tableMappings = buildTableMappings();
+
+		final int joinSpan = getTableSpan();
+		tableHasColumns = new boolean[joinSpan];
+		for ( int j = 0; j < joinSpan; j++ ) {
+			final String tableName = getTableName( j );
+			final EntityTableMapping tableMapping = findTableMapping( tableName );
+			tableHasColumns[j] = tableMapping.hasColumns();
+		}
+
+		if ( !factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled() ) {
+			ensureStaticSqlGenerated();
+		}
+	}
+
+	// lazily generate the static SQL via 'double-checked locking', see getStandardCollectionLoader()
+	// in AbstractCollectionPersister on why a 'volatile' is used
+	private void ensureStaticSqlGenerated() {
+		if ( !staticSqlGenerated ) {
+			synchronized (this) {
+				if ( !staticSqlGenerated ) {
+					generateStaticSql();
+					staticSqlGenerated = true;
+				}
+			}
+		}
+	}
+
+	private void generateStaticSql() {
 		insertCoordinator = buildInsertCoordinator();
 		updateCoordinator = buildUpdateCoordinator();
 		deleteCoordinator = buildDeleteCoordinator();
@@ -3234,13 +3271,6 @@ public abstract class AbstractEntityPersister
 					: substituteBrackets( customSQLUpdate[j] );
 		}
 
-		tableHasColumns = new boolean[joinSpan];
-		for ( int j = 0; j < joinSpan; j++ ) {
-			final String tableName = getTableName( j );
-			final EntityTableMapping tableMapping = findTableMapping( tableName );
-			tableHasColumns[j] = tableMapping.hasColumns();
-		}
-
 		//select SQL
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
@@ -3476,8 +3506,11 @@ public abstract class AbstractEntityPersister
 	@Override
 	public final void postInstantiate() throws MappingException {
 		doLateInit();
-		prepareLoader( singleIdEntityLoader );
-		prepareLoader( multiIdEntityLoader );
+		if ( !factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled() ) {
+			// otherwise, the loaders create their load plans on first use
+			prepareLoader( singleIdEntityLoader );
+			prepareLoader( multiIdEntityLoader );
+		}
 	}
 
 	private void prepareLoader(Loader loader) {
@@ -6089,7 +6122,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticDeleteGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticDeleteGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -6109,7 +6142,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticUpdateGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticUpdateGroup() );
 	}
 
 	/**
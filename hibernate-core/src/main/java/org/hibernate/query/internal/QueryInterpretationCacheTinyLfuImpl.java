@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.collections.ConcurrentTinyLfuCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * QueryInterpretationCache implementation backed by {@link ConcurrentTinyLfuCache}s,
+ * whose lookups never block, even under heavy concurrency.  Evictions of query plans
+ * are reported to {@link StatisticsImplementor#queryPlanCacheEviction()}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+ */
+public class QueryInterpretationCacheTinyLfuImpl extends AbstractQueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	public QueryInterpretationCacheTinyLfuImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		super(
+				new TinyLfuCache<>( maxQueryPlanCount, (key, plan) -> queryPlanEvicted( key, statisticsSupplier ) ),
+				new TinyLfuCache<>( maxQueryPlanCount, QueryInterpretationCacheTinyLfuImpl::evicted ),
+				new TinyLfuCache<>( maxQueryPlanCount, QueryInterpretationCacheTinyLfuImpl::evicted ),
+				statisticsSupplier
+		);
+		log.debugf( "Starting TinyLFU QueryPlanCache(%s)", maxQueryPlanCount );
+	}
+
+	private static void queryPlanEvicted(
+			QueryInterpretationCache.Key key,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		evicted( key, null );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
+	}
+
+	private static void evicted(Object key, Object value) {
+		log.tracef( "Evicted query plan cache entry (%s)", key );
+	}
+
+	private static class TinyLfuCache<K, V> implements BoundedCache<K, V> {
+		private final ConcurrentTinyLfuCache<K, V> cache;
+
+		private TinyLfuCache(int maxSize, BiConsumer<K, V> evictionListener) {
+			this.cache = new ConcurrentTinyLfuCache<>( maxSize, evictionListener );
+		}
+
+		@Override
+		public V get(K key) {
+			return cache.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			cache.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return cache.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public int size() {
+			return cache.size();
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+	}
+}
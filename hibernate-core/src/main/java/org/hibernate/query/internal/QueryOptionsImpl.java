@@ -40,6 +40,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
+	private boolean detachScrolledEntities;
 
 	private TupleTransformer tupleTransformer;
 	private ResultListTransformer resultListTransformer;
@@ -116,6 +117,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public boolean isDetachScrolledEntities() {
+		return detachScrolledEntities;
+	}
+
+	@Override
+	public void setDetachScrolledEntities(boolean detachScrolledEntities) {
+		this.detachScrolledEntities = detachScrolledEntities;
+	}
+
 	@Override
 	public CacheRetrieveMode getCacheRetrieveMode() {
 		return cacheRetrieveMode;
@@ -68,6 +68,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_SCROLLED;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -176,6 +177,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		if ( getQueryOptions().isDetachScrolledEntities() ) {
+			hints.put( HINT_DETACH_SCROLLED, true );
+		}
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -313,6 +317,11 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 			return true;
 		}
 
+		if ( HINT_DETACH_SCROLLED.equals( hintName ) ) {
+			applyDetachScrolledHint( ConfigurationHelper.getBoolean( value ) );
+			return true;
+		}
+
 		if ( HINT_CACHEABLE.equals( hintName ) ) {
 			applyCacheableHint( ConfigurationHelper.getBoolean( value ) );
 			return true;
@@ -377,6 +386,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyDetachScrolledHint(boolean detachScrolledEntities) {
+		getQueryOptions().setDetachScrolledEntities( detachScrolledEntities );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
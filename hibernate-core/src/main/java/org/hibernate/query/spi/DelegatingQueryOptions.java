@@ -104,6 +104,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getFetchSize();
 	}
 
+	@Override
+	public boolean isDetachScrolledEntities() {
+		return queryOptions.isDetachScrolledEntities();
+	}
+
 	@Override
 	public Limit getLimit() {
 		return queryOptions.getLimit();
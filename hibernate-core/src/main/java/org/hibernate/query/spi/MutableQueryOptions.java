@@ -69,6 +69,14 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Corollary to {@link #isDetachScrolledEntities()}
+	 * <p>
+	 * Ignored by default, in which case scrolled entities are never detached.
+	 */
+	default void setDetachScrolledEntities(boolean detachScrolledEntities) {
+	}
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
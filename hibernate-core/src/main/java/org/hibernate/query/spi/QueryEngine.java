@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
@@ -34,6 +35,7 @@ import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -104,7 +106,11 @@ public class QueryEngine {
 				hqlTranslator,
 				sqmTranslatorFactory,
 				sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						sessionFactory.getProperties(),
+						sessionFactory.getServiceRegistry()
+				),
 				metadata.getTypeConfiguration(),
 				dialect,
 				customSqmFunctionRegistry,
@@ -257,7 +263,8 @@ public class QueryEngine {
 
 		this.interpretationCache = buildInterpretationCache(
 				() -> serviceRegistry.getService( StatisticsImplementor.class ),
-				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				serviceRegistry
 		);
 	}
 
@@ -347,7 +354,8 @@ public class QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
-			Map properties) {
+			Map properties,
+			ServiceRegistry serviceRegistry) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -365,7 +373,7 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return buildEnabledInterpretationCache( size, statisticsSupplier, properties, serviceRegistry );
 		}
 		else {
 			// disabled
@@ -373,6 +381,44 @@ public class QueryEngine {
 		}
 	}
 
+	private static QueryInterpretationCache buildEnabledInterpretationCache(
+			int size,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			Map properties,
+			ServiceRegistry serviceRegistry) {
+		final String implementation = ConfigurationHelper.getString(
+				AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION,
+				properties,
+				"lirs"
+		);
+		if ( "lirs".equalsIgnoreCase( implementation ) ) {
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+		}
+		else if ( "tinylfu".equalsIgnoreCase( implementation ) ) {
+			return new QueryInterpretationCacheTinyLfuImpl( size, statisticsSupplier );
+		}
+
+		final Class<?> implementationClass = serviceRegistry.getService( ClassLoaderService.class )
+				.classForName( implementation );
+		if ( !QueryInterpretationCache.class.isAssignableFrom( implementationClass ) ) {
+			throw new HibernateException(
+					"Class specified by '" + AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION
+							+ "' does not implement QueryInterpretationCache: " + implementation
+			);
+		}
+		try {
+			return (QueryInterpretationCache) implementationClass
+					.getConstructor( int.class, Supplier.class )
+					.newInstance( size, statisticsSupplier );
+		}
+		catch (Exception e) {
+			throw new HibernateException(
+					"Could not instantiate QueryInterpretationCache implementation: " + implementation,
+					e
+			);
+		}
+	}
+
 	public void prepare(
 			SessionFactoryImplementor sessionFactory,
 			MetadataImplementor bootMetamodel,
@@ -125,6 +125,17 @@ public interface QueryOptions {
 	 * @see Statement#getFetchSize
 	 */
 	Integer getFetchSize();
+
+	/**
+	 * Should entities returned by scrolling through the results be detached
+	 * from the persistence context once the cursor has moved past them?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_SCROLLED
+	 */
+	default boolean isDetachScrolledEntities() {
+		return false;
+	}
+
 	/**
 	 * The limit to the query results.  May also be accessed via
 	 * {@link #getFirstRow} and {@link #getMaxRows}
@@ -10,11 +10,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -31,6 +33,8 @@ import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -70,6 +74,12 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translations of a query with multi-valued parameters,
+	 * see {@link #withExpandedSqmInterpretation}
+	 */
+	private static final int MAX_EXPANDED_INTERPRETATIONS = 32;
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
@@ -77,6 +87,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Map<List<Integer>, CacheableSqmInterpretation> expandedSqmInterpretations = new ConcurrentHashMap<>();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -100,49 +111,43 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey, entry );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey, entry );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
-						},
-						rowTransformer,
-						uniqueSemantic
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					uniqueSemantic
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
 //						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
 //						sqmInterpretation.selectStatement,
@@ -150,33 +155,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //						jdbcParameterBindings
 //				);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		etc - because those all cause the plan to not be cached.
+		// NOTE2 (regarding NOTE) : multi-valued parameter expansion does not
+		//		veto caching of the plan.  The expansion happens per translation,
+		//		see `#withExpandedSqmInterpretation`.
 	}
 
 	private static boolean containsCollectionFetches(QueryOptions queryOptions) {
@@ -285,6 +284,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		if ( executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			return withExpandedSqmInterpretation( executionContext, context, interpreter );
+		}
+
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
@@ -335,11 +338,95 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * The translation of a query with multi-valued parameters depends on the number of
+	 * values bound to them, since each value is rendered as a parameter of its own.  Such
+	 * translations are cached by these numbers, or rather by the
+	 * {@linkplain SqmUtil#determinePaddedBindValueCount padded} numbers, so that lists of
+	 * many sizes share a few translations when in-clause parameter padding is enabled.
+	 * <p>
+	 * Each translation expands the parameters in a copy of the {@link DomainParameterXref},
+	 * which may then be shared by concurrent executions.
+	 */
+	private <T, X> T withExpandedSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		final List<Integer> expansionKey = determineExpansionKey( executionContext );
+		CacheableSqmInterpretation localCopy = expandedSqmInterpretations.get( expansionKey );
+		JdbcParameterBindings jdbcParameterBindings = null;
+
+		if ( localCopy != null ) {
+			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+			}
+			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
+		}
+
+		if ( localCopy == null ) {
+			final DomainParameterXref expandedParameterXref = domainParameterXref.copy();
+			localCopy = buildCacheableSqmInterpretation( sqm, expandedParameterXref, executionContext );
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			if ( expandedSqmInterpretations.size() < MAX_EXPANDED_INTERPRETATIONS
+					&& isExpansionReusable( expandedParameterXref, executionContext ) ) {
+				expandedSqmInterpretations.put( expansionKey, localCopy );
+			}
+		}
+		else if ( jdbcParameterBindings == null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		}
+
+		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	}
+
+	private List<Integer> determineExpansionKey(DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final QueryParameterBindings bindings = executionContext.getQueryParameterBindings();
+		final List<Integer> expansionKey = new ArrayList<>( domainParameterXref.getQueryParameterCount() );
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( queryParameter );
+			expansionKey.add(
+					binding.isMultiValued()
+							? SqmUtil.determinePaddedBindValueCount( binding.getBindValues().size(), factory )
+							: -1
+			);
+		}
+		return expansionKey;
+	}
+
+	/**
+	 * Whether the translation may be reused for all the lists of the same padded size, that is,
+	 * whether every occurrence of the multi-valued parameters was padded.  Occurrences outside
+	 * of an in-list predicate are expanded to exactly the number of bound values.
+	 */
+	private static boolean isExpansionReusable(
+			DomainParameterXref expandedParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final QueryParameterBindings bindings = executionContext.getQueryParameterBindings();
+		for ( Map.Entry<QueryParameterImplementor<?>, List<SqmParameter<?>>> entry :
+				expandedParameterXref.getQueryParameters().entrySet() ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( entry.getKey() );
+			if ( binding.isMultiValued() ) {
+				final int bindValueCount = binding.getBindValues().size();
+				final int paddedBindValueCount = SqmUtil.determinePaddedBindValueCount( bindValueCount, factory );
+				if ( paddedBindValueCount != bindValueCount ) {
+					for ( SqmParameter<?> sqmParameter : entry.getValue() ) {
+						if ( expandedParameterXref.getExpansions( sqmParameter ).size() != paddedBindValueCount - 1 ) {
+							return false;
+						}
+					}
+				}
+			}
+		}
+		return true;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -377,7 +464,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 
 //			tableGroupAccess = sqmConverter.getFromClauseAccess();
-		final SqmTranslation<SelectStatement> sqmInterpretation = sqmConverter.translate();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		eventListenerManager.sqlAstTranslationStart();
+		final SqmTranslation<SelectStatement> sqmInterpretation;
+		try {
+			sqmInterpretation = sqmConverter.translate();
+		}
+		finally {
+			eventListenerManager.sqlAstTranslationEnd();
+		}
 		final FromClauseAccess tableGroupAccess = sqmConverter.getFromClauseAccess();
 
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
@@ -404,11 +499,19 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
-		final JdbcOperationQuerySelect jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		eventListenerManager.sqlRenderingStart();
+		final JdbcOperationQuerySelect jdbcSelect;
+		try {
+			jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		}
+		finally {
+			eventListenerManager.sqlRenderingEnd();
+		}
 
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
+				domainParameterXref,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -427,6 +530,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final DomainParameterXref domainParameterXref;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
@@ -435,12 +539,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.domainParameterXref = domainParameterXref;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
@@ -455,6 +561,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return jdbcSelect;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		FromClauseAccess getTableGroupAccess() {
 			return tableGroupAccess;
 		}
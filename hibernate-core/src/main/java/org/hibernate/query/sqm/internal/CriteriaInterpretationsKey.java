@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.LockOptions;
+import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.isCacheable;
+
+/**
+ * The key of the interpretation of a criteria query, based on the structure of its tree,
+ * as rendered by {@link SqmStructureRenderer}, rather than on a query string.  Criteria
+ * queries of the same structure share a {@link CriteriaSelectQueryPlan}, even though
+ * their parameters are distinct objects, and the values they bind differ.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+public class CriteriaInterpretationsKey implements QueryInterpretationCache.Key {
+
+	/**
+	 * Create the key of the given criteria query.
+	 *
+	 * @return The key, or {@code null} if the interpretation of the query may not be cached
+	 */
+	public static CriteriaInterpretationsKey createInterpretationsKey(
+			SqmInterpretationsKey.InterpretationsKeySource keySource,
+			SqmStatement<?> statement,
+			DomainParameterXref domainParameterXref) {
+		if ( !isCacheable( keySource ) ) {
+			return null;
+		}
+
+		final SqmStructureRenderer renderer = new SqmStructureRenderer();
+		final String structure = renderer.render( statement );
+		if ( structure == null ) {
+			// some node is not rendered
+			return null;
+		}
+
+		final List<JpaCriteriaParameter<?>> parameters = renderer.getParameters();
+		if ( parameters.size() != domainParameterXref.getQueryParameterCount() ) {
+			// some parameter was not rendered, we would not be able to map it
+			return null;
+		}
+		for ( JpaCriteriaParameter<?> parameter : parameters ) {
+			if ( domainParameterXref.getSqmParameters( parameter ) == null ) {
+				return null;
+			}
+		}
+
+		return new CriteriaInterpretationsKey(
+				structure,
+				keySource.getResultType(),
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer(),
+				parameters
+		);
+	}
+
+	private final String structure;
+	private final Class<?> resultType;
+	private final LockOptions lockOptions;
+	private final TupleTransformer<?> tupleTransformer;
+	private final ResultListTransformer<?> resultListTransformer;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	private CriteriaInterpretationsKey(
+			String structure,
+			Class<?> resultType,
+			LockOptions lockOptions,
+			TupleTransformer<?> tupleTransformer,
+			ResultListTransformer<?> resultListTransformer,
+			List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.resultType = resultType;
+		this.lockOptions = lockOptions;
+		this.tupleTransformer = tupleTransformer;
+		this.resultListTransformer = resultListTransformer;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * The parameters of the query, in the order of their first appearance in its structure
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public QueryInterpretationCache.Key prepareForStore() {
+		return new CriteriaInterpretationsKey(
+				structure,
+				resultType,
+				// Since lock options are mutable, we need a copy for the cache key
+				lockOptions.makeCopy(),
+				tupleTransformer,
+				resultListTransformer,
+				// the parameters are not part of the identity of the key
+				null
+		);
+	}
+
+	@Override
+	public String getQueryString() {
+		return QuerySqmImpl.CRITERIA_HQL_STRING;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		final CriteriaInterpretationsKey that = (CriteriaInterpretationsKey) o;
+		return structure.equals( that.structure )
+				&& Objects.equals( resultType, that.resultType )
+				&& Objects.equals( lockOptions, that.lockOptions )
+				&& Objects.equals( tupleTransformer, that.tupleTransformer )
+				&& Objects.equals( resultListTransformer, that.resultListTransformer );
+	}
+
+	@Override
+	public int hashCode() {
+		return structure.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "CriteriaInterpretationsKey(" + structure + ")";
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+
+/**
+ * A {@link SelectQueryPlan} cached under a {@link CriteriaInterpretationsKey}, and so shared
+ * by all the criteria queries of the same structure.  Since the plan refers to the parameters
+ * of the query it was built for, executing it for another query requires mapping its
+ * parameters to those of that query, by position, see {@link #forParameters}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	/**
+	 * @param delegate The plan, built for the statement whose parameters are given
+	 * @param parameters The parameters of that statement, in the order of
+	 * {@link CriteriaInterpretationsKey#getParameters()}
+	 */
+	public CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * The plan to execute for a query with the given parameters, which are in the order of
+	 * {@link CriteriaInterpretationsKey#getParameters()}.
+	 */
+	public SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			final JpaCriteriaParameter<?> parameter = parameters.get( i );
+			final JpaCriteriaParameter<?> queryParameter = queryParameters.get( i );
+			if ( parameter != queryParameter ) {
+				if ( parameterMap == null ) {
+					parameterMap = new IdentityHashMap<>();
+				}
+				parameterMap.put( parameter, queryParameter );
+			}
+		}
+		return parameterMap == null ? delegate : new ParameterMappingSelectQueryPlan<>( delegate, parameterMap );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static class ParameterMappingSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap;
+
+		private ParameterMappingSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+			this.delegate = delegate;
+			this.parameterMap = parameterMap;
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( mapParameters( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, mapParameters( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext mapParameters(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new ParameterMappingBindings(
+					executionContext.getQueryParameterBindings(),
+					parameterMap
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * The bindings of the query being executed, seen through the parameters of the plan
+	 */
+	private static class ParameterMappingBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap;
+
+		private ParameterMappingBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+			this.delegate = delegate;
+			this.parameterMap = parameterMap;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMap.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return delegate.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.query.sqm.internal;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -16,7 +17,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -476,16 +476,6 @@ public class QuerySqmImpl<R>
 		return false;
 	}
 
-	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
-	}
-
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// select execution
@@ -630,33 +620,90 @@ public class QuerySqmImpl<R>
 	// Select query plan
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+		final QueryInterpretationCache interpretationCache = getSession().getFactory().getQueryEngine().getInterpretationCache();
+		if ( isCriteriaPlanCacheable() ) {
+			final CriteriaInterpretationsKey criteriaKey = CriteriaInterpretationsKey.createInterpretationsKey(
+					this,
+					getSqmStatement(),
+					getDomainParameterXref()
+			);
+			if ( criteriaKey != null ) {
+				final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>) interpretationCache.resolveSelectQueryPlan(
+						criteriaKey,
+						() -> buildCriteriaSelectQueryPlan( criteriaKey )
+				);
+				return queryPlan.forParameters( criteriaKey.getParameters() );
+			}
+		}
+
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
+			return interpretationCache.resolveSelectQueryPlan(
 					cacheKey,
-					this::buildSelectQueryPlan
+					() -> buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() )
 			);
 		}
 		else {
-			return buildSelectQueryPlan();
+			return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+		}
+	}
+
+	private boolean isCriteriaPlanCacheable() {
+		// the TupleMetadata of a plan refers to the selections of the query it was built for
+		return CRITERIA_HQL_STRING.equals( hql )
+				&& tupleMetadata == null
+				&& getSqmStatement() instanceof SqmSelectStatement<?>
+				&& getSession().getFactory().getSessionFactoryOptions().isCriteriaPlanCacheEnabled();
+	}
+
+	private CriteriaSelectQueryPlan<R> buildCriteriaSelectQueryPlan(CriteriaInterpretationsKey criteriaKey) {
+		if ( getSession().isCriteriaCopyTreeEnabled() ) {
+			// the tree of this query is already a copy
+			return new CriteriaSelectQueryPlan<>(
+					buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() ),
+					criteriaKey.getParameters()
+			);
+		}
+
+		// the plan outlives this query, so build it for a copy of the tree,
+		// which later changes to the CriteriaQuery do not affect
+		final SqmCopyContext copyContext = SqmCopyContext.simpleContext();
+		final SqmSelectStatement<R> statement = ( (SqmSelectStatement<R>) getSqmStatement() ).copy( copyContext );
+		final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>( criteriaKey.getParameters().size() );
+		for ( JpaCriteriaParameter<?> parameter : criteriaKey.getParameters() ) {
+			final JpaCriteriaParameter<?> copy = copyContext.getCopy( parameter );
+			parameters.add( copy == null ? parameter : copy );
 		}
+		return new CriteriaSelectQueryPlan<>(
+				buildSelectQueryPlan( statement, DomainParameterXref.from( statement ) ),
+				parameters
+		);
 	}
 
-	private SelectQueryPlan<R> buildSelectQueryPlan() {
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -665,6 +712,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -675,12 +723,13 @@ public class QuerySqmImpl<R>
 
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -6,8 +6,6 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.function.Supplier;
-
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.query.ResultListTransformer;
@@ -15,8 +13,6 @@ import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 
-import static java.lang.Boolean.TRUE;
-
 /**
  * @author Steve Ebersole
  */
@@ -25,7 +21,6 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		String getQueryString();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
@@ -33,6 +28,14 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			// for now at least, skip caching Criteria-based plans
+			//		- especially wrt parameters atm; this works with HQL because the parameters
+			//			are part of the query string; with Criteria, they are not.
+			//		- unless enabled, see CriteriaInterpretationsKey
+			return null;
+		}
+
 		if ( ! isCacheable( keySource ) ) {
 			return null;
 		}
@@ -46,16 +49,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		);
 	}
 	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(InterpretationsKeySource keySource) {
+	static boolean isCacheable(CacheabilityInfluencers keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
-		}
-
 		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
 			// At the moment we cannot cache query plan if there is filter enabled.
 			return false;
@@ -67,13 +63,8 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return false;
 		}
 
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
-		}
+		// multi-valued parameters do not prevent caching, since ConcreteSqmSelectQueryPlan
+		// expands them in a copy of the DomainParameterXref for each translation
 
 		return true;
 	}
@@ -0,0 +1,1203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Internal;
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAliasedNodeRef;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOrderedSetAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.SqmWindowFunction;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatablePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Renders the structure of a criteria select query, independently of {@link SqmStatement#toHqlString()}.
+ * The from elements of the query are rendered as numbers, in order of appearance, and its parameters -
+ * including the values bound by {@link org.hibernate.query.criteria.ValueHandlingMode#BIND} - as their
+ * position and type, rather than as their alias, name or value.  Two criteria queries with the same
+ * structure may share their interpretation, as long as the parameters of one are mapped, by position,
+ * to those of the other.
+ * <p>
+ * Every node which affects the interpretation of a query is rendered, including the treats of its from
+ * elements and whether a join is fetched.  A query containing a node which this renderer does not know
+ * how to render, such as a CTE or a window function, has no structure: its interpretation is not shared.
+ *
+ * @see CriteriaInterpretationsKey
+ */
+@Internal
+public final class SqmStructureRenderer implements SemanticQueryWalker<Object> {
+
+	private final StringBuilder sb = new StringBuilder();
+	private final Map<SqmFrom<?, ?>, Integer> fromIds = new IdentityHashMap<>();
+	private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+	private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+
+	/**
+	 * Render the structure of the given statement.
+	 *
+	 * @return The structure, or {@code null} if the statement contains a node which is not rendered
+	 */
+	public String render(SqmStatement<?> statement) {
+		try {
+			statement.accept( this );
+		}
+		catch (NotCacheableException e) {
+			return null;
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The parameters of the statement rendered, in order of first appearance
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	private static Object notCacheable() {
+		throw NotCacheableException.INSTANCE;
+	}
+
+	private void visitNode(SqmVisitableNode node) {
+		if ( node instanceof SqmAliasedNodeRef ) {
+			// a selection referenced by position or alias, which only the SQL AST converter resolves
+			notCacheable();
+		}
+		else if ( node instanceof SqmJpaCriteriaParameterWrapper<?> ) {
+			visitJpaCriteriaParameter( ( (SqmJpaCriteriaParameterWrapper<?>) node ).getJpaCriteriaParameter() );
+		}
+		else {
+			node.accept( this );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// statements
+
+	@Override
+	public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+		visitCteContainer( statement );
+		visitNode( statement.getQueryPart() );
+		return null;
+	}
+
+	@Override
+	public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitSetClause(SqmSetClause setClause) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitAssignment(SqmAssignment<?> assignment) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitCteContainer(SqmCteContainer consumer) {
+		if ( !consumer.getCteStatements().isEmpty() ) {
+			notCacheable();
+		}
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// from-clause / domain paths
+
+	@Override
+	public Object visitFromClause(SqmFromClause fromClause) {
+		// number all the from elements first, since a join predicate
+		// may refer to a from element which is rendered after it
+		for ( SqmRoot<?> root : fromClause.getRoots() ) {
+			registerFrom( root );
+		}
+
+		sb.append( " from" );
+		for ( SqmRoot<?> root : fromClause.getRoots() ) {
+			sb.append( ' ' );
+			if ( root instanceof SqmDerivedRoot<?> || root instanceof SqmCteRoot<?> ) {
+				notCacheable();
+			}
+			else if ( isCorrelation( root ) ) {
+				sb.append( "correlate " );
+				appendFromReference( root.getCorrelationParent() );
+			}
+			else {
+				sb.append( root.getEntityName() );
+			}
+			appendFromStructure( root );
+		}
+		return null;
+	}
+
+	private void registerFrom(SqmFrom<?, ?> from) {
+		fromIds.put( from, fromIds.size() );
+		for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+			registerFrom( join );
+		}
+		for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+			registerFrom( treat );
+		}
+	}
+
+	private void appendFromStructure(SqmFrom<?, ?> from) {
+		appendFromReference( from );
+		sb.append( '{' );
+		for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+			sb.append( ' ' ).append( join.getSqmJoinType().name() ).append( ' ' );
+			if ( isCorrelation( join ) ) {
+				sb.append( "correlate " );
+				appendFromReference( join.getCorrelationParent() );
+			}
+			else if ( join instanceof SqmAttributeJoin<?, ?> ) {
+				final SqmAttributeJoin<?, ?> attributeJoin = (SqmAttributeJoin<?, ?>) join;
+				if ( attributeJoin.isFetched() ) {
+					sb.append( "fetch " );
+				}
+				sb.append( join.getReferencedPathSource().getPathName() );
+				appendJoinPredicate( attributeJoin.getJoinPredicate() );
+			}
+			else if ( join instanceof SqmEntityJoin<?> ) {
+				final SqmEntityJoin<?> entityJoin = (SqmEntityJoin<?>) join;
+				sb.append( entityJoin.getEntityName() );
+				appendJoinPredicate( entityJoin.getJoinPredicate() );
+			}
+			else if ( join instanceof SqmCrossJoin<?> ) {
+				sb.append( "cross " ).append( ( (SqmCrossJoin<?>) join ).getEntityName() );
+			}
+			else {
+				notCacheable();
+			}
+			appendFromStructure( join );
+		}
+		for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+			if ( !( treat instanceof SqmTreatedPath<?, ?> ) ) {
+				notCacheable();
+			}
+			sb.append( " treat " ).append( ( (SqmTreatedPath<?, ?>) treat ).getTreatTarget().getHibernateEntityName() );
+			appendFromStructure( treat );
+		}
+		sb.append( '}' );
+	}
+
+	private void appendJoinPredicate(SqmPredicate joinPredicate) {
+		if ( joinPredicate != null ) {
+			sb.append( " on " );
+			visitNode( joinPredicate );
+		}
+	}
+
+	private static boolean isCorrelation(SqmFrom<?, ?> from) {
+		return from instanceof SqmCorrelation<?, ?> && from.getCorrelationParent() != from;
+	}
+
+	private void appendFromReference(SqmFrom<?, ?> from) {
+		final Integer id = fromIds.get( from );
+		if ( id == null ) {
+			// not part of the from clause of this query, nor of an enclosing one
+			notCacheable();
+		}
+		sb.append( '#' ).append( id );
+	}
+
+	@Override
+	public Object visitRootPath(SqmRoot<?> sqmRoot) {
+		appendFromReference( sqmRoot );
+		return null;
+	}
+
+	@Override
+	public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+		appendFromReference( joinedFromElement );
+		return null;
+	}
+
+	@Override
+	public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+		appendFromReference( joinedFromElement );
+		return null;
+	}
+
+	@Override
+	public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+		appendFromReference( joinedFromElement );
+		return null;
+	}
+
+	@Override
+	public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+		appendFromReference( correlation );
+		return null;
+	}
+
+	private Object appendSimplePath(SqmPath<?> path) {
+		appendPath( path.getLhs() );
+		sb.append( '.' ).append( path.getReferencedPathSource().getPathName() );
+		return null;
+	}
+
+	private void appendPath(SqmPath<?> path) {
+		if ( path instanceof SqmFrom<?, ?> ) {
+			appendFromReference( (SqmFrom<?, ?>) path );
+		}
+		else {
+			visitNode( path );
+		}
+	}
+
+	@Override
+	public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+		return appendSimplePath( path );
+	}
+
+	@Override
+	public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+		sb.append( "fk(" );
+		appendPath( fkExpression.getToOnePath() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> sqmPath) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+		appendPath( path.getLhs() );
+		sb.append( '[' );
+		visitNode( path.getSelectorExpression() );
+		sb.append( ']' );
+		return null;
+	}
+
+	@Override
+	public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+		sb.append( path.getFunctionName() ).append( "(elements(" );
+		appendPath( path.getPluralDomainPath() );
+		sb.append( "))" );
+		return null;
+	}
+
+	@Override
+	public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+		sb.append( path.getFunctionName() ).append( "(indices(" );
+		appendPath( path.getPluralDomainPath() );
+		sb.append( "))" );
+		return null;
+	}
+
+	@Override
+	public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+		if ( sqmTreatedPath instanceof SqmFrom<?, ?> ) {
+			appendFromReference( (SqmFrom<?, ?>) sqmTreatedPath );
+		}
+		else {
+			sb.append( "treat(" );
+			appendPath( sqmTreatedPath.getWrappedPath() );
+			sb.append( " as " ).append( sqmTreatedPath.getTreatTarget().getHibernateEntityName() ).append( ')' );
+		}
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Query spec
+
+	@Override
+	public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+		sb.append( queryGroup.getSetOperator().name() ).append( '(' );
+		for ( SqmQueryPart<?> queryPart : queryGroup.getQueryParts() ) {
+			sb.append( '(' );
+			visitNode( queryPart );
+			sb.append( ')' );
+		}
+		sb.append( ')' );
+		appendQueryPartTail( queryGroup );
+		return null;
+	}
+
+	@Override
+	public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+		// the from clause first, since it numbers the from elements
+		visitFromClause( querySpec.getFromClause() );
+		visitSelectClause( querySpec.getSelectClause() );
+		visitWhereClause( querySpec.getWhereClause() );
+		visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+		visitHavingClause( querySpec.getHavingClausePredicate() );
+		appendQueryPartTail( querySpec );
+		return null;
+	}
+
+	private void appendQueryPartTail(SqmQueryPart<?> queryPart) {
+		visitOrderByClause( queryPart.getOrderByClause() );
+		visitOffsetExpression( queryPart.getOffsetExpression() );
+		visitFetchExpression( queryPart.getFetchExpression() );
+		if ( queryPart.getFetchExpression() != null ) {
+			sb.append( ' ' ).append( queryPart.getFetchClauseType().name() );
+		}
+	}
+
+	@Override
+	public Object visitSelectClause(SqmSelectClause selectClause) {
+		sb.append( " select" );
+		if ( selectClause != null ) {
+			if ( selectClause.isDistinct() ) {
+				sb.append( " distinct" );
+			}
+			for ( SqmSelection<?> selection : selectClause.getSelections() ) {
+				sb.append( ' ' );
+				visitSelection( selection );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitSelection(SqmSelection<?> selection) {
+		visitNode( selection.getSelectableNode() );
+		appendAlias( selection.getAlias() );
+		return null;
+	}
+
+	private void appendAlias(String alias) {
+		if ( alias != null ) {
+			sb.append( " as " );
+			appendQuoted( alias );
+		}
+	}
+
+	/**
+	 * Append the given text between quotes, doubling the quotes it contains, so that
+	 * no text can pass for the structure following it
+	 */
+	private void appendQuoted(Object text) {
+		sb.append( '\'' );
+		final String string = String.valueOf( text );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '\'' ) {
+				sb.append( '\'' );
+			}
+			sb.append( c );
+		}
+		sb.append( '\'' );
+	}
+
+	@Override
+	public Object visitValues(SqmValues values) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+		if ( groupByClauseExpressions != null && !groupByClauseExpressions.isEmpty() ) {
+			sb.append( " group by" );
+			appendExpressions( groupByClauseExpressions );
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitHavingClause(SqmPredicate clause) {
+		if ( clause != null ) {
+			sb.append( " having " );
+			visitNode( clause );
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+		sb.append( "new " )
+				.append( sqmDynamicInstantiation.getInstantiationTarget().getNature().name() )
+				.append( ' ' )
+				.append( sqmDynamicInstantiation.getInstantiationTarget().getJavaType().getName() )
+				.append( '(' );
+		for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+			sb.append( ' ' );
+			visitNode( argument.getSelectableNode() );
+			appendAlias( argument.getAlias() );
+		}
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+		sb.append( "compound " ).append( selection.getJavaType().getName() ).append( '(' );
+		for ( SqmSelectableNode<?> selectionItem : selection.getSelectionItems() ) {
+			sb.append( ' ' );
+			visitNode( selectionItem );
+			appendAlias( selectionItem.getAlias() );
+		}
+		sb.append( ')' );
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// expressions - general
+
+	private void appendExpressions(List<? extends SqmExpression<?>> expressions) {
+		sb.append( '(' );
+		for ( SqmExpression<?> expression : expressions ) {
+			sb.append( ' ' );
+			visitNode( expression );
+		}
+		sb.append( ')' );
+	}
+
+	private void appendType(SqmExpressible<?> type) {
+		final JavaType<?> javaType = type == null ? null : type.getExpressibleJavaType();
+		sb.append( '<' ).append( javaType == null ? "?" : javaType.getJavaType().getTypeName() ).append( '>' );
+	}
+
+	private void appendLiteral(SqmLiteral<?> literal) {
+		final Object value = literal.getLiteralValue();
+		// only values whose string form identifies them
+		if ( value != null
+				&& !( value instanceof String )
+				&& !( value instanceof Character )
+				&& !( value instanceof Boolean )
+				&& !( value instanceof Integer )
+				&& !( value instanceof Long )
+				&& !( value instanceof Short )
+				&& !( value instanceof Byte )
+				&& !( value instanceof Double )
+				&& !( value instanceof Float )
+				&& !( value instanceof BigInteger )
+				&& !( value instanceof BigDecimal )
+				&& !( value instanceof UUID )
+				&& !( value instanceof TemporalAccessor ) ) {
+			notCacheable();
+		}
+		appendType( literal.getNodeType() );
+		appendQuoted( value );
+	}
+
+	@Override
+	public Object visitLiteral(SqmLiteral<?> literal) {
+		appendLiteral( literal );
+		return null;
+	}
+
+	@Override
+	public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+		sb.append( sqmEnumLiteral.getBindableJavaType().getName() )
+				.append( '.' )
+				.append( sqmEnumLiteral.getEnumValue().name() );
+		return null;
+	}
+
+	@Override
+	public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+		sb.append( sqmFieldLiteral.getBindableJavaType().getName() )
+				.append( '.' )
+				.append( sqmFieldLiteral.getFieldName() );
+		return null;
+	}
+
+	@Override
+	public Object visitTuple(SqmTuple<?> sqmTuple) {
+		sb.append( "tuple" );
+		appendExpressions( sqmTuple.getGroupedExpressions() );
+		return null;
+	}
+
+	@Override
+	public Object visitCollation(SqmCollation sqmCollate) {
+		sb.append( "collate " );
+		appendLiteral( sqmCollate );
+		return null;
+	}
+
+	@Override
+	public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+		sb.append( '(' );
+		visitNode( expression.getLeftHandOperand() );
+		sb.append( ' ' ).append( expression.getOperator().name() ).append( ' ' );
+		visitNode( expression.getRightHandOperand() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+		visitCteContainer( expression );
+		sb.append( '(' );
+		visitNode( expression.getQueryPart() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+		sb.append( expression.getModifier().name() );
+		return visitSubQueryExpression( expression.getSubQuery() );
+	}
+
+	@Override
+	public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+		sb.append( "case " );
+		visitNode( expression.getFixture() );
+		for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+			sb.append( " when " );
+			visitNode( whenFragment.getCheckValue() );
+			sb.append( " then " );
+			visitNode( whenFragment.getResult() );
+		}
+		appendOtherwise( expression.getOtherwise() );
+		return null;
+	}
+
+	@Override
+	public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+		sb.append( "case" );
+		for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+			sb.append( " when " );
+			visitNode( whenFragment.getPredicate() );
+			sb.append( " then " );
+			visitNode( whenFragment.getResult() );
+		}
+		appendOtherwise( expression.getOtherwise() );
+		return null;
+	}
+
+	private void appendOtherwise(SqmExpression<?> otherwise) {
+		if ( otherwise != null ) {
+			sb.append( " else " );
+			visitNode( otherwise );
+		}
+		sb.append( " end" );
+	}
+
+	@Override
+	public Object visitAny(SqmAny<?> sqmAny) {
+		sb.append( "any" );
+		return visitSubQueryExpression( sqmAny.getSubquery() );
+	}
+
+	@Override
+	public Object visitEvery(SqmEvery<?> sqmEvery) {
+		sb.append( "every" );
+		return visitSubQueryExpression( sqmEvery.getSubquery() );
+	}
+
+	@Override
+	public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+		sb.append( sqmSummarization.getKind().name() );
+		appendExpressions( sqmSummarization.getGroupings() );
+		return null;
+	}
+
+	@Override
+	public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+		Integer position = parameterPositions.get( expression );
+		if ( position == null ) {
+			parameters.add( expression );
+			position = parameters.size();
+			parameterPositions.put( expression, position );
+		}
+		sb.append( '?' ).append( position );
+		final BindableType<?> anticipatedType = expression.getAnticipatedType();
+		sb.append( '<' ).append( anticipatedType == null ? "?" : anticipatedType.getBindableJavaType().getName() );
+		if ( expression.allowMultiValuedBinding() ) {
+			sb.append( '*' );
+		}
+		sb.append( '>' );
+		return null;
+	}
+
+	@Override
+	public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+		sb.append( "type " ).append( expression.getNodeType().getHibernateEntityName() );
+		return null;
+	}
+
+	@Override
+	public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath expression) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue expression) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+		sb.append( "type(" );
+		visitNode( expression.getDiscriminatorSource() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+		sb.append( expression.getOperation().name() ).append( '(' );
+		visitNode( expression.getOperand() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitFunction(SqmFunction<?> tSqmFunction) {
+		if ( tSqmFunction instanceof SqmWindowFunction<?>
+				|| tSqmFunction instanceof SqmOrderedSetAggregateFunction<?> ) {
+			notCacheable();
+		}
+		sb.append( tSqmFunction.getFunctionName() );
+		appendType( tSqmFunction.getNodeType() );
+		sb.append( '(' );
+		for ( Object argument : tSqmFunction.getArguments() ) {
+			if ( !( argument instanceof SqmVisitableNode ) ) {
+				notCacheable();
+			}
+			sb.append( ' ' );
+			visitNode( (SqmVisitableNode) argument );
+		}
+		sb.append( ')' );
+		if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+			final SqmPredicate filter = ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter();
+			if ( filter != null ) {
+				sb.append( " filter " );
+				visitNode( filter );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+		sb.append( extractUnit.getUnit().name() );
+		return null;
+	}
+
+	@Override
+	public Object visitFormat(SqmFormat sqmFormat) {
+		sb.append( "format " );
+		appendLiteral( sqmFormat );
+		return null;
+	}
+
+	@Override
+	public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+		sb.append( "as " );
+		appendType( sqmCastTarget.getType() );
+		sb.append( sqmCastTarget.getLength() )
+				.append( ',' )
+				.append( sqmCastTarget.getPrecision() )
+				.append( ',' )
+				.append( sqmCastTarget.getScale() );
+		return null;
+	}
+
+	@Override
+	public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+		sb.append( trimSpecification.getSpecification().name() );
+		return null;
+	}
+
+	@Override
+	public Object visitDistinct(SqmDistinct<?> distinct) {
+		sb.append( "distinct " );
+		visitNode( distinct.getExpression() );
+		return null;
+	}
+
+	@Override
+	public Object visitStar(SqmStar sqmStar) {
+		sb.append( '*' );
+		return null;
+	}
+
+	@Override
+	public Object visitOver(SqmOver<?> over) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+		return notCacheable();
+	}
+
+	@Override
+	public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+		sb.append( "coalesce" );
+		appendExpressions( sqmCoalesce.getArguments() );
+		return null;
+	}
+
+	@Override
+	public Object visitToDuration(SqmToDuration<?> toDuration) {
+		sb.append( '(' );
+		visitNode( toDuration.getMagnitude() );
+		sb.append( ' ' );
+		visitNode( toDuration.getUnit() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitByUnit(SqmByUnit sqmByUnit) {
+		sb.append( '(' );
+		visitNode( sqmByUnit.getDuration() );
+		sb.append( " by " );
+		visitNode( sqmByUnit.getUnit() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+		sb.append( durationUnit.getUnit().name() );
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// predicates
+
+	private void appendNegation(SqmNegatablePredicate predicate) {
+		if ( predicate.isNegated() ) {
+			sb.append( "not " );
+		}
+	}
+
+	@Override
+	public Object visitWhereClause(SqmWhereClause whereClause) {
+		if ( whereClause != null && whereClause.getPredicate() != null ) {
+			sb.append( " where " );
+			visitNode( whereClause.getPredicate() );
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+		sb.append( '(' );
+		visitNode( predicate.getSubPredicate() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+		if ( predicate.isNegated() ) {
+			sb.append( "not " );
+		}
+		sb.append( predicate.getOperator().name() ).append( '(' );
+		for ( SqmPredicate subPredicate : predicate.getPredicates() ) {
+			sb.append( ' ' );
+			visitNode( subPredicate );
+		}
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( '(' );
+		visitNode( predicate.getLeftHandExpression() );
+		sb.append( ' ' ).append( predicate.getSqmOperator().name() ).append( ' ' );
+		visitNode( predicate.getRightHandExpression() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "empty(" );
+		visitNode( predicate.getPluralPath() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "null(" );
+		visitNode( predicate.getExpression() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "between(" );
+		visitNode( predicate.getExpression() );
+		sb.append( ' ' );
+		visitNode( predicate.getLowerBound() );
+		sb.append( ' ' );
+		visitNode( predicate.getUpperBound() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitLikePredicate(SqmLikePredicate predicate) {
+		appendNegation( predicate );
+		sb.append( predicate.isCaseSensitive() ? "like(" : "ilike(" );
+		visitNode( predicate.getMatchExpression() );
+		sb.append( ' ' );
+		visitNode( predicate.getPattern() );
+		if ( predicate.getEscapeCharacter() != null ) {
+			sb.append( " escape " );
+			visitNode( predicate.getEscapeCharacter() );
+		}
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "member(" );
+		visitNode( predicate.getLeftHandExpression() );
+		sb.append( ' ' );
+		visitNode( predicate.getPluralPath() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "not(" );
+		visitNode( predicate.getWrappedPredicate() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+		appendNegation( predicate );
+		sb.append( "in(" );
+		visitNode( predicate.getTestExpression() );
+		sb.append( ' ' );
+		appendExpressions( predicate.getListExpressions() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+		appendNegation( predicate );
+		sb.append( "in(" );
+		visitNode( predicate.getTestExpression() );
+		sb.append( ' ' );
+		visitNode( predicate.getSubQueryExpression() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+		appendNegation( predicate );
+		sb.append( "boolean(" );
+		visitNode( predicate.getBooleanExpression() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+		appendNegation( sqmExistsPredicate );
+		sb.append( "exists" );
+		visitNode( sqmExistsPredicate.getExpression() );
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// sorting
+
+	@Override
+	public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+		if ( orderByClause != null && orderByClause.getSortSpecifications() != null
+				&& !orderByClause.getSortSpecifications().isEmpty() ) {
+			sb.append( " order by" );
+			for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+				sb.append( ' ' );
+				visitSortSpecification( sortSpecification );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+		visitNode( sortSpecification.getSortExpression() );
+		sb.append( ' ' ).append( sortSpecification.getSortOrder().name() );
+		if ( sortSpecification.getNullPrecedence() != null ) {
+			sb.append( ' ' ).append( sortSpecification.getNullPrecedence().name() );
+		}
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// paging
+
+	@Override
+	public Object visitOffsetExpression(SqmExpression<?> expression) {
+		if ( expression != null ) {
+			sb.append( " offset " );
+			visitNode( expression );
+		}
+		return null;
+	}
+
+	@Override
+	public Object visitFetchExpression(SqmExpression<?> expression) {
+		if ( expression != null ) {
+			sb.append( " fetch " );
+			visitNode( expression );
+		}
+		return null;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// misc
+
+	@Override
+	public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+		sb.append( "size(" );
+		visitNode( function.getPluralPath() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+		sb.append( "entry(" );
+		appendPath( function.getMapPath() );
+		sb.append( ')' );
+		return null;
+	}
+
+	@Override
+	public Object visitFullyQualifiedClass(Class<?> namedClass) {
+		return notCacheable();
+	}
+
+	/**
+	 * Signals a node which is not rendered
+	 */
+	private static class NotCacheableException extends RuntimeException {
+		private static final NotCacheableException INSTANCE = new NotCacheableException();
+
+		private NotCacheableException() {
+			super( "Not cacheable", null, false, false );
+		}
+	}
+}
@@ -20,6 +20,7 @@ import java.util.function.Function;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
@@ -256,10 +257,14 @@ public class SqmUtil {
 
 					// an then one for each of the expansions
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition++ );
+					// there may be more expansions than values if the in-list was padded,
+					// see #determinePaddedBindValueCount
+					assert expansions.size() >= bindValues.size() - 1;
+					Object lastBindValue = null;
+					for ( SqmParameter<?> expansionSqmParam : expansions ) {
+						if ( valueItr.hasNext() ) {
+							lastBindValue = valueItr.next();
+						}
 						final List<List<JdbcParameter>> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							List<JdbcParameter> expansionJdbcParams = jdbcParamBinds.get( i );
@@ -268,7 +273,7 @@ public class SqmUtil {
 									queryParam, domainParamBinding,
 									parameterType,
 									expansionJdbcParams,
-									valueItr.next(),
+									lastBindValue,
 									tableGroupLocator,
 									session
 							);
@@ -397,6 +402,37 @@ public class SqmUtil {
 		assert offset == jdbcParams.size();
 	}
 
+	/**
+	 * The number of parameters to render for a multi-valued parameter of an in-list predicate,
+	 * given the number of values bound to it.  When
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING padding} is
+	 * enabled, this is the next power of two, respecting the
+	 * {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit() in-list limit} of
+	 * the dialect, so that all the lists of sizes up to that number share the same translation.
+	 * The parameters beyond the bound values are bound to the last value.
+	 */
+	public static int determinePaddedBindValueCount(int bindValueCount, SessionFactoryImplementor factory) {
+		if ( bindValueCount <= 2 || !factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			return bindValueCount;
+		}
+
+		final int paddedCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+		final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		if ( inExprLimit <= 0 || paddedCount <= inExprLimit ) {
+			return paddedCount;
+		}
+		else if ( bindValueCount < inExprLimit ) {
+			return inExprLimit;
+		}
+		else {
+			// the list is split into in-lists of at most inExprLimit elements, pad the last one
+			final int remainder = bindValueCount % inExprLimit;
+			return remainder == 0
+					? bindValueCount
+					: bindValueCount - remainder + Math.min( MathHelper.ceilingPowerOfTwo( remainder ), inExprLimit );
+		}
+	}
+
 	public static Bindable determineParameterType(
 			QueryParameterBinding<?> binding,
 			QueryParameterImplementor<?> parameter,
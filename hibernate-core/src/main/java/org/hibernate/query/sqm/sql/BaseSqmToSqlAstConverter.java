@@ -135,6 +135,7 @@ import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpr
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.mutation.internal.SqmInsertStrategyHelper;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
@@ -6955,10 +6956,13 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 		try {
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
-				// for each bind value create an "expansion"
+			// for each bind value create an "expansion", padding the list if enabled, so
+			// that the translation may be reused for lists of other sizes
+			final int expansionCount = SqmUtil.determinePaddedBindValueCount(
+					domainParamBinding.getBindValues().size(),
+					creationContext.getSessionFactory()
+			);
+			for ( int i = 1; i < expansionCount; i++ ) {
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
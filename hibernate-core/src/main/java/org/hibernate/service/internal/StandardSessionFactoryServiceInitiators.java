@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
+import org.hibernate.loader.ast.internal.ParallelMultiIdLoadExecutorInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -28,6 +29,7 @@ public final class StandardSessionFactoryServiceInitiators {
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
+		serviceInitiators.add( ParallelMultiIdLoadExecutorInitiator.INSTANCE );
 
 		return serviceInitiators;
 	}
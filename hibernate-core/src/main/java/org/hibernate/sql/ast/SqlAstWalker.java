@@ -53,6 +53,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -183,6 +184,10 @@ public interface SqlAstWalker {
 
 	void visitInListPredicate(InListPredicate inListPredicate);
 
+	default void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		throw new UnsupportedOperationException( "In-array predicates are not supported by " + getClass().getName() );
+	}
+
 	void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate);
 
 	void visitExistsPredicate(ExistsPredicate existsPredicate);
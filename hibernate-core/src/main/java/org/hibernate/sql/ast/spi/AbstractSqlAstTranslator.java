@@ -36,7 +36,6 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.FilterJdbcParameter;
-import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.Stack;
@@ -73,6 +72,7 @@ import org.hibernate.query.sqm.function.MultipatternSqmFunctionDescriptor;
 import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpression;
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.sql.internal.SqmParameterInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqmPathInterpretation;
 import org.hibernate.query.sqm.tree.expression.Conversion;
@@ -146,6 +146,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -6692,67 +6693,26 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			appendSql( " not" );
 		}
 		appendSql( " in(" );
-		String separator = NO_SEPARATOR;
-
-		int bindValueCount = listExpressions.size();
-		int bindValueMaxCount = bindValueCount;
-
-		final Dialect dialect = getSessionFactory().getJdbcServices().getDialect();
-		int inExprLimit = dialect.getInExpressionCountLimit();
-
-		final boolean inClauseParameterPaddingEnabled = getSessionFactory().
-				getSessionFactoryOptions().inClauseParameterPaddingEnabled()
-				&& bindValueCount > 2;
-
-		if ( inClauseParameterPaddingEnabled ) {
-			// bindValueCount: 1005
-			// bindValuePaddingCount: 1024
-			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
 
-			// inExprLimit: 1000
-			if ( inExprLimit > 0 ) {
-				if ( bindValuePaddingCount > inExprLimit ) {
-					// bindValueCount % inExprLimit: 5
-					// bindValuePaddingCount: 8
-					if ( bindValueCount < inExprLimit ) {
-						bindValueMaxCount = inExprLimit;
-					}
-					else {
-						bindValueMaxCount = MathHelper.ceilingPowerOfTwo( bindValueCount % inExprLimit );
-					}
-				}
-				else if ( bindValueCount < bindValuePaddingCount ) {
-					bindValueMaxCount = bindValuePaddingCount;
-				}
-			}
-			else if ( bindValueCount < bindValuePaddingCount ) {
-				bindValueMaxCount = bindValuePaddingCount;
-			}
-		}
-
-		final Iterator<Expression> iterator = listExpressions.iterator();
-		int itemNumber = 0;
-		while ( iterator.hasNext() && ( inExprLimit == 0 || itemNumber < inExprLimit ) ) {
-			final Expression listExpression = itemAccessor.apply( iterator.next() );
-			appendSql( separator );
-			listExpression.accept( this );
-			separator = COMA_SEPARATOR;
-			itemNumber++;
-			// If we encounter an expression that is not a parameter or literal, we reset the inExprLimit and bindValueMaxCount
-			// and just render through the in list expressions as they are without padding/splitting
-			if ( !( listExpression instanceof JdbcParameter || listExpression instanceof SqmParameterInterpretation || listExpression instanceof Literal ) ) {
+		final int bindValueCount = listExpressions.size();
+		int inExprLimit = getDialect().getInExpressionCountLimit();
+		// the list is padded just like the expansion of a multi-valued parameter
+		int paddedBindValueCount = SqmUtil.determinePaddedBindValueCount( bindValueCount, getSessionFactory() );
+		for ( Expression listExpression : listExpressions ) {
+			// If we encounter an expression that is not a parameter or literal, we just render
+			// through the in list expressions as they are without padding/splitting
+			final Expression item = itemAccessor.apply( listExpression );
+			if ( !( item instanceof JdbcParameter || item instanceof SqmParameterInterpretation || item instanceof Literal ) ) {
 				inExprLimit = 0;
-				bindValueMaxCount = bindValueCount;
+				paddedBindValueCount = bindValueCount;
+				break;
 			}
 		}
 
-		if ( itemNumber != inExprLimit && bindValueCount == bindValueMaxCount ) {
-			appendSql( CLOSE_PARENTHESIS );
-			return;
-		}
-
-		if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
-			do {
+		final Expression lastExpression = itemAccessor.apply( listExpressions.get( bindValueCount - 1 ) );
+		String separator = NO_SEPARATOR;
+		for ( int itemNumber = 0; itemNumber < paddedBindValueCount; itemNumber++ ) {
+			if ( inExprLimit > 0 && itemNumber > 0 && itemNumber % inExprLimit == 0 ) {
 				append( ") or " );
 				inListPredicate.getTestExpression().accept( this );
 				if ( inListPredicate.isNegated() ) {
@@ -6760,28 +6720,27 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				}
 				appendSql( " in(" );
 				separator = NO_SEPARATOR;
-				itemNumber = 0;
-				while ( iterator.hasNext() && itemNumber < inExprLimit ) {
-					final Expression listExpression = iterator.next();
-					appendSql( separator );
-					itemAccessor.apply( listExpression ).accept( this );
-					separator = COMA_SEPARATOR;
-					itemNumber++;
-				}
-			} while ( iterator.hasNext() );
-		}
-
-		if ( inClauseParameterPaddingEnabled ) {
-			final Expression lastExpression = itemAccessor.apply( listExpressions.get( listExpressions.size() - 1 ) );
-			for ( ; itemNumber < bindValueMaxCount; itemNumber++ ) {
-				appendSql( separator );
+			}
+			appendSql( separator );
+			if ( itemNumber < bindValueCount ) {
+				itemAccessor.apply( listExpressions.get( itemNumber ) ).accept( this );
+			}
+			else {
 				lastExpression.accept( this );
-				separator = COMA_SEPARATOR;
 			}
+			separator = COMA_SEPARATOR;
 		}
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		inArrayPredicate.getTestExpression().accept( this );
+		appendSql( " = any(" );
+		inArrayPredicate.getArrayParameter().accept( this );
+		appendSql( CLOSE_PARENTHESIS );
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final SqlTuple lhsTuple;
@@ -58,6 +58,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -319,6 +320,17 @@ public class ExpressionReplacementWalker implements SqlAstWalker {
 		}
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		final Expression testExpression = replaceExpression( inArrayPredicate.getTestExpression() );
+		if ( testExpression != inArrayPredicate.getTestExpression() ) {
+			returnedNode = new InArrayPredicate( testExpression, inArrayPredicate.getArrayParameter() );
+		}
+		else {
+			returnedNode = inArrayPredicate;
+		}
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final Expression testExpression = replaceExpression( inSubQueryPredicate.getTestExpression() );
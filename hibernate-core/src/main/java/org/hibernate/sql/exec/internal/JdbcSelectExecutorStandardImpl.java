@@ -24,6 +24,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -225,7 +226,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final LockOptions lockOptions = queryOptions.getLockOptions();
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
-		final Integer fetchSize = queryOptions.getFetchSize();
+		final Integer fetchSize = determineScrollFetchSize( queryOptions, context.getSession() );
+		final boolean detachScrolledEntities = queryOptions.isDetachScrolledEntities();
 		final Limit limit = queryOptions.getLimit();
 
 		return new ExecutionContext() {
@@ -309,6 +311,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						return fetchSize;
 					}
 
+					@Override
+					public boolean isDetachScrolledEntities() {
+						return detachScrolledEntities;
+					}
+
 					@Override
 					public Limit getLimit() {
 						return limit;
@@ -333,6 +340,15 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		};
 	}
 
+	private static Integer determineScrollFetchSize(QueryOptions queryOptions, SharedSessionContractImplementor session) {
+		final Integer fetchSize = queryOptions.getFetchSize();
+		if ( fetchSize != null ) {
+			return fetchSize;
+		}
+		final int scrollFetchSize = session.getFactory().getSessionFactoryOptions().getScrollFetchSize();
+		return scrollFetchSize == 0 ? null : scrollFetchSize;
+	}
+
 	private <T, R> T doExecuteQuery(
 			JdbcOperationQuerySelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
@@ -348,8 +364,35 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				statementCreator
 		);
+		final String queryIdentifier = executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() );
+		final SessionEventListenerManager eventListenerManager = executionContext.getSession().getEventListenerManager();
+		eventListenerManager.queryExecutionStart( queryIdentifier );
+		try {
+			return doExecuteQuery(
+					jdbcSelect,
+					executionContext,
+					rowTransformer,
+					domainResultType,
+					resultsConsumer,
+					deferredResultSetAccess,
+					queryIdentifier
+			);
+		}
+		finally {
+			eventListenerManager.queryExecutionEnd( queryIdentifier );
+		}
+	}
+
+	private <T, R> T doExecuteQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			DeferredResultSetAccess deferredResultSetAccess,
+			String queryIdentifier) {
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
-				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+				queryIdentifier,
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
@@ -441,21 +484,31 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				jdbcValues
 		);
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				executionContext.getSession(),
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+		final SessionEventListenerManager eventListenerManager = executionContext.getSession().getEventListenerManager();
+		eventListenerManager.resultSetProcessingStart();
+		final T result;
+		int resultSize = -1;
+		try {
+			result = resultsConsumer.consume(
+					jdbcValues,
+					executionContext.getSession(),
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+			resultSize = getResultSize( result );
+		}
+		finally {
+			eventListenerManager.resultSetProcessingEnd( resultSize );
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
 			statistics.queryExecuted(
 					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
-					getResultSize( result ),
+					resultSize,
 					milliseconds
 			);
 		}
@@ -8,6 +8,7 @@ package org.hibernate.sql.results.graph.instantiation.internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
@@ -22,7 +23,9 @@ import org.hibernate.type.descriptor.java.JavaType;
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
-	private final List<ArgumentReader<?>> argumentReaders;
+	private final ArgumentReader<?>[] argumentReaders;
+	// reused for every row: the constructor receives the elements, never the array itself
+	private final Object[] args;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -30,7 +33,8 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
-		this.argumentReaders = argumentReaders;
+		this.argumentReaders = argumentReaders.toArray( new ArgumentReader<?>[0] );
+		this.args = new Object[ this.argumentReaders.length ];
 	}
 
 	@Override
@@ -42,10 +46,9 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	public R assemble(
 			RowProcessingState rowProcessingState,
 			JdbcValuesSourceProcessingOptions options) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
-		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState, options );
+		final Object[] args = this.args;
+		for ( int i = 0; i < args.length; i++ ) {
+			args[i] = argumentReaders[i].assemble( rowProcessingState, options );
 		}
 
 		try {
@@ -57,5 +60,9 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 		catch (Exception e) {
 			throw new InstantiationException( "Error performing dynamic instantiation : " + targetConstructor.getDeclaringClass().getName(), e );
 		}
+		finally {
+			// don't keep the values of the last row reachable
+			Arrays.fill( args, null );
+		}
 	}
 }
@@ -126,6 +126,11 @@ public class ResultsHelper {
 
 		logInitializers( initializerMap );
 
+		if ( initializers.isEmpty() ) {
+			// only basic values, and dynamic instantiations of them
+			return new ScalarRowReader<>( assemblers, rowTransformer, transformedResultJavaType );
+		}
+
 		return new StandardRowReader<>( assemblers, initializers, rowTransformer, transformedResultJavaType );
 	}
 
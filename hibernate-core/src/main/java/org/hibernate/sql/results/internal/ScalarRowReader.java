@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.query.named.RowReaderMemento;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * RowReader used when no {@link Initializer}s are involved, that is, when the results are
+ * made up of basic values and dynamic instantiations of basic values only.
+ * <p>
+ * Such rows are assembled straight from the JDBC values, without coordinating initializers,
+ * and a single result is returned as is, without wrapping it in an intermediate row array,
+ * unless the row transformer needs one.
+ *
+ * @see StandardRowReader
+ */
+public class ScalarRowReader<T> implements RowReader<T> {
+	private final DomainResultAssembler<?>[] resultAssemblers;
+	private final RowTransformer<T> rowTransformer;
+	private final Class<T> domainResultJavaType;
+
+	private final boolean singularResult;
+
+	public ScalarRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		this.resultAssemblers = resultAssemblers.toArray( new DomainResultAssembler<?>[0] );
+		this.rowTransformer = rowTransformer;
+		this.domainResultJavaType = domainResultJavaType;
+		this.singularResult = this.resultAssemblers.length == 1 && isSingularReturn( rowTransformer );
+	}
+
+	/**
+	 * Does the transformer return the single element of a row as is?
+	 */
+	private static boolean isSingularReturn(RowTransformer<?> rowTransformer) {
+		return rowTransformer == RowTransformerSingularReturnImpl.INSTANCE
+			|| rowTransformer == RowTransformerStandardImpl.INSTANCE;
+	}
+
+	@Override
+	public Class<T> getDomainResultResultJavaType() {
+		return domainResultJavaType;
+	}
+
+	@Override
+	public Class<?> getResultJavaType() {
+		if ( resultAssemblers.length == 1 ) {
+			return resultAssemblers[0].getAssembledJavaType().getJavaTypeClass();
+		}
+
+		return Object[].class;
+	}
+
+	@Override
+	public List<JavaType<?>> getResultJavaTypes() {
+		final List<JavaType<?>> javaTypes = new ArrayList<>( resultAssemblers.length );
+		for ( DomainResultAssembler<?> resultAssembler : resultAssemblers ) {
+			javaTypes.add( resultAssembler.getAssembledJavaType() );
+		}
+		return javaTypes;
+	}
+
+	@Override
+	public List<Initializer> getInitializers() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		if ( singularResult ) {
+			return (T) resultAssemblers[0].assemble( rowProcessingState, options );
+		}
+
+		// the transformer may hand the array out as the result, so it cannot be reused
+		final Object[] resultRow = new Object[ resultAssemblers.length ];
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( rowProcessingState, options );
+		}
+		return rowTransformer.transformRow( resultRow );
+	}
+
+	@Override
+	public void finishUp(JdbcValuesSourceProcessingState processingState) {
+	}
+
+	@Override
+	public RowReaderMemento toMemento(SessionFactoryImplementor factory) {
+		return new RowReaderMemento() {
+			@Override
+			public Class<?>[] getResultClasses() {
+				return ArrayHelper.EMPTY_CLASS_ARRAY;
+			}
+
+			@Override
+			public String[] getResultMappingNames() {
+				return ArrayHelper.EMPTY_STRING_ARRAY;
+			}
+		};
+	}
+}
@@ -112,7 +112,11 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 
-		initializers.forEach( initializer -> initializer.finishUpRow( rowProcessingState ) );
+		final int numberOfInitializers = initializers.size();
+		//noinspection ForLoopReplaceableByForEach
+		for ( int i = 0; i < numberOfInitializers; i++ ) {
+			initializers.get( i ).finishUpRow( rowProcessingState );
+		}
 	}
 
 	@SuppressWarnings("ForLoopReplaceableByForEach")
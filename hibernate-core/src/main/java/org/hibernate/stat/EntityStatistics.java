@@ -50,4 +50,28 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) this entity
+	 * has been batch fetched
+	 *
+	 * @since 6.2
+	 */
+	default long getBatchFetchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The size of the batch fetches of this entity, as of the latest
+	 * batch fetch (since last Statistics clearing), or {@code 0}.  The size
+	 * is tuned at runtime when {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE}
+	 * is enabled.
+	 *
+	 * @since 6.2
+	 */
+	default int getBatchFetchSize() {
+		//For backward compatibility
+		return 0;
+	}
 }
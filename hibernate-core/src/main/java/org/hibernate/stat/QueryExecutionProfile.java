@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The time and memory spent by Hibernate in each phase of a single execution of
+ * a query, as recorded by a {@link QueryExecutionProfiler}.
+ * <p>
+ * Phases may overlap: the JDBC executions and the result processing of queries
+ * triggered while hydrating the results of a query, for example to initialize
+ * associations, are included both in the corresponding phase and in the
+ * {@link Phase#HYDRATION} phase of the profiled query.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_PROFILING
+ * @see QueryStatistics#getLastExecutionProfile()
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface QueryExecutionProfile extends Serializable {
+
+	enum Phase {
+		/**
+		 * The interpretation of HQL into an SQM tree, only recorded
+		 * when it happens in the same session as the execution
+		 */
+		INTERPRETATION,
+		/**
+		 * The translation of the SQM tree into an SQL AST, which is
+		 * skipped if a previous translation could be reused
+		 */
+		TRANSLATION,
+		/**
+		 * The rendering of the SQL AST into SQL
+		 */
+		RENDERING,
+		/**
+		 * The execution of the JDBC statements
+		 */
+		EXECUTION,
+		/**
+		 * The processing of the JDBC results, and the hydration of
+		 * the entities they contain
+		 */
+		HYDRATION
+	}
+
+	/**
+	 * The HQL, or native SQL, of the query
+	 */
+	String getQueryString();
+
+	/**
+	 * The time spent in the given phase, in nanoseconds
+	 */
+	long getNanos(Phase phase);
+
+	/**
+	 * The memory allocated by the executing thread in the given phase, in bytes,
+	 * or {@code -1} if the JVM does not support measuring it.
+	 */
+	long getAllocatedBytes(Phase phase);
+
+	/**
+	 * The number of rows hydrated, or {@code -1} if the results were consumed lazily
+	 */
+	int getRowCount();
+
+	/**
+	 * Whether the HQL interpretation was found in the query plan cache, or
+	 * {@code null} if the interpretation was not recorded
+	 */
+	Boolean isPlanCacheHit();
+
+	/**
+	 * The number of lookups in the second-level cache, or the query cache,
+	 * which found an entry during the execution of the query
+	 */
+	long getSecondLevelCacheHitCount();
+
+	/**
+	 * The number of lookups in the second-level cache, or the query cache,
+	 * which found no entry during the execution of the query
+	 */
+	long getSecondLevelCacheMissCount();
+}
@@ -0,0 +1,299 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.SessionEventListener;
+import org.hibernate.stat.QueryExecutionProfile.Phase;
+
+/**
+ * A {@link SessionEventListener} recording a {@link QueryExecutionProfile} for each
+ * query executed by its session.  Only queries executed by the session itself are
+ * profiled, not those triggered while processing the results of another query.
+ * <p>
+ * A profiler is added to all sessions when
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_PROFILING} is enabled,
+ * in which case the profiles are reported to the {@link Statistics}.  It may also be
+ * added to a single session using {@link org.hibernate.SessionBuilder#eventListeners}.
+ * <p>
+ * The memory allocated in each phase is measured using the thread allocation counters
+ * of the HotSpot {@link com.sun.management.ThreadMXBean}, when they are available.
+ *
+ * @since 6.2
+ */
+@Incubating
+public class QueryExecutionProfiler implements SessionEventListener {
+	private static final Phase[] PHASES = Phase.values();
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = locateThreadMXBean();
+
+	private final transient Consumer<QueryExecutionProfile> consumer;
+
+	private Profile current;
+	private String interpretedQueryString;
+	private QueryExecutionProfile lastProfile;
+
+	private int queryDepth;
+	private final int[] phaseDepths = new int[PHASES.length];
+	private final long[] phaseStartNanos = new long[PHASES.length];
+	private final long[] phaseStartBytes = new long[PHASES.length];
+
+	public QueryExecutionProfiler() {
+		this( null );
+	}
+
+	/**
+	 * @param consumer Notified of the profile of each query once it completes
+	 */
+	public QueryExecutionProfiler(Consumer<QueryExecutionProfile> consumer) {
+		this.consumer = consumer;
+	}
+
+	/**
+	 * The profile of the latest query executed by the session, if any.
+	 */
+	public QueryExecutionProfile getLastProfile() {
+		return lastProfile;
+	}
+
+	private static com.sun.management.ThreadMXBean locateThreadMXBean() {
+		try {
+			final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if ( threadMXBean instanceof com.sun.management.ThreadMXBean ) {
+				final com.sun.management.ThreadMXBean hotSpotThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if ( hotSpotThreadMXBean.isThreadAllocatedMemorySupported()
+						&& hotSpotThreadMXBean.isThreadAllocatedMemoryEnabled() ) {
+					return hotSpotThreadMXBean;
+				}
+			}
+		}
+		catch (LinkageError | RuntimeException e) {
+			// the jdk.management module is not available
+		}
+		return null;
+	}
+
+	private static long allocatedBytes() {
+		return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	private void begin() {
+		current = new Profile();
+		Arrays.fill( phaseDepths, 0 );
+	}
+
+	private void start(Phase phase) {
+		if ( current != null && phaseDepths[phase.ordinal()]++ == 0 ) {
+			phaseStartNanos[phase.ordinal()] = System.nanoTime();
+			phaseStartBytes[phase.ordinal()] = allocatedBytes();
+		}
+	}
+
+	private void end(Phase phase) {
+		final int index = phase.ordinal();
+		if ( current != null && phaseDepths[index] > 0 && --phaseDepths[index] == 0 ) {
+			current.nanos[index] += System.nanoTime() - phaseStartNanos[index];
+			if ( phaseStartBytes[index] >= 0 ) {
+				current.allocatedBytes[index] += allocatedBytes() - phaseStartBytes[index];
+			}
+		}
+	}
+
+	@Override
+	public void queryInterpretationStart(String queryString) {
+		if ( queryDepth == 0 ) {
+			// a new query is created, any previous one which was not executed is discarded
+			begin();
+			interpretedQueryString = queryString;
+		}
+		start( Phase.INTERPRETATION );
+	}
+
+	@Override
+	public void queryInterpretationEnd(boolean cacheHit) {
+		end( Phase.INTERPRETATION );
+		if ( queryDepth == 0 && current != null ) {
+			current.planCacheHit = cacheHit;
+		}
+	}
+
+	@Override
+	public void sqlAstTranslationStart() {
+		if ( current == null ) {
+			begin();
+		}
+		start( Phase.TRANSLATION );
+	}
+
+	@Override
+	public void sqlAstTranslationEnd() {
+		end( Phase.TRANSLATION );
+	}
+
+	@Override
+	public void sqlRenderingStart() {
+		if ( current == null ) {
+			begin();
+		}
+		start( Phase.RENDERING );
+	}
+
+	@Override
+	public void sqlRenderingEnd() {
+		end( Phase.RENDERING );
+	}
+
+	@Override
+	public void queryExecutionStart(String queryIdentifier) {
+		if ( queryDepth++ == 0 ) {
+			if ( current == null ) {
+				begin();
+			}
+			else if ( interpretedQueryString != null && !interpretedQueryString.equals( queryIdentifier ) ) {
+				// the interpreted query was never executed, its interpretation does not belong to this one
+				discardInterpretation();
+			}
+			interpretedQueryString = null;
+			current.queryString = queryIdentifier;
+		}
+	}
+
+	private void discardInterpretation() {
+		final int index = Phase.INTERPRETATION.ordinal();
+		current.nanos[index] = 0;
+		current.allocatedBytes[index] = THREAD_MX_BEAN == null ? -1 : 0;
+		current.planCacheHit = null;
+	}
+
+	@Override
+	public void queryExecutionEnd(String queryIdentifier) {
+		if ( queryDepth > 0 && --queryDepth == 0 ) {
+			final Profile profile = current;
+			current = null;
+			lastProfile = profile;
+			if ( consumer != null ) {
+				consumer.accept( profile );
+			}
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		if ( queryDepth > 0 ) {
+			start( Phase.EXECUTION );
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		if ( queryDepth > 0 ) {
+			end( Phase.EXECUTION );
+		}
+	}
+
+	@Override
+	public void resultSetProcessingStart() {
+		if ( queryDepth > 0 ) {
+			start( Phase.HYDRATION );
+		}
+	}
+
+	@Override
+	public void resultSetProcessingEnd(int rowCount) {
+		if ( queryDepth > 0 ) {
+			end( Phase.HYDRATION );
+			if ( queryDepth == 1 ) {
+				current.rowCount = rowCount;
+			}
+		}
+	}
+
+	@Override
+	public void cacheGetEnd(boolean hit) {
+		if ( queryDepth > 0 ) {
+			if ( hit ) {
+				current.secondLevelCacheHitCount++;
+			}
+			else {
+				current.secondLevelCacheMissCount++;
+			}
+		}
+	}
+
+	private static class Profile implements QueryExecutionProfile {
+		private String queryString;
+		private final long[] nanos = new long[PHASES.length];
+		private final long[] allocatedBytes = new long[PHASES.length];
+		private int rowCount = -1;
+		private Boolean planCacheHit;
+		private long secondLevelCacheHitCount;
+		private long secondLevelCacheMissCount;
+
+		private Profile() {
+			if ( THREAD_MX_BEAN == null ) {
+				Arrays.fill( allocatedBytes, -1 );
+			}
+		}
+
+		@Override
+		public String getQueryString() {
+			return queryString;
+		}
+
+		@Override
+		public long getNanos(Phase phase) {
+			return nanos[phase.ordinal()];
+		}
+
+		@Override
+		public long getAllocatedBytes(Phase phase) {
+			return allocatedBytes[phase.ordinal()];
+		}
+
+		@Override
+		public int getRowCount() {
+			return rowCount;
+		}
+
+		@Override
+		public Boolean isPlanCacheHit() {
+			return planCacheHit;
+		}
+
+		@Override
+		public long getSecondLevelCacheHitCount() {
+			return secondLevelCacheHitCount;
+		}
+
+		@Override
+		public long getSecondLevelCacheMissCount() {
+			return secondLevelCacheMissCount;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder sb = new StringBuilder( "QueryExecutionProfile[query=" ).append( queryString );
+			for ( Phase phase : PHASES ) {
+				final String name = phase.name().toLowerCase( Locale.ROOT );
+				sb.append( ',' ).append( name ).append( "Nanos=" ).append( nanos[phase.ordinal()] );
+				if ( allocatedBytes[phase.ordinal()] >= 0 ) {
+					sb.append( ',' ).append( name ).append( "Bytes=" ).append( allocatedBytes[phase.ordinal()] );
+				}
+			}
+			return sb.append( ",rows=" ).append( rowCount )
+					.append( ",planCacheHit=" ).append( planCacheHit )
+					.append( ",secondLevelCacheHits=" ).append( secondLevelCacheHitCount )
+					.append( ",secondLevelCacheMisses=" ).append( secondLevelCacheMissCount )
+					.append( ']' )
+					.toString();
+		}
+	}
+}
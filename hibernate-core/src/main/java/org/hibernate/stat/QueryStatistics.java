@@ -105,4 +105,16 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The profile of the latest execution of this query, or {@code null}
+	 * if {@value org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_PROFILING}
+	 * is disabled.
+	 *
+	 * @since 6.2
+	 */
+	default QueryExecutionProfile getLastExecutionProfile() {
+		//For backward compatibility
+		return null;
+	}
 }
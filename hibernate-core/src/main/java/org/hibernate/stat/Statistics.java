@@ -266,6 +266,32 @@ public interface Statistics {
 	 */
 	long getSecondLevelCachePutCount();
 
+	/**
+	 * The current number of pending asynchronous evictions from the
+	 * second-level cache, over all regions.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default long getSecondLevelCacheWriteBehindQueueDepth() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The global number of asynchronous evictions from the second-level
+	 * cache which failed, leaving a possibly stale entry in the cache.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default long getSecondLevelCacheWriteBehindDroppedCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The global number of sessions closed.
 	 */
@@ -364,6 +390,40 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of JDBC batches executed.
+	 *
+	 * @since 6.2
+	 */
+	default long getJdbcBatchExecutionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of rows added to the executed JDBC batches.
+	 *
+	 * @since 6.2
+	 */
+	default long getJdbcBatchRowCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The ratio of the number of rows added to the executed JDBC batches to their
+	 * configured size, that is, {@code 1.0} if every batch was full when executed.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_BATCH_PLANNING
+	 *
+	 * @since 6.2
+	 */
+	default double getJdbcBatchFillRatio() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -379,4 +439,44 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache because it
+	 * reached its maximum size.  Only reported by cache implementations which
+	 * support it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The global number of plans of criteria queries successfully retrieved
+	 * from the query plan cache.  These are also counted by
+	 * {@link #getQueryPlanCacheHitCount()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.2
+	 */
+	default long getCriteriaQueryPlanCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The global number of lookups of plans of criteria queries <em>not</em>
+	 * found in the query plan cache.  These are also counted by
+	 * {@link #getQueryPlanCacheMissCount()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.2
+	 */
+	default long getCriteriaQueryPlanCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
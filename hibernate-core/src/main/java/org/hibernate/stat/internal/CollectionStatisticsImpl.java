@@ -25,6 +25,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LongAdder batchFetchCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -56,6 +58,14 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return updateCount.sum();
 	}
 
+	public long getBatchFetchCount() {
+		return batchFetchCount.sum();
+	}
+
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -76,6 +86,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	void batchFetched(int batchSize) {
+		batchFetchCount.increment();
+		batchFetchSize = batchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -84,7 +99,9 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchCount=" ).append( this.batchFetchCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
@@ -26,6 +26,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder batchFetchCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +62,14 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	public long getBatchFetchCount() {
+		return batchFetchCount.sum();
+	}
+
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +94,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void batchFetched(int batchSize) {
+		batchFetchCount.increment();
+		batchFetchSize = batchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +108,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchCount=" ).append( this.batchFetchCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -13,6 +13,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.QueryExecutionProfile;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -38,6 +39,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private volatile QueryExecutionProfile lastExecutionProfile;
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -154,6 +157,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	@Override
+	public QueryExecutionProfile getLastExecutionProfile() {
+		return lastExecutionProfile;
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -187,6 +195,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCompilationTotalMicroseconds.addAndGet( microseconds );
 	}
 
+	void executionProfiled(QueryExecutionProfile profile) {
+		lastExecutionProfile = profile;
+	}
+
 	void incrementCacheHitCount() {
 		cacheHitCount.increment();
 	}
@@ -18,16 +18,20 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.CacheWriteBehindQueue;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryExecutionProfile;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
 
 /**
  * Implementation of {@link Statistics} based on the {@link java.util.concurrent} package.
@@ -58,6 +62,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder jdbcBatchExecutionCount = new LongAdder();
+	private final LongAdder jdbcBatchRowCount = new LongAdder();
+	private final LongAdder jdbcBatchCapacity = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -73,6 +80,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder secondLevelCacheHitCount = new LongAdder();
 	private final LongAdder secondLevelCacheMissCount = new LongAdder();
 	private final LongAdder secondLevelCachePutCount = new LongAdder();
+	private final LongAdder secondLevelCacheWriteBehindDroppedCount = new LongAdder();
 	
 	private final LongAdder naturalIdCacheHitCount = new LongAdder();
 	private final LongAdder naturalIdCacheMissCount = new LongAdder();
@@ -91,6 +99,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+	private final LongAdder criteriaQueryPlanCacheHitCount = new LongAdder();
+	private final LongAdder criteriaQueryPlanCacheMissCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -197,6 +208,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+		criteriaQueryPlanCacheHitCount.reset();
+		criteriaQueryPlanCacheMissCount.reset();
+
+		jdbcBatchExecutionCount.reset();
+		jdbcBatchRowCount.reset();
+		jdbcBatchCapacity.reset();
+
+		secondLevelCacheWriteBehindDroppedCount.reset();
 
 		resetStart();
 	}
@@ -285,6 +305,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchEntity(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).batchFetched( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -384,6 +409,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchCollection(String role, int batchSize) {
+		getCollectionStatistics( role ).batchFetched( batchSize );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -589,6 +619,31 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return secondLevelCachePutCount.sum();
 	}
 
+	@Override
+	public long getSecondLevelCacheWriteBehindQueueDepth() {
+		long depth = 0;
+		for ( String regionName : cache.getCacheRegionNames() ) {
+			final Region region = cache.getRegion( regionName );
+			if ( region instanceof DomainDataRegionTemplate ) {
+				final CacheWriteBehindQueue queue = ( (DomainDataRegionTemplate) region ).getWriteBehindQueue();
+				if ( queue != null ) {
+					depth += queue.size();
+				}
+			}
+		}
+		return depth;
+	}
+
+	@Override
+	public void secondLevelCacheWriteBehindDrop(String regionName) {
+		secondLevelCacheWriteBehindDroppedCount.increment();
+	}
+
+	@Override
+	public long getSecondLevelCacheWriteBehindDroppedCount() {
+		return secondLevelCacheWriteBehindDroppedCount.sum();
+	}
+
 	@Override
 	public long getUpdateTimestampsCacheHitCount() {
 		return updateTimestampsCacheHitCount.sum();
@@ -688,6 +743,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutionProfiled(QueryExecutionProfile profile) {
+		if ( profile.getQueryString() != null ) {
+			getQueryStatistics( profile.getQueryString() ).executionProfiled( profile );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -737,6 +799,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getCriteriaQueryPlanCacheHitCount() {
+		return criteriaQueryPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getCriteriaQueryPlanCacheMissCount() {
+		return criteriaQueryPlanCacheMissCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -749,6 +826,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	@Override
 	public void queryPlanCacheHit(String query) {
 		queryPlanCacheHitCount.increment();
+		if ( CRITERIA_HQL_STRING.equals( query ) ) {
+			criteriaQueryPlanCacheHitCount.increment();
+		}
 
 		if ( query != null ) {
 			getQueryStatistics( query ).incrementPlanCacheHitCount();
@@ -758,12 +838,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	@Override
 	public void queryPlanCacheMiss(String query) {
 		queryPlanCacheMissCount.increment();
+		if ( CRITERIA_HQL_STRING.equals( query ) ) {
+			criteriaQueryPlanCacheMissCount.increment();
+		}
 
 		if ( query != null ) {
 			getQueryStatistics( query ).incrementPlanCacheMissCount();
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -844,6 +932,29 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void jdbcBatchExecution(int rowCount, int batchSize) {
+		jdbcBatchExecutionCount.increment();
+		jdbcBatchRowCount.add( rowCount );
+		jdbcBatchCapacity.add( batchSize );
+	}
+
+	@Override
+	public long getJdbcBatchExecutionCount() {
+		return jdbcBatchExecutionCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchRowCount() {
+		return jdbcBatchRowCount.sum();
+	}
+
+	@Override
+	public double getJdbcBatchFillRatio() {
+		final long capacity = jdbcBatchCapacity.sum();
+		return capacity == 0 ? 0 : (double) jdbcBatchRowCount.sum() / capacity;
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -909,6 +1020,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
 				",second level cache puts=" + secondLevelCachePutCount +
+				",second level cache write-behind drops=" + secondLevelCacheWriteBehindDroppedCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
 				",entities loaded=" + entityLoadCount +
@@ -936,6 +1048,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
+				",criteria query plan cache hits=" + criteriaQueryPlanCacheHitCount +
+				",criteria query plan cache misses=" + criteriaQueryPlanCacheMissCount +
+				",JDBC batches executed=" + jdbcBatchExecutionCount +
+				",JDBC batch rows=" + jdbcBatchRowCount +
 				']';
 	}
 
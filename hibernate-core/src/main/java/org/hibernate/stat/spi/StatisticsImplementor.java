@@ -8,6 +8,7 @@ package org.hibernate.stat.spi;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryExecutionProfile;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -47,6 +48,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about the execution of a JDBC batch.
+	 *
+	 * @param rowCount The number of rows added to the batch
+	 * @param batchSize The configured size of the batch
+	 */
+	default void jdbcBatchExecution(int rowCount, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -135,6 +146,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void removeCollection(String role);
 
+	/**
+	 * Callback about a batch fetch of an entity.
+	 *
+	 * @param entityName The name of the entity batch fetched
+	 * @param batchSize The size of the batch fetches of the entity, as tuned after this one
+	 */
+	default void batchFetchEntity(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a batch fetch of a collection role.
+	 *
+	 * @param role The collection role batch fetched
+	 * @param batchSize The size of the batch fetches of the role, as tuned after this one
+	 */
+	default void batchFetchCollection(String role, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a put into second level cache.
 	 *
@@ -180,6 +211,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void collectionCacheMiss(NavigableRole collectionRole, String regionName);
 
+	/**
+	 * Callback indicating that an asynchronous eviction from the second level cache failed.
+	 *
+	 * @param regionName The name of the cache region
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE
+	 */
+	default void secondLevelCacheWriteBehindDrop(String regionName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a put into natural id cache.
 	 */
@@ -233,6 +275,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating that an execution of a query has been profiled
+	 *
+	 * @param profile The profile of the execution
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_PROFILING
+	 */
+	default void queryExecutionProfiled(QueryExecutionProfile profile) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -266,6 +319,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an entry was evicted from the query plan cache
+	 * because the cache reached its maximum size.
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
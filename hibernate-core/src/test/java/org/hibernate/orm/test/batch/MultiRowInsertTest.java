@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#MULTI_ROW_INSERTS}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Item.class,
+		MultiRowInsertTest.CustomItem.class,
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Truck.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsertValues.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete CustomItem" ).executeUpdate();
+			session.createMutationQuery( "delete Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Item( i, i % 2 == 0 ? "item #" + i : null ) );
+			}
+		} );
+
+		// two statements inserting 10 rows, and one inserting 5 rows
+		assertThat( statistics.getJdbcBatchExecutionCount() ).isEqualTo( 3L );
+		assertThat( statistics.getJdbcBatchRowCount() ).isEqualTo( 25L );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3L );
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 25; i++ ) {
+				final Item item = session.get( Item.class, i );
+				assertThat( item ).isNotNull();
+				assertThat( item.name ).isEqualTo( i % 2 == 0 ? "item #" + i : null );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertIntoSeveralTables(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Truck( i, "truck #" + i, i * 1000 ) );
+			}
+		} );
+
+		// one statement per table
+		assertThat( statistics.getJdbcBatchExecutionCount() ).isEqualTo( 1L );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Truck truck = session.get( Truck.class, i );
+				assertThat( ( (Vehicle) truck ).name ).isEqualTo( "truck #" + i );
+				assertThat( truck.payload ).isEqualTo( i * 1000 );
+			}
+		} );
+	}
+
+	@Test
+	public void testCustomSqlInsertIsNotRewritten(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new CustomItem( i, "item #" + i ) );
+			}
+		} );
+
+		assertThat( statementInspector.getSqlQueries() )
+				.filteredOn( (sql) -> sql.startsWith( "insert" ) )
+				.isNotEmpty()
+				.allMatch( CustomItem.INSERT::equals );
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 25; i++ ) {
+				assertThat( session.get( CustomItem.class, i ).name ).isEqualTo( "item #" + i );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "CustomItem")
+	@SQLInsert(sql = CustomItem.INSERT)
+	public static class CustomItem {
+		private static final String INSERT = "insert into CustomItem (name, id) values (?, ?)";
+
+		@Id
+		private Integer id;
+		private String name;
+
+		public CustomItem() {
+		}
+
+		public CustomItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Truck")
+	public static class Truck extends Vehicle {
+		private int payload;
+
+		public Truck() {
+		}
+
+		public Truck(Integer id, String name, int payload) {
+			super( id, name );
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.AdaptiveBatchFetchSize;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_FETCH_ADAPTIVE}
+ */
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchSizeTest.Author.class, AdaptiveBatchFetchSizeTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.BATCH_FETCH_ADAPTIVE, value = "true"),
+		@Setting(name = AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE, value = "16"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class AdaptiveBatchFetchSizeTest {
+
+	private static final int NUMBER_OF_AUTHORS = 40;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= NUMBER_OF_AUTHORS; i++ ) {
+				final Author author = new Author( i, "Author nr " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book of author nr " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchFetchSizeGrows(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			for ( Book book : books ) {
+				assertThat( book.getAuthor().getName() ).isEqualTo( "Author nr " + book.getId() );
+			}
+		} );
+
+		final EntityStatistics authorStatistics = statistics.getEntityStatistics( Author.class.getName() );
+		// batches of 4, 4, 8, 16 and 8 authors, instead of 10 batches of 4
+		assertThat( authorStatistics.getBatchFetchCount() ).isEqualTo( 5 );
+		assertThat( authorStatistics.getBatchFetchSize() ).isEqualTo( 16 );
+	}
+
+	@Test
+	public void testCollectionBatchFetchSizeGrows(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( (session) -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author order by id", Author.class )
+					.getResultList();
+			for ( Author author : authors ) {
+				assertThat( author.getBooks() ).hasSize( 1 );
+			}
+			assertThat( authors ).allMatch( (author) -> Hibernate.isInitialized( author.getBooks() ) );
+		} );
+
+		final CollectionStatistics booksStatistics = statistics.getCollectionStatistics( Author.class.getName() + ".books" );
+		assertThat( booksStatistics.getBatchFetchCount() ).isEqualTo( 5 );
+		assertThat( booksStatistics.getBatchFetchSize() ).isEqualTo( 16 );
+	}
+
+	@Test
+	public void testEntityBatchFetchSizeShrinks(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			for ( Book book : session.createSelectionQuery( "from Book order by id", Book.class ).getResultList() ) {
+				assertThat( book.getAuthor().getName() ).isEqualTo( "Author nr " + book.getId() );
+			}
+		} );
+		final EntityStatistics authorStatistics = statistics.getEntityStatistics( Author.class.getName() );
+		assertThat( authorStatistics.getBatchFetchSize() ).isEqualTo( 16 );
+
+		// sessions which only have 3 authors to fetch halve the size, until 3 authors fill half a batch
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( (session) -> {
+				final List<Book> books = session.createSelectionQuery( "from Book where id <= 3 order by id", Book.class )
+						.getResultList();
+				assertThat( books.get( 0 ).getAuthor().getName() ).isEqualTo( "Author nr 1" );
+				assertThat( books ).allMatch( (book) -> Hibernate.isInitialized( book.getAuthor() ) );
+			} );
+		}
+		assertThat( authorStatistics.getBatchFetchSize() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testSizeShrinksWhenFewKeysAreInitialized() {
+		final AdaptiveBatchFetchSize size = new AdaptiveBatchFetchSize( 8, 2, 16 );
+		assertThat( size.recordBatchFetch( 8, 8, 3, 0 ) ).isEqualTo( 4 );
+		assertThat( size.recordBatchFetch( 4, 4, 1, 1 ) ).isEqualTo( 2 );
+		assertThat( size.recordBatchFetch( 2, 2, 0, 2 ) ).isEqualTo( 2 );
+		// a batch which is not full does not grow the size
+		assertThat( size.recordBatchFetch( 2, 1, 1, 3 ) ).isEqualTo( 2 );
+		assertThat( size.recordBatchFetch( 2, 2, 2, 4 ) ).isEqualTo( 4 );
+		// a stale size does not overwrite the size tuned since
+		assertThat( size.recordBatchFetch( 2, 2, 2, 5 ) ).isEqualTo( 4 );
+		// a batch which is not even half full shrinks the size
+		assertThat( size.recordBatchFetch( 4, 1, 1, 6 ) ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Author")
+	@BatchSize(size = 4)
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		@BatchSize(size = 4)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
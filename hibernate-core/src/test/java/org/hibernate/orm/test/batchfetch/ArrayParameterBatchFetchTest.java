@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests batch fetching of entities and collections, which binds the keys of a batch
+ * as a single array parameter where the dialect supports it
+ *
+ * @see org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+ */
+@DomainModel(annotatedClasses = { ArrayParameterBatchFetchTest.Author.class, ArrayParameterBatchFetchTest.Book.class })
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class ArrayParameterBatchFetchTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "Author nr " + i );
+				session.persist( author );
+				session.persist( new Book( 2 * i - 1, "First book of author nr " + i, author ) );
+				session.persist( new Book( 2 * i, "Second book of author nr " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		final List<String> batchSql = new ArrayList<>();
+		for ( int numberOfBooks : new int[] { 10, 6 } ) {
+			scope.inTransaction( (session) -> {
+				final List<Book> books = session.createSelectionQuery( "from Book where id <= :id order by id", Book.class )
+						.setParameter( "id", numberOfBooks )
+						.getResultList();
+				assertThat( books ).noneMatch( (book) -> Hibernate.isInitialized( book.getAuthor() ) );
+
+				statementInspector.clear();
+				assertThat( books.get( 0 ).getAuthor().getName() ).isEqualTo( "Author nr 1" );
+				statementInspector.assertExecutedCount( 1 );
+				batchSql.add( statementInspector.getSqlQueries().get( 0 ) );
+
+				assertThat( books ).allMatch( (book) -> Hibernate.isInitialized( book.getAuthor() ) );
+				assertThat( books.get( books.size() - 1 ).getAuthor().getId() ).isEqualTo( numberOfBooks / 2 );
+			} );
+		}
+
+		if ( usesArrayParameter( scope ) ) {
+			// batches of 5 and 3 authors are loaded by the same statement
+			assertThat( batchSql.get( 1 ) ).isEqualTo( batchSql.get( 0 ) );
+		}
+	}
+
+	@Test
+	public void testCollectionBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		final List<String> batchSql = new ArrayList<>();
+		for ( int numberOfAuthors : new int[] { 5, 2 } ) {
+			scope.inTransaction( (session) -> {
+				final List<Author> authors = session.createSelectionQuery( "from Author where id <= :id order by id", Author.class )
+						.setParameter( "id", numberOfAuthors )
+						.getResultList();
+
+				statementInspector.clear();
+				assertThat( authors.get( 0 ).getBooks() ).hasSize( 2 );
+				statementInspector.assertExecutedCount( 1 );
+				batchSql.add( statementInspector.getSqlQueries().get( 0 ) );
+
+				for ( Author author : authors ) {
+					assertThat( Hibernate.isInitialized( author.getBooks() ) ).isTrue();
+					assertThat( author.getBooks() ).extracting( Book::getAuthor ).containsOnly( author );
+				}
+			} );
+		}
+
+		if ( usesArrayParameter( scope ) ) {
+			assertThat( batchSql.get( 1 ) ).isEqualTo( batchSql.get( 0 ) );
+		}
+	}
+
+	private static boolean usesArrayParameter(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters();
+	}
+
+	@Entity(name = "Author")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		@BatchSize(size = 10)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
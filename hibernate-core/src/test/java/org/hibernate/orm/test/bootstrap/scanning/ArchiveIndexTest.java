@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ArchiveIndex;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.orm.test.jpa.pack.explodedpar.Carpet;
+import org.hibernate.orm.test.jpa.pack.explodedpar.Elephant;
+
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ArchiveIndex}
+ */
+@RequiresDialect( H2Dialect.class ) // Nothing dialect-specific -- no need to run in matrix.
+public class ArchiveIndexTest extends PackagingTestCase {
+
+	@Test
+	public void testIndexedDirectory() throws Exception {
+		final File explodedPar = buildExplodedPar();
+		final File indexFile = new File( explodedPar, ArchiveIndex.INDEX_FILE_NAME );
+		try {
+			final ArchiveIndex index = ArchiveIndex.write( explodedPar );
+			assertThat( index.size() ).isEqualTo( 2 );
+			assertThat( indexFile ).exists();
+			assertThat( ArchiveIndex.locate( explodedPar.toURI().toURL() ) ).isNotNull();
+
+			final ScanResult result = scan( explodedPar.toURI().toURL() );
+			assertThat( result.getLocatedClasses() )
+					.extracting( ClassDescriptor::getName )
+					.containsExactly( Carpet.class.getName() );
+			assertThat( result.getLocatedPackages() ).hasSize( 1 );
+			assertThat( result.getLocatedMappingFiles() ).hasSize( 1 );
+		}
+		finally {
+			Files.deleteIfExists( indexFile.toPath() );
+		}
+	}
+
+	@Test
+	public void testIndexUsedInsteadOfClassFiles() throws Exception {
+		final File explodedPar = buildExplodedPar();
+		final File indexFile = new File( explodedPar, ArchiveIndex.INDEX_FILE_NAME );
+		try {
+			// an index claiming Elephant, rather than Carpet, is an entity
+			final String carpetEntry = Carpet.class.getName().replace( '.', '/' ) + ".class";
+			final String elephantEntry = Elephant.class.getName().replace( '.', '/' ) + ".class";
+			final String content = "# Hibernate archive index, version 1\n"
+					+ "OTHER\t" + carpetEntry + "\t" + Carpet.class.getName() + "\n"
+					+ "MODEL\t" + elephantEntry + "\t" + Elephant.class.getName() + "\n";
+			Files.createDirectories( indexFile.getParentFile().toPath() );
+			Files.write( indexFile.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+
+			final ScanResult result = scan( explodedPar.toURI().toURL() );
+			assertThat( result.getLocatedClasses() )
+					.extracting( ClassDescriptor::getName )
+					.containsExactly( Elephant.class.getName() );
+		}
+		finally {
+			Files.deleteIfExists( indexFile.toPath() );
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		final ArchiveIndex index = ArchiveIndex.build( defaultPar.toURI().toURL() );
+		assertThat( index.size() ).isEqualTo( 7 );
+
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		index.writeTo( outputStream );
+		final ArchiveIndex read = ArchiveIndex.read( new ByteArrayInputStream( outputStream.toByteArray() ) );
+		assertThat( read.size() ).isEqualTo( 7 );
+
+		final ByteArrayOutputStream rewritten = new ByteArrayOutputStream();
+		read.writeTo( rewritten );
+		assertThat( rewritten.toByteArray() ).isEqualTo( outputStream.toByteArray() );
+
+		// the archive itself has no index
+		assertThat( ArchiveIndex.locate( defaultPar.toURI().toURL() ) ).isNull();
+	}
+
+	private ScanResult scan(URL url) {
+		return new StandardScanner().scan(
+				new ScanEnvironmentImpl( url ),
+				new StandardScanOptions(),
+				StandardScanParameters.INSTANCE
+		);
+	}
+
+	private static class ScanEnvironmentImpl implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private ScanEnvironmentImpl(URL rootUrl) {
+			this.rootUrl = rootUrl;
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
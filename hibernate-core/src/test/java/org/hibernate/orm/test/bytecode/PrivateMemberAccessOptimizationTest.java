@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#PRIVATE_MEMBER_ACCESS_OPTIMIZATION}
+ */
+@DomainModel(annotatedClasses = {
+		PrivateMemberAccessOptimizationTest.Book.class,
+		PrivateMemberAccessOptimizationTest.Author.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PRIVATE_MEMBER_ACCESS_OPTIMIZATION, value = "true"))
+@SessionFactory
+public class PrivateMemberAccessOptimizationTest {
+
+	@Test
+	public void testAccessOptimizerGenerated(SessionFactoryScope scope) {
+		for ( Class<?> entityClass : new Class<?>[] { Book.class, Author.class } ) {
+			final EntityPersister persister = scope.getSessionFactory()
+					.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( entityClass );
+			final ReflectionOptimizer reflectionOptimizer = persister.getRepresentationStrategy()
+					.getReflectionOptimizer();
+			assertThat( reflectionOptimizer ).isNotNull();
+			assertThat( reflectionOptimizer.getAccessOptimizer() ).isNotNull();
+		}
+	}
+
+	@Test
+	public void testPrivateFields(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final Book book = new Book( 1L, "Hibernate in Action", 400, true );
+		final Object[] values = persister.getValues( book );
+		assertThat( values ).containsExactly( true, 400, "Hibernate in Action" );
+
+		values[0] = false;
+		values[1] = 880;
+		values[2] = "Java Persistence with Hibernate";
+		persister.setValues( book, values );
+		assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+		assertThat( book.pages ).isEqualTo( 880 );
+		assertThat( book.available ).isFalse();
+
+		scope.inTransaction( (session) -> session.persist( book ) );
+		scope.inTransaction( (session) -> {
+			final Book loaded = session.find( Book.class, 1L );
+			assertThat( loaded.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( loaded.pages ).isEqualTo( 880 );
+			loaded.pages = 900;
+		} );
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Book.class, 1L ).pages ).isEqualTo( 900 );
+			session.remove( session.find( Book.class, 1L ) );
+		} );
+	}
+
+	@Test
+	public void testPrivateAccessorMethods(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Author( 1L, "Gavin" ) ) );
+		scope.inTransaction( (session) -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.getName() ).isEqualTo( "Gavin" );
+			session.remove( author );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private int pages;
+		private boolean available;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int pages, boolean available) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+			this.available = available;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Access(AccessType.PROPERTY)
+	public static class Author {
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Id
+		public Long getId() {
+			return id;
+		}
+
+		private void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.CacheWriteBehindQueue;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#CACHE_WRITE_BEHIND_QUEUE_SIZE}
+ */
+@DomainModel(annotatedClasses = NonStrictReadWriteWriteBehindTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = AvailableSettings.CACHE_WRITE_BEHIND_QUEUE_SIZE, value = "100"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class NonStrictReadWriteWriteBehindTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEvictionAfterUpdate(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( (session) -> session.persist( new Item( 1, "first" ) ) );
+		scope.inTransaction( (session) -> session.get( Item.class, 1 ) );
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Item.class, 1 ) ).isTrue();
+
+		scope.inTransaction( (session) -> session.get( Item.class, 1 ).name = "second" );
+		getRegion( scope ).getWriteBehindQueue().flush();
+
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Item.class, 1 ) ).isFalse();
+		assertThat( statistics.getSecondLevelCacheWriteBehindQueueDepth() ).isEqualTo( 0L );
+		assertThat( statistics.getSecondLevelCacheWriteBehindDroppedCount() ).isEqualTo( 0L );
+
+		scope.inTransaction( (session) -> assertThat( session.get( Item.class, 1 ).name ).isEqualTo( "second" ) );
+	}
+
+	@Test
+	public void testCoalescingAndOverflow(SessionFactoryScope scope) {
+		final DomainDataRegionTemplate region = getRegion( scope );
+		final DomainDataStorageAccess storageAccess = region.getCacheStorageAccess();
+		final List<Runnable> tasks = new ArrayList<>();
+
+		scope.inSession( (session) -> {
+			final CacheWriteBehindQueue queue = new CacheWriteBehindQueue(
+					region.getName(),
+					storageAccess,
+					tasks::add,
+					scope.getSessionFactory(),
+					2
+			);
+			storageAccess.putIntoCache( "a", "a", session );
+			storageAccess.putIntoCache( "b", "b", session );
+			storageAccess.putIntoCache( "c", "c", session );
+
+			queue.removeFromCache( "a", session );
+			queue.removeFromCache( "a", session );
+			assertThat( queue.size() ).isEqualTo( 1 );
+			assertThat( tasks ).hasSize( 1 );
+			assertThat( storageAccess.contains( "a" ) ).isTrue();
+
+			queue.removeFromCache( "b", session );
+			// the queue is full, so this one is evicted immediately
+			queue.removeFromCache( "c", session );
+			assertThat( queue.size() ).isEqualTo( 2 );
+			assertThat( storageAccess.contains( "c" ) ).isFalse();
+
+			tasks.forEach( Runnable::run );
+			assertThat( queue.size() ).isEqualTo( 0 );
+			assertThat( storageAccess.contains( "a" ) ).isFalse();
+			assertThat( storageAccess.contains( "b" ) ).isFalse();
+		} );
+	}
+
+	private static DomainDataRegionTemplate getRegion(SessionFactoryScope scope) {
+		return (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( "item" );
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.internal.BatchLoadableKeyQueue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchLoadableKeyQueue}
+ */
+public class BatchLoadableKeyQueueTest {
+
+	@Test
+	public void testBatchFollowsThenPrecedesTheKey() {
+		final BatchLoadableKeyQueue<Integer, String> queue = queue( 10 );
+
+		assertThat( fillBatch( queue, 2, 4, null ) ).containsExactly( "2", "3", "4", "5" );
+		assertThat( fillBatch( queue, 8, 4, null ) ).containsExactly( "8", "9", "7", "6" );
+		// not in the queue
+		assertThat( fillBatch( queue, 42, 4, null ) ).containsExactly( "42", "0", "1", "2" );
+		// not enough keys
+		assertThat( fillBatch( queue( 2 ), 0, 4, null ) ).containsExactly( "0", "1", null, null );
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		final BatchLoadableKeyQueue<Integer, String> queue = queue( 5 );
+		queue.remove( 0 );
+		queue.remove( 2 );
+		queue.remove( 4 );
+		queue.remove( 42 );
+		assertThat( queue.size() ).isEqualTo( 2 );
+		assertThat( queue.contains( 2 ) ).isFalse();
+		assertThat( fillBatch( queue, 1, 3, null ) ).containsExactly( "1", "3", null );
+
+		// adding a key again keeps its position
+		queue.add( 5, "5" );
+		queue.add( 1, "one" );
+		assertThat( fillBatch( queue, 42, 4, null ) ).containsExactly( "42", "one", "3", "5" );
+
+		queue.remove( 1 );
+		queue.remove( 3 );
+		queue.remove( 5 );
+		assertThat( queue.isEmpty() ).isTrue();
+		queue.add( 6, "6" );
+		assertThat( fillBatch( queue, 42, 2, null ) ).containsExactly( "42", "6" );
+	}
+
+	@Test
+	public void testCachedKeysAreOnlyLookedUpOnce() {
+		// the candidates are looked up all at once, then the keys to replace the cached ones
+		final BatchLoadableKeyQueue<Integer, String> queue = queue( 10 );
+		final List<Object> lookedUp = new ArrayList<>();
+
+		assertThat( fillBatch( queue, 0, 4, cacheCheck( lookedUp, "2" ) ) )
+				.containsExactly( "0", "1", "3", "4" );
+		assertThat( lookedUp ).containsExactly( "1", "2", "3", "4" );
+
+		lookedUp.clear();
+		assertThat( fillBatch( queue, 0, 4, cacheCheck( lookedUp, "2" ) ) )
+				.containsExactly( "0", "1", "3", "4" );
+		assertThat( lookedUp ).containsExactly( "1", "3", "4" );
+
+		// the cache is not read from
+		assertThat( fillBatch( queue, 0, 4, null ) ).containsExactly( "0", "1", "2", "3" );
+	}
+
+	private static BatchLoadableKeyQueue.CacheCheck cacheCheck(List<Object> lookedUp, String cachedKey) {
+		return (batchKeys) -> {
+			lookedUp.addAll( batchKeys );
+			final boolean[] cached = new boolean[batchKeys.size()];
+			for ( int i = 0; i < cached.length; i++ ) {
+				cached[i] = batchKeys.get( i ).equals( cachedKey );
+			}
+			return cached;
+		};
+	}
+
+	private static BatchLoadableKeyQueue<Integer, String> queue(int size) {
+		final BatchLoadableKeyQueue<Integer, String> queue = new BatchLoadableKeyQueue<>();
+		for ( int i = 0; i < size; i++ ) {
+			queue.add( i, String.valueOf( i ) );
+		}
+		return queue;
+	}
+
+	private static Object[] fillBatch(
+			BatchLoadableKeyQueue<Integer, String> queue,
+			int key,
+			int batchSize,
+			BatchLoadableKeyQueue.CacheCheck cacheCheck) {
+		final Object[] batch = new Object[batchSize];
+		batch[0] = String.valueOf( key );
+		queue.fillBatch( key, batch, (k, value) -> value, cacheCheck );
+		return batch;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS}
+ */
+@DomainModel(annotatedClasses = {
+		CompactEntityMapsTest.NumericEntity.class,
+		CompactEntityMapsTest.StringEntity.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAPS, value = "true"))
+@SessionFactory
+public class CompactEntityMapsTest {
+	private static final int COUNT = 200;
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new NumericEntity( (long) i, "numeric #" + i ) );
+				session.persist( new StringEntity( "key-" + i, "string #" + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete NumericEntity" ).executeUpdate();
+			session.createMutationQuery( "delete StringEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadingAndLookup(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<NumericEntity> numerics = session.createSelectionQuery( "from NumericEntity", NumericEntity.class ).list();
+			final List<StringEntity> strings = session.createSelectionQuery( "from StringEntity", StringEntity.class ).list();
+			assertThat( numerics ).hasSize( COUNT );
+			assertThat( strings ).hasSize( COUNT );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntitiesByKey() ).isInstanceOf( EntityKeyMap.class );
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( COUNT * 2 );
+
+			for ( int i = 0; i < COUNT; i++ ) {
+				// identity must be preserved, and these must be served from the persistence context
+				assertThat( session.get( NumericEntity.class, (long) i ) ).isSameAs( numerics.get( findNumeric( numerics, i ) ) );
+				assertThat( session.get( StringEntity.class, "key-" + i ).getName() ).isEqualTo( "string #" + i );
+			}
+
+			for ( EntityKey key : persistenceContext.getEntitiesByKey().keySet() ) {
+				assertThat( persistenceContext.getEntity( key ) ).isNotNull();
+			}
+		} );
+	}
+
+	@Test
+	public void testEvictionAndRemoval(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createSelectionQuery( "from NumericEntity", NumericEntity.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				session.evict( session.get( NumericEntity.class, (long) i ) );
+			}
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( COUNT / 2 );
+
+			for ( int i = 1; i < COUNT; i += 2 ) {
+				assertThat( session.contains( session.getReference( NumericEntity.class, (long) i ) ) ).isTrue();
+			}
+
+			for ( int i = 1; i < COUNT; i += 4 ) {
+				session.remove( session.get( NumericEntity.class, (long) i ) );
+			}
+			session.flush();
+
+			assertThat( session.createSelectionQuery( "select count(*) from NumericEntity", Long.class ).getSingleResult() )
+					.isEqualTo( (long) ( COUNT - COUNT / 4 ) );
+		} );
+	}
+
+	private static int findNumeric(List<NumericEntity> numerics, long id) {
+		for ( int i = 0; i < numerics.size(); i++ ) {
+			if ( numerics.get( i ).getId() == id ) {
+				return i;
+			}
+		}
+		throw new AssertionError( "Could not find NumericEntity #" + id );
+	}
+
+	@Entity(name = "NumericEntity")
+	public static class NumericEntity {
+		@Id
+		private Long id;
+		private String name;
+
+		public NumericEntity() {
+		}
+
+		public NumericEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		private String id;
+		private String name;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckingTest.Product.class,
+		ParallelDirtyCheckingTest.Review.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+	// large enough to be split into several partitions
+	private static final int COUNT = 1000;
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Product product = new Product( i, "product #" + i, new Dimensions( i, i ) );
+				session.persist( product );
+				session.persist( new Review( i, product, 3 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Review" ).executeUpdate();
+			session.createMutationQuery( "delete Product" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOnlyDirtyEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<Product> products = session.createSelectionQuery( "from Product order by id", Product.class ).list();
+			final List<Review> reviews = session.createSelectionQuery( "from Review order by id", Review.class ).list();
+			for ( int i = 0; i < COUNT; i += 10 ) {
+				products.get( i ).setName( "renamed #" + i );
+				products.get( i + 1 ).getDimensions().setWidth( -1 );
+				reviews.get( i ).setRating( 5 );
+			}
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT / 10 * 3 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Product where name like 'renamed%'", Long.class ).getSingleResult() )
+					.isEqualTo( COUNT / 10L );
+			assertThat( session.createSelectionQuery( "select count(*) from Product where dimensions.width = -1", Long.class ).getSingleResult() )
+					.isEqualTo( COUNT / 10L );
+			assertThat( session.createSelectionQuery( "select count(*) from Review where rating = 5", Long.class ).getSingleResult() )
+					.isEqualTo( COUNT / 10L );
+			assertThat( session.createSelectionQuery( "select max(version) from Product", Integer.class ).getSingleResult() )
+					.isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testNothingDirty(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			session.createSelectionQuery( "from Product", Product.class ).list();
+			session.createSelectionQuery( "from Review", Review.class ).list();
+			session.flush();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testPreUpdateCallbackChangesAreWritten(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Product> products = session.createSelectionQuery( "from Product", Product.class ).list();
+			for ( Product product : products ) {
+				product.setName( product.getName() + "!" );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Product where lastUpdate = 'callback'", Long.class ).getSingleResult() )
+					.isEqualTo( (long) COUNT );
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		private String lastUpdate;
+		@Embedded
+		private Dimensions dimensions;
+		@Version
+		private int version;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Dimensions getDimensions() {
+			return dimensions;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			lastUpdate = "callback";
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		public void setWidth(int width) {
+			this.width = width;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Product product;
+		private int rating;
+
+		public Review() {
+		}
+
+		public Review(Integer id, Product product, int rating) {
+			this.id = id;
+			this.product = product;
+			this.rating = rating;
+		}
+
+		public void setRating(int rating) {
+			this.rating = rating;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#JDBC_BATCH_PLANNING}
+ */
+@DomainModel(annotatedClasses = {
+		JdbcBatchPlanningTest.Parent.class,
+		JdbcBatchPlanningTest.Child.class,
+		JdbcBatchPlanningTest.Animal.class,
+		JdbcBatchPlanningTest.Dog.class,
+		JdbcBatchPlanningTest.Cat.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.JDBC_BATCH_PLANNING, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class JdbcBatchPlanningTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "update Parent set favorite = null" ).executeUpdate();
+			session.createMutationQuery( "delete Child" ).executeUpdate();
+			session.createMutationQuery( "delete Parent" ).executeUpdate();
+			session.createMutationQuery( "delete Animal" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedParentsAndChildren(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+		} );
+
+		assertThat( statistics.getJdbcBatchExecutionCount() ).isEqualTo( 2L );
+		assertThat( statistics.getJdbcBatchRowCount() ).isEqualTo( 20L );
+		assertThat( statistics.getJdbcBatchFillRatio() ).isEqualTo( 1.0 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "from Child c join fetch c.parent", Child.class ).list() )
+					.hasSize( 10 )
+					.allMatch( child -> child.parent.id.equals( child.id ) );
+		} );
+	}
+
+	@Test
+	public void testInterleavedSubclasses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Dog( 2 * i, "dog #" + i ) );
+				session.persist( new Cat( 2 * i + 1, "cat #" + i ) );
+			}
+		} );
+
+		assertThat( statistics.getJdbcBatchExecutionCount() ).isEqualTo( 2L );
+		assertThat( statistics.getJdbcBatchFillRatio() ).isEqualTo( 1.0 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "from Dog", Dog.class ).list() ).hasSize( 10 );
+			assertThat( session.createSelectionQuery( "from Cat", Cat.class ).list() ).hasSize( 10 );
+		} );
+	}
+
+	@Test
+	public void testDependenciesBetweenInstances(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		// Parent and Child reference each other, but the instances do not form a cycle
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Parent first = new Parent( 2 * i );
+				final Child child = new Child( i, first );
+				final Parent second = new Parent( 2 * i + 1 );
+				second.favorite = child;
+				session.persist( first );
+				session.persist( child );
+				session.persist( second );
+			}
+		} );
+
+		// all first parents, then all children, then all second parents
+		assertThat( statistics.getJdbcBatchExecutionCount() ).isEqualTo( 3L );
+		assertThat( statistics.getJdbcBatchRowCount() ).isEqualTo( 15L );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "from Parent p where p.favorite is not null", Parent.class ).list() )
+					.hasSize( 5 )
+					.allMatch( parent -> parent.favorite.parent.id == parent.id - 1 );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Child favorite;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat extends Animal {
+		public Cat() {
+		}
+
+		public Cat(Integer id, String name) {
+			super( id, name );
+		}
+	}
+}
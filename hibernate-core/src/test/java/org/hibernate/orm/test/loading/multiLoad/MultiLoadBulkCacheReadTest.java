@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a multi-load reads the second-level cache entries of all its ids at once
+ */
+@DomainModel(
+		annotatedClasses = MultiLoadBulkCacheReadTest.Person.class,
+		sharedCacheMode = SharedCacheMode.ENABLE_SELECTIVE,
+		accessType = AccessType.READ_WRITE
+)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(
+				name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.loading.multiLoad.MultiLoadBulkCacheReadTest$CacheReadCounter"
+		)
+})
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class MultiLoadBulkCacheReadTest {
+
+	private static final AtomicInteger CACHE_READS = new AtomicInteger();
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCachedIdsAreReadAtOnce(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		// put the odd ones in the cache
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 20; i += 2 ) {
+				session.get( Person.class, i );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+		CACHE_READS.set( 0 );
+		scope.inTransaction( (session) -> {
+			final List<Person> persons = session.byMultipleIds( Person.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids( 20 ) );
+			assertThat( persons ).extracting( Person::getId ).containsExactlyElementsOf( ids( 20 ) );
+		} );
+
+		assertThat( CACHE_READS.get() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 10 );
+		// only the misses are loaded from the database
+		statementInspector.assertExecutedCount( 1 );
+	}
+
+	private static List<Integer> ids(int size) {
+		return IntStream.rangeClosed( 1, size ).boxed().collect( Collectors.toList() );
+	}
+
+	public static class CacheReadCounter extends BaseSessionEventListener {
+		@Override
+		public void cacheGetStart() {
+			CACHE_READS.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Person")
+	@Cacheable
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.CallbackException;
+import org.hibernate.Hibernate;
+import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.MultiIdentifierLoadAccess#withParallelism(int)}
+ */
+@DomainModel(annotatedClasses = { ParallelMultiLoadTest.Author.class, ParallelMultiLoadTest.Book.class })
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class ParallelMultiLoadTest {
+
+	private static final int NUMBER_OF_BOOKS = 100;
+	private static final String FAILURE_MESSAGE = "Failing on purpose";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( author );
+			for ( int i = 1; i <= NUMBER_OF_BOOKS; i++ ) {
+				session.persist( new Book( i, "Book nr " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOrderedParallelMultiLoad(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Book managed = session.get( Book.class, 50 );
+
+			final List<Integer> ids = ids( NUMBER_OF_BOOKS + 5 );
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.withParallelism( 4 )
+					.multiLoad( ids );
+
+			assertThat( books ).hasSize( NUMBER_OF_BOOKS + 5 );
+			for ( int i = 0; i < NUMBER_OF_BOOKS; i++ ) {
+				final Book book = books.get( i );
+				assertThat( book.getId() ).isEqualTo( i + 1 );
+				assertThat( book.getTitle() ).isEqualTo( "Book nr " + ( i + 1 ) );
+				assertThat( session.contains( book ) ).isTrue();
+			}
+			assertThat( books.subList( NUMBER_OF_BOOKS, NUMBER_OF_BOOKS + 5 ) ).containsOnlyNulls();
+			assertThat( books.get( 49 ) ).isSameAs( managed );
+
+			// the associations are resolved in the session of the multi-load
+			final Author author = books.get( 0 ).getAuthor();
+			assertThat( Hibernate.isInitialized( author ) ).isFalse();
+			assertThat( author.getName() ).isEqualTo( "Gavin" );
+			assertThat( books ).filteredOn( (book) -> book != null ).allMatch( (book) -> book.getAuthor() == author );
+		} );
+	}
+
+	@Test
+	public void testUnorderedParallelMultiLoad(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.withBatchSize( 10 )
+					.withParallelism( 4 )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( NUMBER_OF_BOOKS ) );
+
+			assertThat( books ).extracting( Book::getId ).containsExactlyInAnyOrderElementsOf( ids( NUMBER_OF_BOOKS ) );
+			assertThat( books ).allMatch( session::contains );
+		} );
+	}
+
+	@Test
+	public void testLockedMultiLoadIsNotParallel(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		scope.inTransaction( (session) -> {
+			statementInspector.clear();
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) )
+					.withBatchSize( 50 )
+					.withParallelism( 4 )
+					.multiLoad( ids( NUMBER_OF_BOOKS ) );
+			assertThat( books ).hasSize( NUMBER_OF_BOOKS );
+			assertThat( session.getCurrentLockMode( books.get( 0 ) ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+			statementInspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Test
+	public void testWorkerFailureIsRethrown(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( new FailingInterceptor() ).openSession() ) {
+			// the workers load the batches with the interceptor of the session
+			assertThatThrownBy(
+					() -> session.byMultipleIds( Book.class )
+							.withBatchSize( 10 )
+							.withParallelism( 4 )
+							.multiLoad( ids( NUMBER_OF_BOOKS ) )
+			).hasStackTraceContaining( FAILURE_MESSAGE );
+
+			// the failed multi-load leaves the session usable
+			assertThat( session.get( Book.class, 1 ).getTitle() ).isEqualTo( "Book nr 1" );
+		}
+	}
+
+	private static List<Integer> ids(int size) {
+		return IntStream.rangeClosed( 1, size ).boxed().collect( Collectors.toList() );
+	}
+
+	public static class FailingInterceptor implements Interceptor {
+		@Override
+		public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+			if ( Integer.valueOf( 55 ).equals( id ) && Thread.currentThread().getName().equals( "hibernate-multi-load" ) ) {
+				throw new CallbackException( FAILURE_MESSAGE );
+			}
+			return false;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
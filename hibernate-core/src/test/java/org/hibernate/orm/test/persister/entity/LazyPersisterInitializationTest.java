@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
+import org.hibernate.loader.ast.internal.SingleIdLoadPlan;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = LazyPersisterInitializationTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCrud(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Book book = new Book( 1L, "Hibernate in Action" );
+			book.chapters.add( "Introduction" );
+			book.chapters.add( "Mapping" );
+			session.persist( book );
+		} );
+		scope.inTransaction( (session) -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.version ).isEqualTo( 0 );
+			// extra lazy, loads the element by its index
+			assertThat( book.chapters.get( 1 ) ).isEqualTo( "Mapping" );
+			book.title = "Java Persistence with Hibernate";
+		} );
+		scope.inTransaction( (session) -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+			assertThat( book.chapters ).containsExactly( "Introduction", "Mapping" );
+			session.remove( book );
+		} );
+		scope.inTransaction( (session) -> assertThat( session.find( Book.class, 1L ) ).isNull() );
+	}
+
+	@Test
+	public void testConcurrentFirstUse(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				final long id = i;
+				futures.add( executor.submit( () -> scope.inTransaction(
+						(session) -> session.persist( new Book( id, "Book " + id ) )
+				) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 8L ) );
+	}
+
+	@Test
+	public void testConcurrentFirstLoad(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final SingleIdEntityLoaderStandardImpl<?> loader =
+				(SingleIdEntityLoaderStandardImpl<?>) persister.getSingleIdEntityLoader();
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<SingleIdLoadPlan<?>>> futures = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					return loader.resolveLoadPlan(
+							LockOptions.NONE,
+							new LoadQueryInfluencers( sessionFactory ),
+							sessionFactory
+					);
+				} ) );
+			}
+			start.countDown();
+
+			// every session gets the one plan, created once
+			final SingleIdLoadPlan<?> plan = futures.get( 0 ).get();
+			assertThat( plan ).isNotNull();
+			for ( Future<SingleIdLoadPlan<?>> future : futures ) {
+				assertThat( future.get() ).isSameAs( plan );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@Version
+		private int version;
+		@ElementCollection
+		@OrderColumn
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		private List<String> chapters = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.MappingException;
+import org.hibernate.annotations.Persister;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.Collection;
+import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.collection.BasicCollectionPersister;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the failure of a persister initialized with
+ * {@link AvailableSettings#PARALLEL_PERSISTER_INITIALIZATION}
+ */
+public class ParallelPersisterInitializationFailureTest {
+	private static final String FAILURE_MESSAGE = "Failing on purpose";
+
+	@Test
+	public void testFailureIsReported() throws InterruptedException {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION, "true" )
+				.build();
+		try {
+			final Metadata metadata = new MetadataSources( registry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Library.class )
+					.addAnnotatedClass( Publisher.class )
+					.buildMetadata();
+
+			assertThatThrownBy( metadata::buildSessionFactory ).hasStackTraceContaining( FAILURE_MESSAGE );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+
+		// the initialization threads are gone with the failed bootstrap
+		for ( Thread thread : Thread.getAllStackTraces().keySet() ) {
+			if ( thread.getName().equals( "hibernate-persister-initialization" ) ) {
+				thread.join( 10_000 );
+				assertThat( thread.isAlive() ).isFalse();
+			}
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+	}
+
+	@Entity(name = "Library")
+	public static class Library {
+		@Id
+		private Long id;
+		@ElementCollection
+		@Persister(impl = FailingCollectionPersister.class)
+		private Set<String> books = new HashSet<>();
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Long id;
+		@ElementCollection
+		private Set<String> imprints = new HashSet<>();
+	}
+
+	public static class FailingCollectionPersister extends BasicCollectionPersister {
+		public FailingCollectionPersister(
+				Collection collectionBinding,
+				CollectionDataAccess cacheAccessStrategy,
+				RuntimeModelCreationContext creationContext) {
+			super( collectionBinding, cacheAccessStrategy, creationContext );
+		}
+
+		@Override
+		public void postInstantiate() throws MappingException {
+			throw new MappingException( FAILURE_MESSAGE );
+		}
+	}
+}
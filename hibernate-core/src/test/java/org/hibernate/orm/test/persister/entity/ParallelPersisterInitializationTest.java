@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#PARALLEL_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterInitializationTest.Shelf.class,
+		ParallelPersisterInitializationTest.Item.class,
+		ParallelPersisterInitializationTest.Book.class,
+		ParallelPersisterInitializationTest.Record.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class ParallelPersisterInitializationTest {
+
+	@Test
+	public void testPersistersInitialized(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Shelf shelf = new Shelf( 1L );
+			final Book book = new Book( 2L, shelf, "Hibernate in Action" );
+			final Record record = new Record( 3L, shelf, 33 );
+			shelf.items.add( book );
+			shelf.items.add( record );
+			session.persist( shelf );
+			session.persist( book );
+			session.persist( record );
+		} );
+		scope.inTransaction( (session) -> {
+			final Shelf shelf = session.find( Shelf.class, 1L );
+			assertThat( shelf.items ).extracting( (item) -> item.id ).containsExactlyInAnyOrder( 2L, 3L );
+			assertThat( session.find( Item.class, 2L ) ).isInstanceOf( Book.class );
+			shelf.items.forEach( session::remove );
+			session.remove( shelf );
+		} );
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		private Long id;
+		@OneToMany(mappedBy = "shelf")
+		private Set<Item> items = new HashSet<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Item {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Shelf shelf;
+
+		public Item() {
+		}
+
+		public Item(Long id, Shelf shelf) {
+			this.id = id;
+			this.shelf = shelf;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Item {
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, Shelf shelf, String title) {
+			super( id, shelf );
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Record")
+	public static class Record extends Item {
+		private int rpm;
+
+		public Record() {
+		}
+
+		public Record(Long id, Shelf shelf, int rpm) {
+			super( id, shelf );
+			this.rpm = rpm;
+		}
+	}
+}
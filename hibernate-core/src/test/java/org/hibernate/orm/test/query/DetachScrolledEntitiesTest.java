@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HibernateHints#HINT_DETACH_SCROLLED}
+ */
+@DomainModel(annotatedClasses = {
+		DetachScrolledEntitiesTest.Author.class,
+		DetachScrolledEntitiesTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SCROLL_FETCH_SIZE, value = "10"))
+@SessionFactory
+public class DetachScrolledEntitiesTest {
+	private static final int AUTHORS = 20;
+	private static final int BOOKS_PER_AUTHOR = 3;
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				final Author author = new Author( i, "author #" + i );
+				session.persist( author );
+				for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+					final Book book = new Book( i * BOOKS_PER_AUTHOR + j, "book #" + j, author );
+					author.books.add( book );
+					session.persist( book );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Author> authors = new ArrayList<>();
+			try ( Stream<Author> stream = session.createSelectionQuery( "from Author order by id", Author.class )
+					.setHint( HibernateHints.HINT_DETACH_SCROLLED, true )
+					.stream() ) {
+				stream.forEach( author -> {
+					// only the current author is still managed
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1 );
+					assertThat( session.contains( author ) ).isTrue();
+					authors.add( author );
+				} );
+			}
+			assertThat( authors ).hasSize( AUTHORS );
+			assertThat( session.contains( authors.get( 0 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testStreamWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<Author> stream = session.createSelectionQuery( "from Author", Author.class ).stream() ) {
+				assertThat( stream.count() ).isEqualTo( AUTHORS );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( AUTHORS );
+		} );
+	}
+
+	@Test
+	public void testScrollWithCollectionFetch(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			int count = 0;
+			try ( ScrollableResults<Author> results = session.createSelectionQuery( "from Author a join fetch a.books order by a.id", Author.class )
+					.setHint( HibernateHints.HINT_DETACH_SCROLLED, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Author author = results.get();
+					assertThat( author.id ).isEqualTo( count++ );
+					// the collection spanning several rows is complete
+					assertThat( author.books ).hasSize( BOOKS_PER_AUTHOR );
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isLessThanOrEqualTo( 1 + BOOKS_PER_AUTHOR );
+				}
+			}
+			assertThat( count ).isEqualTo( AUTHORS );
+		} );
+	}
+
+	@Test
+	public void testEntityRepeatedInConsecutiveRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( ScrollableResults<Object[]> results = session.createSelectionQuery( "select b, a from Book b join b.author a order by b.id", Object[].class )
+					.setHint( HibernateHints.HINT_DETACH_SCROLLED, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Object[] row = results.get();
+					final Book book = (Book) row[0];
+					final Author author = (Author) row[1];
+					assertThat( session.contains( book ) ).isTrue();
+					assertThat( session.contains( author ) ).isTrue();
+					assertThat( book.author ).isSameAs( author );
+				}
+			}
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the translations of a query with a multi-valued parameter are
+ * cached by the padded size of the list
+ */
+@DomainModel(annotatedClasses = InClauseParameterPaddingTranslationTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+		@Setting(
+				name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.query.InClauseParameterPaddingTranslationTest$TranslationCounter"
+		)
+})
+@SessionFactory
+public class InClauseParameterPaddingTranslationTest {
+
+	private static final AtomicInteger TRANSLATIONS = new AtomicInteger();
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testListsOfTheSamePaddedSizeShareTheTranslation(SessionFactoryScope scope) {
+		TRANSLATIONS.set( 0 );
+		// 5 to 8 values are padded to 8 parameters
+		for ( int size = 5; size <= 8; size++ ) {
+			assertThat( findIds( scope, size ) ).containsExactlyElementsOf( ids( size ) );
+		}
+		assertThat( TRANSLATIONS.get() ).isEqualTo( 1 );
+
+		// 9 values are padded to 16 parameters
+		assertThat( findIds( scope, 9 ) ).containsExactlyElementsOf( ids( 9 ) );
+		assertThat( TRANSLATIONS.get() ).isEqualTo( 2 );
+
+		assertThat( findIds( scope, 6 ) ).containsExactlyElementsOf( ids( 6 ) );
+		assertThat( findIds( scope, 16 ) ).containsExactlyElementsOf( ids( 16 ) );
+		assertThat( TRANSLATIONS.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testSingleValuedBinding(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			assertThat(
+					session.createSelectionQuery( "select p.id from Person p where p.id in :ids", Integer.class )
+							.setParameter( "ids", 3 )
+							.getResultList()
+			).containsExactly( 3 );
+			assertThat(
+					session.createSelectionQuery( "select p.id from Person p where p.id in :ids order by p.id", Integer.class )
+							.setParameterList( "ids", List.of( 3, 4, 5 ) )
+							.getResultList()
+			).containsExactly( 3, 4, 5 );
+		} );
+	}
+
+	private static List<Integer> findIds(SessionFactoryScope scope, int size) {
+		return scope.fromTransaction( (session) -> session.createSelectionQuery(
+						"select p.id from Person p where p.id in :ids order by p.id",
+						Integer.class
+				)
+				.setParameterList( "ids", ids( size ) )
+				.getResultList() );
+	}
+
+	private static List<Integer> ids(int size) {
+		return IntStream.rangeClosed( 1, size ).boxed().collect( Collectors.toList() );
+	}
+
+	public static class TranslationCounter extends BaseSessionEventListener {
+		@Override
+		public void sqlAstTranslationStart() {
+			TRANSLATIONS.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.criteria.JoinType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED}
+ */
+@DomainModel(annotatedClasses = {
+		CriteriaPlanCacheTest.Author.class,
+		CriteriaPlanCacheTest.Book.class,
+		CriteriaPlanCacheTest.Novel.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class CriteriaPlanCacheTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			final Author christian = new Author( 2, "Christian" );
+			session.persist( gavin );
+			session.persist( christian );
+			session.persist( new Book( 1, "Hibernate in Action", gavin ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", christian ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testParameterizedCriteriaShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			assertThat( booksByTitle( session, "Hibernate in Action" ) ).containsExactly( 1 );
+			assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			assertThat( booksByTitle( session, "Java Persistence with Hibernate" ) ).containsExactly( 2 );
+			assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testBoundValuesShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			for ( int id = 1; id <= 2; id++ ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> criteria = cb.createQuery( Book.class );
+				final JpaRoot<Book> root = criteria.from( Book.class );
+				// bound as a parameter, under the default ValueHandlingMode
+				criteria.where( cb.equal( root.get( "id" ), id ) );
+				assertThat( session.createQuery( criteria ).getSingleResult().id ).isEqualTo( id );
+			}
+			assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testFetchJoinDoesNotSharePlainJoinPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Book> joined = cb.createQuery( Book.class );
+			final JpaRoot<Book> joinedRoot = joined.from( Book.class );
+			joinedRoot.join( "author", JoinType.INNER );
+			final List<Book> plainBooks = session.createQuery( joined ).getResultList();
+			assertThat( plainBooks ).hasSize( 2 );
+			assertThat( plainBooks ).noneMatch( (book) -> Hibernate.isInitialized( book.author ) );
+		} );
+		scope.inTransaction( (session) -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Book> fetched = cb.createQuery( Book.class );
+			final JpaRoot<Book> fetchedRoot = fetched.from( Book.class );
+			fetchedRoot.fetch( "author", JoinType.INNER );
+			final List<Book> fetchedBooks = session.createQuery( fetched ).getResultList();
+			assertThat( fetchedBooks ).hasSize( 2 );
+			assertThat( fetchedBooks ).allMatch( (book) -> Hibernate.isInitialized( book.author ) );
+		} );
+		assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTreatDoesNotShareUntreatedPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Integer> untreated = cb.createQuery( Integer.class );
+			final JpaRoot<Book> untreatedRoot = untreated.from( Book.class );
+			untreated.select( untreatedRoot.get( "id" ) )
+					.where( cb.equal( untreatedRoot.get( "title" ), "Hibernate in Action" ) );
+			assertThat( session.createQuery( untreated ).getResultList() ).containsExactly( 1 );
+
+			// the same tree, but for the treat of its root
+			final JpaCriteriaQuery<Integer> treated = cb.createQuery( Integer.class );
+			final JpaRoot<Book> treatedRoot = treated.from( Book.class );
+			treated.select( treatedRoot.get( "id" ) )
+					.where( cb.equal( treatedRoot.treatAs( Novel.class ).get( "title" ), "Hibernate in Action" ) );
+			session.createQuery( treated ).getResultList();
+		} );
+		assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQuotesInLiteralsDoNotShareAPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( (session) -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Integer> twoTitles = cb.createQuery( Integer.class );
+			final JpaRoot<Book> twoTitlesRoot = twoTitles.from( Book.class );
+			twoTitles.select( twoTitlesRoot.get( "id" ) ).where( cb.or(
+					cb.equal( twoTitlesRoot.get( "title" ), cb.literal( "Hibernate in Action" ) ),
+					cb.equal( twoTitlesRoot.get( "title" ), cb.literal( "Java Persistence with Hibernate" ) )
+			) );
+			assertThat( session.createQuery( twoTitles ).getResultList() ).containsExactlyInAnyOrder( 1, 2 );
+
+			// a single literal, whose value reads like the rest of the other tree
+			final JpaCriteriaQuery<Integer> oneTitle = cb.createQuery( Integer.class );
+			final JpaRoot<Book> oneTitleRoot = oneTitle.from( Book.class );
+			oneTitle.select( oneTitleRoot.get( "id" ) ).where( cb.or(
+					cb.equal(
+							oneTitleRoot.get( "title" ),
+							cb.literal( "Hibernate in Action') (#0.title EQUAL <java.lang.String>'Java Persistence with Hibernate" )
+					)
+			) );
+			assertThat( session.createQuery( oneTitle ).getResultList() ).isEmpty();
+		} );
+		assertThat( statistics.getCriteriaQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCriteriaQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static List<Integer> booksByTitle(SessionImplementor session, String title) {
+		final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+		final JpaCriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+		final JpaRoot<Book> root = criteria.from( Book.class );
+		final JpaParameterExpression<String> parameter = cb.parameter( String.class );
+		criteria.select( root.get( "id" ) ).where( cb.equal( root.get( "title" ), parameter ) );
+		return session.createQuery( criteria ).setParameter( parameter, title ).getResultList();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Novel")
+	public static class Novel extends Book {
+		private String genre;
+	}
+}
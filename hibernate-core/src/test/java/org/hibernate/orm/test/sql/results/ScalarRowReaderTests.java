@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.sql.results.internal.ScalarRowReader;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for results read by {@link ScalarRowReader}
+ */
+@DomainModel(annotatedClasses = ScalarRowReaderTests.Measurement.class)
+@SessionFactory
+public class ScalarRowReaderTests {
+	private static final int COUNT = 5;
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Measurement( i, "sensor" + i, i * 1.5d, i % 2 == 0 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSingleScalar(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Double> amounts = session.createSelectionQuery( "select m.amount from Measurement m order by m.id", Double.class )
+					.list();
+			assertThat( amounts ).containsExactly( 1.5d, 3d, 4.5d, 6d, 7.5d );
+
+			final List<?> untyped = session.createQuery( "select m.sensor from Measurement m order by m.id" ).list();
+			assertThat( untyped ).containsExactly( "sensor1", "sensor2", "sensor3", "sensor4", "sensor5" );
+		} );
+	}
+
+	@Test
+	public void testConvertedScalar(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Boolean> values = session.createSelectionQuery( "select m.valid from Measurement m order by m.id", Boolean.class )
+					.list();
+			assertThat( values ).containsExactly( false, true, false, true, false );
+		} );
+	}
+
+	@Test
+	public void testMultipleScalars(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createSelectionQuery( "select m.id, m.sensor, m.valid from Measurement m order by m.id", Object[].class )
+					.list();
+			assertThat( rows ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( i + 1, "sensor" + ( i + 1 ), ( i + 1 ) % 2 == 0 );
+			}
+			// every row is a distinct array
+			assertThat( rows.get( 0 ) ).isNotSameAs( rows.get( 1 ) );
+
+			final List<Tuple> tuples = session.createSelectionQuery( "select m.id as id, m.sensor as sensor from Measurement m order by m.id", Tuple.class )
+					.list();
+			assertThat( tuples.get( 2 ).get( "sensor" ) ).isEqualTo( "sensor3" );
+		} );
+	}
+
+	@Test
+	public void testTupleTransformerKeepingRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createQuery( "select m.id, m.amount from Measurement m order by m.id", Object[].class )
+					.setTupleTransformer( (tuple, aliases) -> tuple )
+					.list();
+			assertThat( rows ).hasSize( COUNT );
+			assertThat( rows.get( 0 ) ).containsExactly( 1, 1.5d );
+			assertThat( rows.get( 4 ) ).containsExactly( 5, 7.5d );
+		} );
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Reading> readings = session.createSelectionQuery(
+					"select new " + Reading.class.getName() + "( m.sensor, m.amount, m.valid ) from Measurement m order by m.id",
+					Reading.class
+			).list();
+			assertThat( readings ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Reading reading = readings.get( i );
+				assertThat( reading.sensor ).isEqualTo( "sensor" + ( i + 1 ) );
+				assertThat( reading.amount ).isEqualTo( ( i + 1 ) * 1.5d );
+				assertThat( reading.valid ).isEqualTo( ( i + 1 ) % 2 == 0 );
+			}
+		} );
+	}
+
+	@Test
+	public void testDynamicInstantiationWithScalar(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select m.id, new " + Reading.class.getName() + "( m.sensor, m.amount, m.valid ) from Measurement m order by m.id",
+					Object[].class
+			).list();
+			assertThat( rows ).hasSize( COUNT );
+			assertThat( rows.get( 0 )[0] ).isEqualTo( 1 );
+			assertThat( ( (Reading) rows.get( 0 )[1] ).sensor ).isEqualTo( "sensor1" );
+			assertThat( ( (Reading) rows.get( 4 )[1] ).sensor ).isEqualTo( "sensor5" );
+		} );
+	}
+
+	public static class Reading {
+		private final String sensor;
+		private final double amount;
+		private final boolean valid;
+
+		public Reading(String sensor, double amount, boolean valid) {
+			this.sensor = sensor;
+			this.amount = amount;
+			this.valid = valid;
+		}
+	}
+
+	public static class YesNoConverter implements AttributeConverter<Boolean, Character> {
+		@Override
+		public Character convertToDatabaseColumn(Boolean attribute) {
+			return attribute == null ? null : attribute ? 'Y' : 'N';
+		}
+
+		@Override
+		public Boolean convertToEntityAttribute(Character dbData) {
+			return dbData == null ? null : dbData == 'Y';
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private String sensor;
+		private double amount;
+		@Convert(converter = YesNoConverter.class)
+		private boolean valid;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String sensor, double amount, boolean valid) {
+			this.id = id;
+			this.sensor = sensor;
+			this.amount = amount;
+			this.valid = valid;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = TinyLfuQueryPlanCacheStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting( name = AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION, value = "tinylfu"),
+		@Setting( name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "5")
+})
+@SessionFactory
+public class TinyLfuQueryPlanCacheStatisticsTest {
+
+	@Test
+	public void testHitsMissesAndEvictions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		assertThat( sessionFactory.getQueryEngine().getInterpretationCache() )
+				.isInstanceOf( QueryInterpretationCacheTinyLfuImpl.class );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.createQuery( "select e from Employee e" );
+			session.createQuery( "select e from Employee e" );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+
+			// interpretations of queries which are never executed have no plan to evict
+			for ( int i = 0; i < 20; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i );
+			}
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 0 );
+
+			for ( int i = 0; i < 20; i++ ) {
+				session.createQuery( "select e from Employee e where e.name = '" + i + "'" ).list();
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+		assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+				.isLessThanOrEqualTo( 5 );
+		assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans() )
+				.isLessThanOrEqualTo( 5 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
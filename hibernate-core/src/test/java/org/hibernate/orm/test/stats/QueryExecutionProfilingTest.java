@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryExecutionProfile;
+import org.hibernate.stat.QueryExecutionProfile.Phase;
+import org.hibernate.stat.QueryExecutionProfiler;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_EXECUTION_PROFILING}
+ */
+@DomainModel(annotatedClasses = QueryExecutionProfilingTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_EXECUTION_PROFILING, value = "true")
+})
+@SessionFactory
+public class QueryExecutionProfilingTest {
+
+	private static final String QUERY = "select e from Employee e";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Employee( i, "employee #" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Employee" ).executeUpdate() );
+	}
+
+	@Test
+	public void testProfileReportedToStatistics(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> session.createQuery( QUERY, Employee.class ).list() );
+
+		final QueryExecutionProfile profile = statistics.getQueryStatistics( QUERY ).getLastExecutionProfile();
+		assertThat( profile ).isNotNull();
+		assertThat( profile.getQueryString() ).isEqualTo( QUERY );
+		assertThat( profile.getRowCount() ).isEqualTo( 3 );
+		assertThat( profile.isPlanCacheHit() ).isNotNull();
+		assertThat( profile.getNanos( Phase.INTERPRETATION ) ).isGreaterThan( 0 );
+		assertThat( profile.getNanos( Phase.EXECUTION ) ).isGreaterThan( 0 );
+		assertThat( profile.getNanos( Phase.HYDRATION ) ).isGreaterThan( 0 );
+		if ( profile.getAllocatedBytes( Phase.HYDRATION ) >= 0 ) {
+			assertThat( profile.getAllocatedBytes( Phase.HYDRATION ) ).isGreaterThan( 0 );
+		}
+
+		scope.inTransaction( (session) -> session.createQuery( QUERY, Employee.class ).list() );
+		final QueryExecutionProfile secondProfile = statistics.getQueryStatistics( QUERY ).getLastExecutionProfile();
+		assertThat( secondProfile ).isNotSameAs( profile );
+		assertThat( secondProfile.isPlanCacheHit() ).isTrue();
+	}
+
+	@Test
+	public void testSessionProfiler(SessionFactoryScope scope) {
+		final QueryExecutionProfiler profiler = new QueryExecutionProfiler();
+		try (Session session = scope.getSessionFactory().withOptions().eventListeners( profiler ).openSession()) {
+			assertThat( profiler.getLastProfile() ).isNull();
+
+			session.createQuery( "select e from Employee e where e.id = :id", Employee.class )
+					.setParameter( "id", 1L )
+					.getSingleResult();
+			final QueryExecutionProfile profile = profiler.getLastProfile();
+			assertThat( profile.getQueryString() ).isEqualTo( "select e from Employee e where e.id = :id" );
+			assertThat( profile.getRowCount() ).isEqualTo( 1 );
+			assertThat( profile.getNanos( Phase.EXECUTION ) ).isGreaterThan( 0 );
+
+			session.createQuery( QUERY, Employee.class ).list();
+			assertThat( profiler.getLastProfile() ).isNotSameAs( profile );
+			assertThat( profiler.getLastProfile().getRowCount() ).isEqualTo( 3 );
+		}
+	}
+
+	@Test
+	public void testUnexecutedQueryNotProfiled(SessionFactoryScope scope) {
+		final QueryExecutionProfiler profiler = new QueryExecutionProfiler();
+		try (Session session = scope.getSessionFactory().withOptions().eventListeners( profiler ).openSession()) {
+			session.createQuery( QUERY, Employee.class );
+			assertThat( profiler.getLastProfile() ).isNull();
+
+			session.find( Employee.class, 2L );
+			final QueryExecutionProfile profile = profiler.getLastProfile();
+			assertThat( profile ).isNotNull();
+			assertThat( profile.getQueryString() ).isNotEqualTo( QUERY );
+			assertThat( profile.isPlanCacheHit() ).isNull();
+			assertThat( profile.getNanos( Phase.INTERPRETATION ) ).isEqualTo( 0 );
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.ConcurrentTinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentTinyLfuCacheTest {
+
+	@Test
+	public void testBasicOperations() {
+		final ConcurrentTinyLfuCache<String, String> cache = new ConcurrentTinyLfuCache<>( 10, null );
+		assertThat( cache.get( "a" ) ).isNull();
+
+		cache.put( "a", "1" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "1" );
+
+		cache.put( "a", "2" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "2" );
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		assertThat( cache.computeIfAbsent( "a", k -> "3" ) ).isEqualTo( "2" );
+		assertThat( cache.computeIfAbsent( "b", k -> "3" ) ).isEqualTo( "3" );
+
+		assertThat( cache.remove( "a" ) ).isEqualTo( "2" );
+		assertThat( cache.get( "a" ) ).isNull();
+
+		cache.clear();
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final ConcurrentTinyLfuCache<Integer, Integer> cache =
+				new ConcurrentTinyLfuCache<>( 50, (key, value) -> evictions.incrementAndGet() );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		assertThat( cache.size() ).isEqualTo( 50 );
+		assertThat( evictions.get() ).isEqualTo( 950 );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesAreRetained() {
+		final ConcurrentTinyLfuCache<Integer, Integer> cache = new ConcurrentTinyLfuCache<>( 100, null );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, i );
+		}
+		// make the first ten entries "hot"
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				cache.get( i );
+			}
+		}
+		// a scan of entries which are only used once should not flush the hot entries
+		for ( int i = 1000; i < 1500; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( i );
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final ConcurrentTinyLfuCache<Integer, Integer> cache = new ConcurrentTinyLfuCache<>( 100, null );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 50_000; i++ ) {
+						final int key = random.nextInt( 500 );
+						if ( random.nextInt( 10 ) == 0 ) {
+							cache.remove( key );
+						}
+						assertThat( cache.computeIfAbsent( key, k -> k ) ).isEqualTo( key );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		cache.cleanUp();
+		assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+	}
+}
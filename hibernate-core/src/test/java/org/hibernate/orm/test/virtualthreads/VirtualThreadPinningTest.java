@@ -0,0 +1,235 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.virtualthreads;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the standard persist, load and flush paths do not pin the carrier thread of a
+ * virtual thread while blocked on JDBC.
+ * <p>
+ * Pinning is detected through the stack traces the JDK prints when run with
+ * {@code -Djdk.tracePinnedThreads}, which only the {@code virtualThreadsTest} task, run on a JDK
+ * with virtual threads, passes; the test is skipped when run without it.
+ */
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTest.SequenceEntity.class,
+		VirtualThreadPinningTest.IncrementEntity.class
+})
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.CONNECTION_PROVIDER,
+		value = "org.hibernate.orm.test.virtualthreads.VirtualThreadPinningTest$SlowConnectionProvider"
+))
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	@Test
+	public void testPersistLoadAndFlush(SessionFactoryScope scope) throws Exception {
+		assertNoPinning( () -> {
+			scope.inTransaction( (session) -> {
+				for ( int i = 0; i < 5; i++ ) {
+					session.persist( new SequenceEntity( "sequence #" + i ) );
+					session.persist( new IncrementEntity( "increment #" + i ) );
+				}
+			} );
+			scope.inTransaction( (session) -> {
+				for ( SequenceEntity entity : session.createSelectionQuery( "from SequenceEntity", SequenceEntity.class ).list() ) {
+					entity.name = entity.name.toUpperCase();
+				}
+				session.find( IncrementEntity.class, 1L ).name = "updated";
+			} );
+			scope.inTransaction( (session) -> {
+				session.createMutationQuery( "delete SequenceEntity" ).executeUpdate();
+				session.createMutationQuery( "delete IncrementEntity" ).executeUpdate();
+			} );
+		} );
+	}
+
+	@Test
+	public void testOptimizers() throws Exception {
+		for ( StandardOptimizerDescriptor descriptor : StandardOptimizerDescriptor.values() ) {
+			final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+					descriptor.getExternalName(),
+					Long.class,
+					3,
+					1
+			);
+			final SlowSource source = new SlowSource();
+			assertNoPinning( () -> {
+				for ( int i = 0; i < 10; i++ ) {
+					optimizer.generate( source );
+				}
+			} );
+		}
+	}
+
+	private static void assertNoPinning(Runnable work) throws Exception {
+		Assumptions.assumeTrue(
+				System.getProperty( "jdk.tracePinnedThreads" ) != null,
+				"Pinned threads are only reported with -Djdk.tracePinnedThreads"
+		);
+		final ExecutorService executor = newVirtualThreadExecutor();
+		assertThat( executor ).as( "Virtual threads are not available" ).isNotNull();
+
+		final PrintStream out = System.out;
+		final ByteArrayOutputStream trace = new ByteArrayOutputStream();
+		System.setOut( new PrintStream( trace, true ) );
+		try {
+			executor.submit( work ).get();
+		}
+		finally {
+			System.setOut( out );
+			executor.shutdown();
+		}
+		assertThat( trace.toString() ).doesNotContain( "<== monitors" );
+	}
+
+	private static ExecutorService newVirtualThreadExecutor() throws IllegalAccessException {
+		try {
+			final Method factory = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return (ExecutorService) factory.invoke( null );
+		}
+		catch (NoSuchMethodException | InvocationTargetException e) {
+			// virtual threads are not available, or are a preview feature which is not enabled
+			return null;
+		}
+	}
+
+	private static void pause() {
+		try {
+			// parks a virtual thread, which pins it if a monitor is held
+			Thread.sleep( 20 );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class SlowSource implements AccessCallback {
+		private long value;
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			pause();
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( Long.class ).initialize( ++value );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+
+	/**
+	 * Makes the preparation of each statement block for a while, as it would
+	 * with a remote database.
+	 */
+	public static class SlowConnectionProvider extends ConnectionProviderDelegate {
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class<?>[] { Connection.class },
+					new SlowConnectionHandler( connection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (SlowConnectionHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+	}
+
+	private static class SlowConnectionHandler implements InvocationHandler {
+		private final Connection connection;
+
+		private SlowConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ( method.getName().startsWith( "prepare" ) ) {
+				pause();
+			}
+			try {
+				return method.invoke( connection, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	@Entity(name = "SequenceEntity")
+	public static class SequenceEntity {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled")
+		@SequenceGenerator(name = "pooled", allocationSize = 2)
+		private Long id;
+		private String name;
+
+		public SequenceEntity() {
+		}
+
+		public SequenceEntity(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "IncrementEntity")
+	public static class IncrementEntity {
+		@Id
+		@GeneratedValue(generator = "increment")
+		@GenericGenerator(name = "increment", strategy = "increment")
+		private Long id;
+		private String name;
+
+		public IncrementEntity() {
+		}
+
+		public IncrementEntity(String name) {
+			this.name = name;
+		}
+	}
+}
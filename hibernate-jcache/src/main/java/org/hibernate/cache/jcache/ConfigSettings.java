@@ -44,4 +44,34 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of entries of each entity, collection and natural-id cache region
+	 * kept in a local, on-heap near-cache in front of the JCache {@link javax.cache.Cache}.
+	 * Reads of entries held by the near-cache do not involve the JCache provider at all,
+	 * which avoids a network round trip with distributed providers.
+	 * <p>
+	 * Local entries are invalidated by the evictions performed by Hibernate and by the
+	 * update, removal and expiry events the JCache provider reports for each cache.  Until
+	 * the provider has delivered the events of a change made by another node, which may take
+	 * an unbounded time, local reads may still return the previous value.
+	 * {@link #NEAR_CACHE_TIME_TO_LIVE} bounds the staleness of local entries, and should be
+	 * used with providers which do not report the changes made by other nodes at all.
+	 * <p>
+	 * Default value is {@code 0}, which disables the near-cache.
+	 *
+	 * @since 6.2
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = PROP_PREFIX + "near_cache.max_entries";
+
+	/**
+	 * The number of milliseconds after which an entry of the near-cache is discarded,
+	 * and read again from the JCache {@link javax.cache.Cache}.
+	 * <p>
+	 * Default value is {@code 0}, meaning that entries only leave the near-cache when
+	 * invalidated or evicted because of {@link #NEAR_CACHE_MAX_ENTRIES}.
+	 *
+	 * @since 6.2
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = PROP_PREFIX + "near_cache.time_to_live";
 }
@@ -34,6 +34,7 @@ import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -45,6 +46,8 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile int nearCacheMaxEntries;
+	private volatile long nearCacheTimeToLive;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -81,9 +84,14 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
+		final Cache<Object, Object> cache = getOrCreateCache(
+				regionConfig.getRegionName(),
+				buildingContext.getSessionFactory()
 		);
+		if ( nearCacheMaxEntries > 0 ) {
+			return new NearCacheAccessImpl( cache, nearCacheMaxEntries, nearCacheTimeToLive );
+		}
+		return new JCacheAccessImpl( cache );
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -193,6 +201,8 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.nearCacheMaxEntries = ConfigurationHelper.getInt( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, configValues, 0 );
+		this.nearCacheTimeToLive = ConfigurationHelper.getLong( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, configValues, 0 );
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
@@ -0,0 +1,300 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.CollectionHelper;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * StorageAccess implementation keeping a size-bounded, on-heap copy of the most
+ * recently used entries of a JCache {@link Cache} in front of it, so that reads of
+ * hot entries from a remote or distributed cache do not need a network round trip.
+ * <p>
+ * Local entries are invalidated by the evictions and removals made through this
+ * storage access, by the update, removal and expiry events the underlying cache
+ * reports for changes made elsewhere, and, optionally, after a fixed time to live.
+ * <p>
+ * The listener receiving these events is registered as synchronous, so changes made
+ * on this node invalidate the local entries before they complete.  Changes made on
+ * other nodes are only seen once the provider has delivered their events here: until
+ * then, which depends on the provider and is not bounded, reads may still be served
+ * a stale local entry.  A time to live bounds that window.
+ * <p>
+ * The listener may be serialized by the provider, so it only refers to the cache by
+ * name, and invalidates the local entries of all the near-caches of this JVM in front
+ * of a cache with that name.
+ *
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_MAX_ENTRIES
+ */
+@SuppressWarnings("unchecked")
+public class NearCacheAccessImpl extends JCacheAccessImpl {
+	// the near-caches of this JVM, by the name of their underlying cache
+	private static final ConcurrentMap<String, Set<NearCacheAccessImpl>> NEAR_CACHES = new ConcurrentHashMap<>();
+
+	private final BoundedConcurrentHashMap<Object, NearCacheEntry> nearCache;
+	private final long timeToLiveNanos;
+
+	// incremented on each invalidation, so that a value read from the
+	// underlying cache is not cached locally if it might already be stale
+	private final AtomicLong invalidations = new AtomicLong();
+
+	private final CacheEntryListenerConfiguration<Object, Object> listenerConfiguration;
+
+	public NearCacheAccessImpl(Cache underlyingCache, int maxEntries, long timeToLiveMillis) {
+		super( underlyingCache );
+		this.nearCache = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis );
+		NEAR_CACHES.computeIfAbsent( underlyingCache.getName(), name -> new CopyOnWriteArraySet<>() ).add( this );
+		this.listenerConfiguration = registerInvalidationListener( underlyingCache );
+	}
+
+	private CacheEntryListenerConfiguration<Object, Object> registerInvalidationListener(Cache underlyingCache) {
+		final CacheEntryListenerConfiguration<Object, Object> configuration = new MutableCacheEntryListenerConfiguration<>(
+				new InvalidationListenerFactory( underlyingCache.getName() ),
+				null,
+				false,
+				true
+		);
+		try {
+			underlyingCache.registerCacheEntryListener( configuration );
+			return configuration;
+		}
+		catch (RuntimeException e) {
+			if ( timeToLiveNanos == 0 ) {
+				L2CACHE_LOGGER.warnf(
+						"Cache [%s] does not support entry listeners; its near-cache will not see changes made by other nodes",
+						underlyingCache.getName()
+				);
+			}
+			else {
+				L2CACHE_LOGGER.debugf( e, "Cache [%s] does not support entry listeners", underlyingCache.getName() );
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * The number of entries currently held locally
+	 */
+	public int getNearCacheSize() {
+		return nearCache.size();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getLocally( key ) != null || super.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object local = getLocally( key );
+		if ( local != null ) {
+			return local;
+		}
+		final long invalidationCount = invalidations.get();
+		final Object value = super.getFromCache( key, session );
+		if ( value != null && invalidations.get() == invalidationCount ) {
+			nearCache.putIfAbsent( key, new NearCacheEntry( value, expiry() ) );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		final List<Object> misses = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object local = getLocally( key );
+			if ( local != null ) {
+				items.put( key, local );
+			}
+			else {
+				misses.add( key );
+			}
+		}
+		if ( misses.isEmpty() ) {
+			return items;
+		}
+
+		final long invalidationCount = invalidations.get();
+		final Map<Object, Object> values = super.getAllFromCache( misses, session );
+		final boolean cacheLocally = invalidations.get() == invalidationCount;
+		for ( Map.Entry<Object, Object> entry : values.entrySet() ) {
+			if ( entry.getValue() != null ) {
+				items.put( entry.getKey(), entry.getValue() );
+				if ( cacheLocally ) {
+					nearCache.putIfAbsent( entry.getKey(), new NearCacheEntry( entry.getValue(), expiry() ) );
+				}
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		invalidate( key );
+		super.putIntoCache( key, value, session );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		invalidate( key );
+		super.removeFromCache( key, session );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		invalidate( key );
+		super.evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		invalidateAll();
+		super.clearCache( session );
+	}
+
+	@Override
+	public void evictData() {
+		invalidateAll();
+		super.evictData();
+	}
+
+	@Override
+	public void release() {
+		invalidateAll();
+		if ( listenerConfiguration != null && !getUnderlyingCache().isClosed() ) {
+			getUnderlyingCache().deregisterCacheEntryListener( listenerConfiguration );
+		}
+		NEAR_CACHES.computeIfPresent(
+				getUnderlyingCache().getName(),
+				(name, nearCaches) -> nearCaches.remove( this ) && nearCaches.isEmpty() ? null : nearCaches
+		);
+		super.release();
+	}
+
+	private Object getLocally(Object key) {
+		final NearCacheEntry entry = nearCache.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.expiry != 0 && entry.expiry - System.nanoTime() < 0 ) {
+			nearCache.remove( key, entry );
+			return null;
+		}
+		return entry.value;
+	}
+
+	private long expiry() {
+		if ( timeToLiveNanos == 0 ) {
+			return 0;
+		}
+		final long expiry = System.nanoTime() + timeToLiveNanos;
+		// 0 means "never expires"
+		return expiry == 0 ? 1 : expiry;
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	private void invalidateAll() {
+		invalidations.incrementAndGet();
+		nearCache.clear();
+	}
+
+	private static class NearCacheEntry {
+		private final Object value;
+		private final long expiry;
+
+		private NearCacheEntry(Object value, long expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+	}
+
+	/**
+	 * Creates the listeners of a cache, which may be serialized by the provider
+	 */
+	private static class InvalidationListenerFactory implements Factory<CacheEntryListener<Object, Object>> {
+		private final String cacheName;
+
+		private InvalidationListenerFactory(String cacheName) {
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public CacheEntryListener<Object, Object> create() {
+			return new InvalidationListener( cacheName );
+		}
+	}
+
+	/**
+	 * Invalidates local entries when the underlying cache reports a change.  The
+	 * near-caches are looked up by the name of the cache, so that the listener
+	 * still works once serialized and deserialized.
+	 */
+	private static class InvalidationListener implements CacheEntryUpdatedListener<Object, Object>,
+			CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object>, Serializable {
+		private final String cacheName;
+
+		private InvalidationListener(String cacheName) {
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		private void invalidate(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			final Set<NearCacheAccessImpl> nearCaches = NEAR_CACHES.get( cacheName );
+			if ( nearCaches != null ) {
+				for ( CacheEntryEvent<?, ?> event : events ) {
+					for ( NearCacheAccessImpl nearCache : nearCaches ) {
+						nearCache.invalidate( event.getKey() );
+					}
+				}
+			}
+		}
+	}
+}
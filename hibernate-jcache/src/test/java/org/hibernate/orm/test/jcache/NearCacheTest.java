@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Factory;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.event.EventType;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.NearCacheAccessImpl;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
+
+/**
+ * Tests around {@link NearCacheAccessImpl}
+ */
+@BaseUnitTest
+public class NearCacheTest {
+
+	@Test
+	public void testReadsServedLocally() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final NearCacheAccessImpl access = getStorageAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+
+						// Cache#clear() does not notify listeners, so the entry is still held locally
+						jcache.clear();
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+
+						access.removeFromCache( "key", s );
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						access.evictData();
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+						assertThat( jcache.get( "key" ), nullValue() );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testBulkReadsServedLocally() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final NearCacheAccessImpl access = getStorageAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key1", "value1", s );
+						assertThat( access.getFromCache( "key1", s ), equalTo( "value1" ) );
+						access.putIntoCache( "key2", "value2", s );
+						assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+
+						// Cache#clear() does not notify listeners, so only the local entry is left
+						jcache.clear();
+						Map<Object, Object> items = access.getAllFromCache( Arrays.asList( "key1", "key2" ), s );
+						assertThat( items.size(), equalTo( 1 ) );
+						assertThat( items.get( "key1" ), equalTo( "value1" ) );
+
+						// the misses are read from the underlying cache, and then held locally
+						access.putIntoCache( "key2", "value2", s );
+						items = access.getAllFromCache( Arrays.asList( "key1", "key2", "key3" ), s );
+						assertThat( items.size(), equalTo( 2 ) );
+						assertThat( items.get( "key2" ), equalTo( "value2" ) );
+						assertThat( access.getNearCacheSize(), equalTo( 2 ) );
+
+						jcache.clear();
+						items = access.getAllFromCache( Arrays.asList( "key1", "key2" ), s );
+						assertThat( items.get( "key1" ), equalTo( "value1" ) );
+						assertThat( items.get( "key2" ), equalTo( "value2" ) );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testChangesMadeElsewhereInvalidateLocalEntries() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final NearCacheAccessImpl access = getStorageAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+
+						// the listener is synchronous, so the local entry is gone once the put returns
+						jcache.put( "key", "other" );
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "other" ) );
+					}
+			);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerializedListenerInvalidatesLocalEntries() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final NearCacheAccessImpl access = getStorageAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			CacheEntryListenerConfiguration<Object, Object> listenerConfiguration = null;
+			for ( Object configuration : ( (CompleteConfiguration<?, ?>) jcache.getConfiguration( CompleteConfiguration.class ) )
+					.getCacheEntryListenerConfigurations() ) {
+				listenerConfiguration = (CacheEntryListenerConfiguration<Object, Object>) configuration;
+			}
+			assertThat( listenerConfiguration.isSynchronous(), equalTo( true ) );
+
+			// as a provider replicating the listener to another node would
+			final Factory<CacheEntryListener<Object, Object>> factory = (Factory<CacheEntryListener<Object, Object>>)
+					SerializationHelper.clone( listenerConfiguration.getCacheEntryListenerFactory() );
+			final CacheEntryUpdatedListener<Object, Object> listener =
+					(CacheEntryUpdatedListener<Object, Object>) factory.create();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+
+						listener.onUpdated( Collections.singletonList( new UpdatedEvent( jcache, "key" ) ) );
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testTimeToLive() throws InterruptedException {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+						.applySetting( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, "1" )
+		) ) {
+			final NearCacheAccessImpl access = getStorageAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						jcache.clear();
+					}
+			);
+
+			Thread.sleep( 10 );
+
+			inSession(
+					sessionFactory,
+					s -> assertThat( access.getFromCache( "key", s ), nullValue() )
+			);
+		}
+	}
+
+	private static NearCacheAccessImpl getStorageAccess(SessionFactoryImplementor sessionFactory) {
+		final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+		final Object access = ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+		assertThat( access, instanceOf( NearCacheAccessImpl.class ) );
+		return (NearCacheAccessImpl) access;
+	}
+
+	private static class UpdatedEvent extends CacheEntryEvent<Object, Object> {
+		private final Object key;
+
+		private UpdatedEvent(Cache<Object, Object> source, Object key) {
+			super( source, EventType.UPDATED );
+			this.key = key;
+		}
+
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public Object getValue() {
+			return null;
+		}
+
+		@Override
+		public Object getOldValue() {
+			return null;
+		}
+
+		@Override
+		public boolean isOldValueAvailable() {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clazz) {
+			throw new IllegalArgumentException( "Cannot unwrap to " + clazz );
+		}
+	}
+}
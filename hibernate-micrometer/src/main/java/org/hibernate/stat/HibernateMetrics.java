@@ -7,6 +7,7 @@
 package org.hibernate.stat;
 
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -147,6 +148,12 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.jdbc.batches", "The number of JDBC batches executed",
+				Statistics::getJdbcBatchExecutionCount
+		);
+		counter(registry, "hibernate.jdbc.batch.rows", "The number of rows added to the executed JDBC batches",
+				Statistics::getJdbcBatchRowCount
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -190,6 +197,20 @@ public class HibernateMetrics implements MeterBinder {
 					);
 				} );
 
+		Gauge.builder(
+				"hibernate.second.level.cache.write.behind.queue",
+				statistics,
+				Statistics::getSecondLevelCacheWriteBehindQueueDepth
+		)
+				.description( "The number of pending asynchronous evictions from the second-level cache" )
+				.tags( tags )
+				.register( registry );
+		counter(registry,
+				"hibernate.second.level.cache.write.behind.dropped",
+				"The number of asynchronous evictions from the second-level cache which failed",
+				Statistics::getSecondLevelCacheWriteBehindDroppedCount
+		);
+
 		// Entity information
 		counter(registry,
 				"hibernate.entities.deletes",
@@ -335,6 +356,20 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions",
+				"The global number of query plans evicted from cache because it was full",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
+		counter(registry,
+				"hibernate.cache.query.plan.criteria",
+				"The global number of plans of criteria queries successfully retrieved from cache",
+				Statistics::getCriteriaQueryPlanCacheHitCount,
+				"result",
+				"hit"
+		);
+		counter(registry, "hibernate.cache.query.plan.criteria", "The global number of lookups of plans of criteria queries not found in cache",
+				Statistics::getCriteriaQueryPlanCacheMissCount, "result", "miss"
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
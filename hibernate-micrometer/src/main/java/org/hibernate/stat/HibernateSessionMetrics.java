@@ -0,0 +1,299 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} implementation that records the latency of the interactions of
+ * sessions with the database, from the events notified to a {@link SessionEventListener}
+ * added to each session created after binding:
+ * <ul>
+ *     <li>{@code hibernate.jdbc.execution}: time spent executing JDBC statements, tagged
+ *     with the query they belong to, or {@code none} for statements executed outside of
+ *     a query, for example during a flush,</li>
+ *     <li>{@code hibernate.query.result.processing}: time spent reading and hydrating the
+ *     results of a query,</li>
+ *     <li>{@code hibernate.query.rows}: number of rows hydrated by a query,</li>
+ *     <li>{@code hibernate.flush}: duration of full and partial (auto) flushes,</li>
+ *     <li>{@code hibernate.flush.entities}: number of entities processed by a flush,</li>
+ *     <li>{@code hibernate.jdbc.batch.size}: number of rows of each JDBC batch, tagged
+ *     with the entity name or collection role and the operation of the batch.</li>
+ * </ul>
+ * Percentile histograms are published for all of these meters.  Sessions created
+ * before binding, and all sessions when this binder is not used, incur no overhead.
+ * <p>
+ * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
+ * application when considering using this {@link MeterBinder}.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateSessionMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final String NO_QUERY = "none";
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	/**
+	 * Create {@code HibernateSessionMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateSessionMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateSessionMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateSessionMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateSessionMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		final Meters meters = new Meters( meterRegistry );
+		sessionFactory.getSessionFactoryOptions()
+				.getBaselineSessionEventsListenerBuilder()
+				.addListenerSupplier( () -> new MetricsSessionEventListener( meters ) );
+	}
+
+	class Meters {
+
+		private final MeterRegistry meterRegistry;
+
+		private final Timer flush;
+		private final Timer partialFlush;
+		private final DistributionSummary flushEntities;
+		private final DistributionSummary partialFlushEntities;
+
+		private final Map<String, Timer> jdbcExecutionByQuery = new ConcurrentHashMap<>();
+		private final Map<String, Timer> resultProcessingByQuery = new ConcurrentHashMap<>();
+		private final Map<String, DistributionSummary> rowsByQuery = new ConcurrentHashMap<>();
+		private final Map<String, DistributionSummary> batchSizeByKey = new ConcurrentHashMap<>();
+
+		Meters(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			this.flush = flushTimer( "full" );
+			this.partialFlush = flushTimer( "partial" );
+			this.flushEntities = flushEntities( "full" );
+			this.partialFlushEntities = flushEntities( "partial" );
+		}
+
+		private Timer flushTimer(String type) {
+			return Timer.builder( "hibernate.flush" )
+					.tags( tags )
+					.tags( "type", type )
+					.description( "Duration of flushes" )
+					.publishPercentileHistogram()
+					.register( meterRegistry );
+		}
+
+		private DistributionSummary flushEntities(String type) {
+			return DistributionSummary.builder( "hibernate.flush.entities" )
+					.tags( tags )
+					.tags( "type", type )
+					.description( "Number of entities processed by a flush" )
+					.publishPercentileHistogram()
+					.register( meterRegistry );
+		}
+
+		void jdbcExecution(String query, long nanos) {
+			jdbcExecutionByQuery.computeIfAbsent(
+					query,
+					q -> Timer.builder( "hibernate.jdbc.execution" )
+							.tags( tags )
+							.tags( "query", q )
+							.description( "Time spent executing JDBC statements" )
+							.publishPercentileHistogram()
+							.register( meterRegistry )
+			).record( nanos, TimeUnit.NANOSECONDS );
+		}
+
+		void resultProcessing(String query, long nanos) {
+			resultProcessingByQuery.computeIfAbsent(
+					query,
+					q -> Timer.builder( "hibernate.query.result.processing" )
+							.tags( tags )
+							.tags( "query", q )
+							.description( "Time spent processing the results of a query" )
+							.publishPercentileHistogram()
+							.register( meterRegistry )
+			).record( nanos, TimeUnit.NANOSECONDS );
+		}
+
+		void rows(String query, int rowCount) {
+			rowsByQuery.computeIfAbsent(
+					query,
+					q -> DistributionSummary.builder( "hibernate.query.rows" )
+							.tags( tags )
+							.tags( "query", q )
+							.description( "Number of rows hydrated by a query" )
+							.publishPercentileHistogram()
+							.register( meterRegistry )
+			).record( rowCount );
+		}
+
+		void batch(String batchKey, int batchSize) {
+			batchSizeByKey.computeIfAbsent(
+					batchKey,
+					key -> {
+						// batch keys are of the form "<entity name or collection role>#<operation>"
+						final int separator = key.lastIndexOf( '#' );
+						return DistributionSummary.builder( "hibernate.jdbc.batch.size" )
+								.tags( tags )
+								.tags(
+										"entity", separator < 0 ? key : key.substring( 0, separator ),
+										"operation", separator < 0 ? "" : key.substring( separator + 1 )
+								)
+								.description( "Number of rows of JDBC batches" )
+								.publishPercentileHistogram()
+								.register( meterRegistry );
+					}
+			).record( batchSize );
+		}
+
+		void flush(long nanos, int numberOfEntities, boolean partial) {
+			( partial ? partialFlush : flush ).record( nanos, TimeUnit.NANOSECONDS );
+			( partial ? partialFlushEntities : flushEntities ).record( numberOfEntities );
+		}
+	}
+
+	/**
+	 * Measures the events of a single session.  Queries may nest, for example when
+	 * the results of a query trigger the loading of associations, hence the stacks.
+	 */
+	static class MetricsSessionEventListener implements SessionEventListener {
+
+		// sessions do not serialize their event listeners
+		private final transient Meters meters;
+
+		private final Deque<String> queries = new ArrayDeque<>();
+		private final Deque<Long> resultProcessingStarts = new ArrayDeque<>();
+		private long jdbcExecutionStart;
+		private long flushStart;
+
+		MetricsSessionEventListener(Meters meters) {
+			this.meters = meters;
+		}
+
+		private String currentQuery() {
+			final String query = queries.peek();
+			return query == null ? NO_QUERY : query;
+		}
+
+		@Override
+		public void queryExecutionStart(String queryIdentifier) {
+			// an ArrayDeque does not accept null
+			queries.push( queryIdentifier == null ? NO_QUERY : queryIdentifier );
+		}
+
+		@Override
+		public void queryExecutionEnd(String queryIdentifier) {
+			queries.poll();
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			jdbcExecutionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			meters.jdbcExecution( currentQuery(), System.nanoTime() - jdbcExecutionStart );
+		}
+
+		@Override
+		public void jdbcBatchExecution(String batchKey, int batchSize) {
+			meters.batch( batchKey, batchSize );
+		}
+
+		@Override
+		public void resultSetProcessingStart() {
+			resultProcessingStarts.push( System.nanoTime() );
+		}
+
+		@Override
+		public void resultSetProcessingEnd(int rowCount) {
+			final Long start = resultProcessingStarts.poll();
+			if ( start != null ) {
+				final String query = currentQuery();
+				meters.resultProcessing( query, System.nanoTime() - start );
+				if ( rowCount >= 0 ) {
+					meters.rows( query, rowCount );
+				}
+			}
+		}
+
+		@Override
+		public void flushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			meters.flush( System.nanoTime() - flushStart, numberOfEntities, false );
+		}
+
+		@Override
+		public void partialFlushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			meters.flush( System.nanoTime() - flushStart, numberOfEntities, true );
+		}
+	}
+}
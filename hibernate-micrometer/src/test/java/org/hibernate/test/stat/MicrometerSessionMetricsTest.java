@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.HibernateSessionMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HibernateSessionMetrics}
+ */
+public class MicrometerSessionMetricsTest extends BaseCoreFunctionalTestCase {
+
+	private static final String QUERY = "from Account";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateSessionMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testSessionMetrics() {
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 1; i <= 3; i++ ) {
+			session.persist( new Account( new AccountId( i ), "acct" + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		final Timer flush = registry.get( "hibernate.flush" ).tags( "type", "full" ).timer();
+		assertEquals( 1, flush.count() );
+		final DistributionSummary flushEntities = registry.get( "hibernate.flush.entities" )
+				.tags( "type", "full" )
+				.summary();
+		assertEquals( 3, flushEntities.totalAmount(), 0 );
+
+		final DistributionSummary batchSize = registry.get( "hibernate.jdbc.batch.size" )
+				.tags( "entity", Account.class.getName(), "operation", "INSERT" )
+				.summary();
+		assertEquals( 1, batchSize.count() );
+		assertEquals( 3, batchSize.max(), 0 );
+
+		session = openSession();
+		session.beginTransaction();
+		final List<Account> accounts = session.createQuery( QUERY, Account.class ).list();
+		assertEquals( 3, accounts.size() );
+		session.getTransaction().commit();
+		session.close();
+
+		final Timer jdbcExecution = registry.get( "hibernate.jdbc.execution" ).tags( "query", QUERY ).timer();
+		assertEquals( 1, jdbcExecution.count() );
+		final Timer resultProcessing = registry.get( "hibernate.query.result.processing" )
+				.tags( "query", QUERY )
+				.timer();
+		assertEquals( 1, resultProcessing.count() );
+		final DistributionSummary rows = registry.get( "hibernate.query.rows" ).tags( "query", QUERY ).summary();
+		assertEquals( 3, rows.totalAmount(), 0 );
+
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+
+		// only the executions of selects are attributed to a query
+		assertTrue( registry.get( "hibernate.jdbc.execution" ).tags( "query", "none" ).timer().count() > 0 );
+	}
+
+	@Test
+	public void testQueryWithoutIdentifier() {
+		try ( Session session = openSession() ) {
+			// as executed with an ExecutionContext which does not identify its queries
+			final SessionEventListenerManager eventListenerManager = ( (SessionImplementor) session ).getEventListenerManager();
+			eventListenerManager.queryExecutionStart( null );
+			eventListenerManager.resultSetProcessingStart();
+			eventListenerManager.resultSetProcessingEnd( 2 );
+			eventListenerManager.queryExecutionEnd( null );
+		}
+
+		final DistributionSummary rows = registry.get( "hibernate.query.rows" ).tags( "query", "none" ).summary();
+		assertEquals( 2, rows.totalAmount(), 0 );
+	}
+}
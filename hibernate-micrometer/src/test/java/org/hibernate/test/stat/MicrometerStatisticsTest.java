@@ -110,6 +110,8 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.criteria").tags("result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.criteria").tags("result", "miss").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -316,6 +316,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsMultiRowInsertValues implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsMultiRowInsertValues();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
@@ -33,6 +33,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
+import org.hibernate.boot.archive.scan.spi.ArchiveIndex;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
@@ -80,12 +81,45 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	/**
+	 * Whether to write an index of the classes of 'base', which spares reading them
+	 * when scanning for entities at runtime.
+	 */
+	@Parameter(property = "generateArchiveIndex", defaultValue = "false")
+	private boolean generateArchiveIndex;
+
 	private boolean shouldApply() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException {
+		enhance();
+		if ( generateArchiveIndex ) {
+			writeArchiveIndex();
+		}
+	}
+
+	private void writeArchiveIndex() throws MojoExecutionException {
+		final File root = new File( base );
+		if ( !root.exists() ) {
+			getLog().info( "Skipping Hibernate archive index generation since there is no classes dir " + base );
+			return;
+		}
+		try {
+			final ArchiveIndex index = ArchiveIndex.write( root );
+			getLog().info( "Wrote Hibernate archive index of " + index.size() + " classes to " + base );
+		}
+		catch (Exception e) {
+			String msg = "Unable to write Hibernate archive index to " + base;
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			getLog().warn( msg, e );
+		}
+	}
+
+	private void enhance() throws MojoExecutionException {
 		final Log log = getLog();
 		if ( !shouldApply() ) {
 			log.warn( "Skipping Hibernate bytecode enhancement plugin execution since no feature is enabled" );
@@ -17,6 +17,7 @@ import org.gradle.api.file.Directory;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.logging.Logger;
 
+import org.hibernate.boot.archive.scan.spi.ArchiveIndex;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
@@ -49,6 +50,20 @@ public class EnhancementHelper {
 		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
 
 		walk( classesDir, classesDir, enhancer, project );
+
+		if ( enhancementDsl.getGenerateArchiveIndex().get() ) {
+			writeArchiveIndex( classesDir, project );
+		}
+	}
+
+	private static void writeArchiveIndex(File classesDir, Project project) {
+		try {
+			final ArchiveIndex index = ArchiveIndex.write( classesDir );
+			project.getLogger().info( "Wrote archive index of " + index.size() + " classes" );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write archive index : " + classesDir, e );
+		}
 	}
 
 	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -28,6 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> generateArchiveIndex;
 
 
 	@Inject
@@ -38,6 +39,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project );
 		enableExtendedEnhancement = makeProperty( project );
+		generateArchiveIndex = makeProperty( project );
 	}
 
 	public boolean hasAnythingToDo() {
@@ -132,6 +134,24 @@ public class EnhancementSpec {
 		setEnableExtendedEnhancement( enable );
 	}
 
+	/**
+	 * Whether to write an index of the classes, which spares reading them when
+	 * scanning for entities at runtime
+	 *
+	 * @see org.hibernate.boot.archive.scan.spi.ArchiveIndex
+	 */
+	public Property<Boolean> getGenerateArchiveIndex() {
+		return generateArchiveIndex;
+	}
+
+	public void setGenerateArchiveIndex(boolean enable) {
+		generateArchiveIndex.set( enable );
+	}
+
+	public void generateArchiveIndex(boolean enable) {
+		setGenerateArchiveIndex( enable );
+	}
+
 	@SuppressWarnings( "UnstableApiUsage" )
 	public static Property<Boolean> makeProperty(Project project) {
 		final Property<Boolean> createdProperty = project.getObjects().property( Boolean.class );